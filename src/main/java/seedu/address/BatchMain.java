@@ -0,0 +1,97 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.BatchRunner;
+
+/**
+ * The entry point to run a script of commands without the UI, such as to add a whole delivery at once.
+ *
+ * Usage: {@code [--config=CONFIG_FILE] [SCRIPT_FILE]}, reading the script from standard input if no script file
+ * is given, or if it is {@code -}. The data is loaded as by {@link MainApp}, and saved once after the whole script
+ * has been run instead of after every command. The result of each command and the total throughput are printed to
+ * standard output.
+ */
+public class BatchMain {
+
+    public static final String STDIN_SCRIPT = "-";
+    public static final String MESSAGE_USAGE = "Usage: [--config=CONFIG_FILE] [SCRIPT_FILE]";
+    public static final String MESSAGE_SUMMARY = "Ran %1$s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data to file: %1$s";
+
+    static final int EXIT_SUCCESS = 0;
+    static final int EXIT_COMMAND_FAILED = 1;
+    static final int EXIT_ERROR = 2;
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the script named in {@code args}, and returns the exit status: 0 if every command succeeded, 1 if any
+     * command failed, or 2 if the script could not be read or the data could not be saved.
+     */
+    static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        Map<String, String> namedParameters = new HashMap<>();
+        String scriptPath = STDIN_SCRIPT;
+        int unnamedCount = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                scriptPath = arg;
+                unnamedCount++;
+            }
+        }
+        if (unnamedCount > 1 || (!scriptPath.equals(STDIN_SCRIPT) && !FileUtil.isValidPath(scriptPath))) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        MainApp app = new MainApp();
+        app.initComponents(AppParameters.parse(namedParameters));
+
+        BatchRunner.Summary summary = null;
+        boolean isSaved;
+        try (BufferedReader script = scriptPath.equals(STDIN_SCRIPT)
+                ? new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+            summary = new BatchRunner(app.model).run(script, out);
+        } catch (IOException e) {
+            err.println("Could not read script: " + e.getMessage());
+        } finally {
+            // Whatever was executed before any failure is still saved
+            isSaved = save(app, err);
+        }
+
+        if (!isSaved || summary == null) {
+            return EXIT_ERROR;
+        }
+        out.println(String.format(MESSAGE_SUMMARY, summary));
+        return summary.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Saves the data of {@code app}, and returns true if it was saved.
+     */
+    private static boolean save(MainApp app, PrintStream err) {
+        try {
+            app.persistenceCoordinator.close();
+            return true;
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_SAVE_FAILED, e));
+            return false;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -19,7 +21,19 @@ import javafx.application.Application;
  * to be the entry point of the application, we avoid this issue.
  */
 public class Main {
+    public static final String BATCH_FLAG = "--batch";
+
+    /**
+     * Launches the application, or runs a script of commands without the UI if the first argument is
+     * {@link #BATCH_FLAG}.
+     *
+     * @see BatchMain
+     */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_FLAG)) {
+            BatchMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -3,6 +3,7 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,10 +14,13 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.PersistenceCoordinator;
 import seedu.address.model.BookKeeping;
+import seedu.address.model.DataFileFormat;
 import seedu.address.model.Inventory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -27,17 +31,20 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TransactionList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.rollup.SalesRollup;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.BookKeepingStorage;
-import seedu.address.storage.InventoryStorage;
+import seedu.address.storage.BinaryBookKeepingStorage;
+import seedu.address.storage.BinaryInventoryStorage;
+import seedu.address.storage.BinaryTransactionStorage;
+import seedu.address.storage.DataFormatBridge;
+import seedu.address.storage.JournalTransactionStorage;
 import seedu.address.storage.JsonBookKeepingStorage;
 import seedu.address.storage.JsonInventoryStorage;
-import seedu.address.storage.JsonTransactionStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
-import seedu.address.storage.TransactionStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteAheadLog;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -49,12 +56,17 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 2, 1, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String WRITE_AHEAD_LOG_FILE_NAME = "commands.wal";
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected PersistenceCoordinator persistenceCoordinator;
+
+    // False if any data could not be loaded, in which case its files have been moved aside
+    private boolean isDataLoaded = true;
 
     @Override
     public void init() throws Exception {
@@ -62,30 +74,79 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(appParameters);
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component of the application except the UI, from the data files named in the config
+     * file given by {@code appParameters}.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InventoryStorage inventoryStorage = new JsonInventoryStorage(userPrefs.getInventoryFilePath());
-        TransactionStorage transactionStorage = new JsonTransactionStorage(userPrefs.getTransactionFilePath());
-        BookKeepingStorage bookKeepingStorage = new JsonBookKeepingStorage(userPrefs.getBookKeepingFilePath());
-        storage = new StorageManager(inventoryStorage, userPrefsStorage, transactionStorage, bookKeepingStorage);
+        storage = initStorage(userPrefsStorage, userPrefs, config.isDataFileCompact());
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        WriteAheadLog writeAheadLog = new WriteAheadLog(
+                userPrefs.getInventoryFilePath().resolveSibling(WRITE_AHEAD_LOG_FILE_NAME));
 
-        logic = new LogicManager(model, storage);
+        model = initModelManager(storage, writeAheadLog, userPrefs);
 
-        ui = new UiManager(logic);
+        persistenceCoordinator = new PersistenceCoordinator(model, storage, writeAheadLog,
+                PersistenceCoordinator.DEFAULT_CHECKPOINT_INTERVAL);
+        // Otherwise the data is first saved by the first command that changes it
+        if (isDataLoaded) {
+            try {
+                persistenceCoordinator.checkpoint();
+            } catch (IOException e) {
+                logger.warning("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }
+        logic = new LogicManager(model, persistenceCoordinator);
+    }
+
+    /**
+     * Returns a {@code Storage} for data files in the format chosen in {@code userPrefs}.
+     * If the format was changed, or data files are missing in that format, the data is first imported from the other
+     * format.
+     */
+    private Storage initStorage(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs, boolean isDataFileCompact) {
+        Storage jsonStorage = new StorageManager(
+                new JsonInventoryStorage(userPrefs.getInventoryFilePath(), isDataFileCompact),
+                userPrefsStorage,
+                new JournalTransactionStorage(userPrefs.getTransactionFilePath(), isDataFileCompact),
+                new JsonBookKeepingStorage(userPrefs.getBookKeepingFilePath(), isDataFileCompact));
+        Storage binaryStorage = new StorageManager(
+                new BinaryInventoryStorage(DataFormatBridge.getBinaryFilePath(userPrefs.getInventoryFilePath())),
+                userPrefsStorage,
+                new BinaryTransactionStorage(DataFormatBridge.getBinaryFilePath(userPrefs.getTransactionFilePath())),
+                new BinaryBookKeepingStorage(DataFormatBridge.getBinaryFilePath(userPrefs.getBookKeepingFilePath())));
+
+        boolean isBinary = userPrefs.getDataFileFormat() == DataFileFormat.BINARY;
+        Storage selectedStorage = isBinary ? binaryStorage : jsonStorage;
+        try {
+            DataFormatBridge.importData(isBinary ? jsonStorage : binaryStorage, selectedStorage,
+                    userPrefs.getDataFileFormat());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to import data files from the other data file format " + StringUtil.getDetails(e));
+        }
+        return selectedStorage;
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Changes recorded in {@code writeAheadLog} since the data was last saved are then replayed.
+     * Files that cannot be read are moved aside rather than replaced when the data is next saved.
+     * Sales rollups are rebuilt from the transaction list if they cannot be read.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, WriteAheadLog writeAheadLog, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyInventory> inventoryOptional;
         ReadOnlyInventory initialData;
         Optional<ReadOnlyTransactionList> transactionListOptional;
@@ -112,17 +173,75 @@ public class MainApp extends Application {
 
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty inventory");
-            initialData = new Inventory();
-            transactionList = new TransactionList();
-            bookKeeping = new BookKeeping();
+            moveAsideDataFiles(storage, writeAheadLog);
+            return new ModelManager(new Inventory(), userPrefs, new TransactionList(), new BookKeeping(),
+                    new SalesRollup());
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty inventory");
-            initialData = new Inventory();
-            transactionList = new TransactionList();
-            bookKeeping = new BookKeeping();
+            moveAsideDataFiles(storage, writeAheadLog);
+            return new ModelManager(new Inventory(), userPrefs, new TransactionList(), new BookKeeping(),
+                    new SalesRollup());
+        }
+
+        SalesRollup salesRollup;
+        try {
+            salesRollup = storage.readRollup().orElseGet(SalesRollup::new);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading the sales rollups. They will be rebuilt from the transactions,"
+                    + " without costs");
+            salesRollup = new SalesRollup();
         }
 
-        return new ModelManager(initialData, userPrefs, transactionList, bookKeeping);
+        try {
+            WriteAheadLog.Recovery recovery = writeAheadLog.recover(initialData, transactionList, bookKeeping,
+                    salesRollup);
+            if (recovery.getReplayedCount() > 0) {
+                logger.info("Recovered " + recovery.getReplayedCount() + " commands from the write-ahead log");
+            }
+            initialData = recovery.getInventory();
+            transactionList = recovery.getTransactions();
+            bookKeeping = recovery.getBookKeeping();
+            salesRollup = recovery.getSalesRollup();
+        } catch (DataConversionException e) {
+            logger.warning("Write-ahead log not in the correct format. Changes after the last save will be lost");
+            moveAside(writeAheadLog.getFilePath());
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the write-ahead log. Changes after the last save will be lost");
+            moveAside(writeAheadLog.getFilePath());
+        }
+
+        return new ModelManager(initialData, userPrefs, transactionList, bookKeeping, salesRollup);
+    }
+
+    /**
+     * Moves aside the data files of {@code storage}, with their backups, and {@code writeAheadLog}, so that they
+     * are not replaced by the empty data that is started with instead.
+     */
+    private void moveAsideDataFiles(Storage storage, WriteAheadLog writeAheadLog) {
+        List<Path> dataFilePaths = List.of(storage.getInventoryFilePath(), storage.getTransactionFilePath(),
+                storage.getBookKeepingPath());
+        for (Path filePath : dataFilePaths) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            moveAside(filePath);
+            moveAside(backupPath);
+            moveAside(JournalTransactionStorage.getJournalPath(filePath));
+            moveAside(JournalTransactionStorage.getJournalPath(backupPath));
+        }
+        moveAside(writeAheadLog.getFilePath());
+    }
+
+    /**
+     * Moves aside the file at {@code filePath} if there is one, as it could not be loaded. Data is then not saved
+     * until a command changes it.
+     */
+    private void moveAside(Path filePath) {
+        isDataLoaded = false;
+        try {
+            FileUtil.moveAside(filePath).ifPresent(movedPath ->
+                    logger.warning("Moved " + filePath + " to " + movedPath + " as it could not be loaded"));
+        } catch (IOException e) {
+            logger.warning("Failed to move aside " + filePath + " " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -206,6 +325,18 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping BogoBogo ] =============================");
+        // Commands still waiting to be executed are executed before their changes are saved
+        if (!logic.close()) {
+            // Saving now could save the partial changes of the command still being executed. Changes already
+            // saved, or logged to the write-ahead log, are kept.
+            logger.severe("Data not saved, as a command was still being executed when BogoBogo stopped");
+        } else {
+            try {
+                persistenceCoordinator.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isDataFileCompact = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +33,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if data files are saved as compact JSON, without any indentation or line breaks.
+     */
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +56,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isDataFileCompact == o.isDataFileCompact;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isDataFileCompact);
     }
 
     @Override
@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for rows of comma-separated values, one row per line.
+ *
+ * A field that contains a comma or a double quote is enclosed in double quotes, with each double quote in it
+ * doubled. Fields cannot span several lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvUtil() {} // prevents instantiation
+
+    /**
+     * Splits {@code line} into its fields, removing the quotes around quoted fields.
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by anything but a separator.
+     */
+    public static List<String> splitRow(String line) throws IllegalValueException {
+        requireNonNull(line);
+
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            if (position < line.length() && line.charAt(position) == QUOTE) {
+                StringBuilder field = new StringBuilder();
+                position = readQuotedField(line, position + 1, field);
+                fields.add(field.toString());
+            } else {
+                int end = line.indexOf(SEPARATOR, position);
+                end = end == -1 ? line.length() : end;
+                fields.add(line.substring(position, end));
+                position = end;
+            }
+
+            if (position == line.length()) {
+                return fields;
+            }
+            if (line.charAt(position) != SEPARATOR) {
+                throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Reads the quoted field that starts at {@code start}, just after its opening quote, into {@code field}, and
+     * returns the position just after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int position = start;
+        while (true) {
+            int quote = line.indexOf(QUOTE, position);
+            if (quote == -1) {
+                throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+            }
+            field.append(line, position, quote);
+            if (quote + 1 < line.length() && line.charAt(quote + 1) == QUOTE) {
+                field.append(QUOTE);
+                position = quote + 2;
+            } else {
+                return quote + 1;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code fields} to {@code out} as a single row, followed by a line separator.
+     */
+    public static void appendRow(Appendable out, String... fields) throws IOException {
+        requireNonNull(out);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.append(SEPARATOR);
+            }
+            appendField(out, fields[i]);
+        }
+        out.append(System.lineSeparator());
+    }
+
+    private static void appendField(Appendable out, String field) throws IOException {
+        if (field.indexOf(SEPARATOR) == -1 && field.indexOf(QUOTE) == -1) {
+            out.append(field);
+            return;
+        }
+
+        out.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE);
+    }
+}
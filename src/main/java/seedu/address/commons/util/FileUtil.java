@@ -1,17 +1,41 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String BACKUP_FILE_EXTENSION = ".bak";
+    private static final String CORRUPT_FILE_EXTENSION = ".corrupt";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +99,166 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as described in {@link #writeToFile(Path, StreamWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Writes to a file through a buffered stream, using {@code writer}, without holding the whole content in memory.
+     * Will create the file if it does not exist yet.
+     * The content is first written to a temporary file in the same directory and flushed to the storage device,
+     * which then atomically replaces the file. A crash while writing leaves the file as it was.
+     */
+    public static void writeToFile(Path file, StreamWriter writer) throws IOException {
+        replaceFile(file, writer, false);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, StreamWriter)}, but keeps the replaced file at
+     * {@link #getBackupPath(Path)}, so that the previous version can still be read if the file is lost or damaged.
+     */
+    public static void writeToFileKeepingBackup(Path file, StreamWriter writer) throws IOException {
+        replaceFile(file, writer, true);
+    }
+
+    /**
+     * Returns the path at which {@link #writeToFileKeepingBackup} keeps the previous version of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Renames {@code file}, if it exists, so that it is kept instead of being replaced by data saved later.
+     * The file is renamed by adding {@code .corrupt} to its name, followed by a number if that name is taken.
+     *
+     * @return the path that the file was moved to, or an empty {@code Optional} if there was no file.
+     */
+    public static Optional<Path> moveAside(Path file) throws IOException {
+        requireNonNull(file);
+        if (!isFileExists(file)) {
+            return Optional.empty();
+        }
+
+        Path target = file.resolveSibling(file.getFileName() + CORRUPT_FILE_EXTENSION);
+        for (int i = 1; Files.exists(target); i++) {
+            target = file.resolveSibling(file.getFileName() + CORRUPT_FILE_EXTENSION + i);
+        }
+        Files.move(file, target);
+        return Optional.of(target);
+    }
+
+    /**
+     * Reads the given file using {@code reader}. If the file is not found or is not in the expected format,
+     * the backup kept by {@link #writeToFileKeepingBackup} is read instead, if there is one.
+     * @param filePath cannot be null.
+     * @throws DataConversionException if neither the file nor its backup is in the expected format.
+     */
+    public static <T> Optional<T> readWithBackup(Path filePath, DataFileReader<T> reader)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        Path backupPath = getBackupPath(filePath);
+        Optional<T> data;
+        try {
+            data = reader.read(filePath);
+        } catch (DataConversionException e) {
+            if (!isFileExists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Error reading " + filePath + ", reading its backup " + backupPath + " instead");
+            try {
+                return reader.read(backupPath);
+            } catch (DataConversionException backupException) {
+                e.addSuppressed(backupException);
+                throw e;
+            }
+        }
+
+        if (data.isPresent() || !isFileExists(backupPath)) {
+            return data;
+        }
+        logger.warning(filePath + " not found, reading its backup " + backupPath + " instead");
+        return reader.read(backupPath);
+    }
+
+    private static void replaceFile(Path file, StreamWriter writer, boolean isBackupKept) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING);
+                    OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                writer.writeTo(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+
+            // If there is a crash between these moves, the file is missing and its backup is still complete
+            if (isBackupKept && isFileExists(file)) {
+                moveFile(file, getBackupPath(file));
+            }
+            moveFile(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private static void moveFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to the storage device, so that files moved into it are not lost.
+     * This is not supported on every platform, in which case it is left to the operating system.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, such as Windows
+        }
+    }
+
+    /**
+     * Appends given string to a file, and waits until it has been written to the storage device.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Reads the data in a file, as retried by {@link #readWithBackup}.
+     */
+    @FunctionalInterface
+    public interface DataFileReader<T> {
+        Optional<T> read(Path filePath) throws DataConversionException;
+    }
+
+    /**
+     * Writes the content of a file to an {@code OutputStream}, which must be left open.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 
 }
@@ -0,0 +1,57 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of shared instances of an immutable value type, so that equal values can share one instance.
+ * Values are held weakly, and are dropped from the pool once nothing else refers to them.
+ *
+ * @param <K> the type of key that values are looked up by.
+ * @param <V> the type of value.
+ */
+public class Interner<K, V> {
+
+    private final Map<K, WeakReference<V>> pool = new WeakHashMap<>();
+    private final Function<V, K> keyOf;
+
+    /**
+     * Creates an empty pool of values that are looked up by the key {@code keyOf} returns for them.
+     * The key must be held by the value, so that it stays in the pool for as long as the value is used.
+     */
+    public Interner(Function<V, K> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the value in the pool with the key {@code key}. If there is none, a value is created from the key
+     * by {@code create}; the value in the pool with the same key as the created value is returned if there is
+     * one, or else the created value is added to the pool and returned.
+     */
+    public synchronized V intern(K key, Function<? super K, ? extends V> create) {
+        requireNonNull(key);
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+
+        V created = create.apply(key);
+        K createdKey = keyOf.apply(created);
+        V existing = get(createdKey);
+        if (existing != null) {
+            return existing;
+        }
+        pool.put(createdKey, new WeakReference<>(created));
+        return created;
+    }
+
+    private V get(K key) {
+        WeakReference<V> reference = pool.get(key);
+        return reference == null ? null : reference.get();
+    }
+}
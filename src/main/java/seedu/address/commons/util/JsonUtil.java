@@ -3,6 +3,9 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +14,15 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,12 +49,32 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        ObjectWriter writer = getWriter(isCompact);
+        FileUtil.writeToFile(jsonFile, outputStream -> writer.writeValue(outputStream, objectToSerialize));
+    }
+
+    /**
+     * Returns a writer that leaves the stream open, so that {@link FileUtil} can flush it to the storage device.
+     */
+    private static ObjectWriter getWriter(boolean isCompact) {
+        ObjectWriter writer = isCompact ? objectMapper.writer() : objectMapper.writerWithDefaultPrettyPrinter();
+        return writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = openInputStream(jsonFile)) {
+            return objectMapper.readValue(inputStream, classOfObjectToDeserialize);
+        }
+    }
+
+    private static InputStream openInputStream(Path file) throws IOException {
+        return Channels.newInputStream(FileChannel.open(file));
     }
 
     /**
@@ -76,6 +105,58 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array {@code arrayFieldName} in the Json object in the given file, passing each
+     * element to {@code handler} as soon as it has been read. Neither the file nor the whole array is held in memory
+     * at once. Other fields of the Json object are skipped.
+     * @param filePath cannot be null.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if {@code handler} rejects an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<? super T> handler) throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(handler);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(openInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in " + arrayFieldName);
+                }
+
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of " + arrayFieldName);
+                    }
+                    handler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -84,12 +165,37 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Saves the Json object to the specified file, streaming it to the file as it is serialized.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param isCompact if true, the Json is written without any indentation or line breaks
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
     }
 
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, boolean)}, but keeps the replaced file as a backup
+     * that {@link FileUtil#readWithBackup} falls back to.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFileKeepingBackup(T jsonFile, Path filePath, boolean isCompact)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        ObjectWriter writer = getWriter(isCompact);
+        FileUtil.writeToFileKeepingBackup(filePath, outputStream -> writer.writeValue(outputStream, jsonFile));
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +216,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element of a Json array as it is read by {@link #readJsonArrayFile}.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Helper functions for amounts of money, which are held as a whole number of cents so that adding them up is exact.
+ */
+public class MoneyUtil {
+
+    private static final int CENTS_DIGITS = 2;
+
+    private MoneyUtil() {} // prevents instantiation
+
+    /**
+     * Returns {@code dollars} as a whole number of cents, rounded to the nearest cent.
+     */
+    public static long toCents(double dollars) {
+        return Math.round(dollars * 100);
+    }
+
+    /**
+     * Returns {@code dollars} as a whole number of cents, rounded half up to the nearest cent.
+     *
+     * @throws ArithmeticException if the number of cents does not fit in a {@code long}.
+     */
+    public static long toCents(BigDecimal dollars) {
+        requireNonNull(dollars);
+        return dollars.setScale(CENTS_DIGITS, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Returns {@code cents} in dollars. The result is only approximate for amounts above about $90 trillion.
+     */
+    public static double toDollars(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Returns {@code cents} as an exact decimal number of dollars with two decimal places.
+     */
+    public static BigDecimal toDecimalDollars(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_DIGITS);
+    }
+
+    /**
+     * Returns {@code cents} formatted as dollars, e.g. "$12.30" or "-$0.05".
+     */
+    public static String format(long cents) {
+        return cents < 0
+                ? "-$" + toDecimalDollars(cents).negate()
+                : "$" + toDecimalDollars(cents);
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Locale;
 import java.util.Random;
 import java.util.stream.IntStream;
 
@@ -29,10 +30,10 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(query);
 
-        String preppedQuery = query.trim().toLowerCase();
+        String preppedQuery = query.trim().toLowerCase(Locale.ROOT);
         checkArgument(!preppedQuery.isEmpty(), "query parameter cannot be empty");
 
-        String preppedSentence = sentence.toLowerCase();
+        String preppedSentence = sentence.toLowerCase(Locale.ROOT);
         // Indexes of start of each word in the sentence
         IntStream phrasesIndexes = IntStream.range(0, sentence.length() - 1).filter(
             x -> sentence.charAt(x) != ' '
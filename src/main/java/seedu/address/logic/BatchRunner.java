@@ -0,0 +1,136 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs a script of commands against a model, one command per line, without saving after each command.
+ *
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped. A command that fails, even with an
+ * unexpected exception, is reported and the script carries on with the next line; an exit command ends the script. Saving the changes is left to the
+ * caller, once the whole script has been run.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_SUCCESS = "%1$d: %2$s";
+    public static final String MESSAGE_FAILURE = "%1$d: ERROR %2$s";
+
+    private final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands against {@code model}.
+     */
+    public BatchRunner(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        addressBookParser = new AddressBookParser();
+    }
+
+    /**
+     * Executes each command in {@code script}, printing the result of each one to {@code out} prefixed with its
+     * line number, and returns a summary of the run.
+     *
+     * @throws IOException if the script cannot be read.
+     */
+    public Summary run(BufferedReader script, PrintStream out) throws IOException {
+        requireNonNull(script);
+        requireNonNull(out);
+
+        long startNanos = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                CommandResult commandResult = command.execute(model);
+                out.println(String.format(MESSAGE_SUCCESS, lineNumber, commandResult.getFeedbackToUser()));
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                out.println(String.format(MESSAGE_FAILURE, lineNumber, e.getMessage()));
+            } catch (RuntimeException e) {
+                // An unexpected failure of one command must not lose the changes made by the rest of the script
+                logger.warning("Line " + lineNumber + " failed unexpectedly: " + StringUtil.getDetails(e));
+                failureCount++;
+                out.println(String.format(MESSAGE_FAILURE, lineNumber, e));
+            }
+        }
+
+        Summary summary = new Summary(commandCount, failureCount, System.nanoTime() - startNanos);
+        logger.info("Batch run: " + summary);
+        return summary;
+    }
+
+    /**
+     * Counts of the commands executed by a run of a script, and how long they took.
+     */
+    public static class Summary {
+        private final int commandCount;
+        private final int failureCount;
+        private final long elapsedNanos;
+
+        /**
+         * Creates a {@code Summary} of {@code commandCount} commands, of which {@code failureCount} failed,
+         * executed in {@code elapsedNanos} nanoseconds.
+         */
+        public Summary(int commandCount, int failureCount, long elapsedNanos) {
+            this.commandCount = commandCount;
+            this.failureCount = failureCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commandCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d commands, %d failed, in %.1f ms (%.0f commands/s)", commandCount,
+                    failureCount, elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1), getCommandsPerSecond());
+        }
+    }
+}
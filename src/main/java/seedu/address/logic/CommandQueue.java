@@ -0,0 +1,115 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands one at a time, in the order they are submitted, on a single background thread.
+ *
+ * As only that thread executes commands, commands never run concurrently with each other, and the thread that
+ * submits them, such as the JavaFX application thread, is not blocked while they run. At most a fixed number of
+ * commands can wait to be executed; commands submitted while the queue is full are rejected.
+ */
+public class CommandQueue {
+
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final String MESSAGE_QUEUE_FULL = "Too many commands are waiting to be executed, try again later";
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final CommandRunner runner;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code runner}, and holds at most
+     * {@link #DEFAULT_CAPACITY} commands waiting to be executed.
+     */
+    public CommandQueue(CommandRunner runner) {
+        this(runner, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code runner}, and holds at most {@code capacity}
+     * commands waiting to be executed.
+     */
+    public CommandQueue(CommandRunner runner, int capacity) {
+        requireNonNull(runner);
+        this.runner = runner;
+        executor = createExecutor(capacity);
+    }
+
+    private static ThreadPoolExecutor createExecutor(int capacity) {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity), runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code commandText} to be executed, and returns a future that is completed with the result of the
+     * command, or exceptionally with the {@code CommandException} or {@code ParseException} it throws.
+     * If the queue is full, the future is completed exceptionally with a {@code CommandException} straight away.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(runner.execute(commandText));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new CommandException(MESSAGE_QUEUE_FULL, e));
+        }
+        return future;
+    }
+
+    /**
+     * Stops accepting commands, and waits for the commands already submitted to be executed.
+     *
+     * @return true if every command was executed, false if a command was still being executed when the wait timed
+     *     out or was interrupted.
+     */
+    public boolean close() {
+        return close(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Similar to {@link #close()}, but waits at most {@code timeout} in the given {@code unit}.
+     */
+    boolean close(long timeout, TimeUnit unit) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Represents a function that executes a command.
+     */
+    @FunctionalInterface
+    public interface CommandRunner {
+        /**
+         * Executes the command and returns the result.
+         *
+         * @see Logic#execute(String)
+         */
+        CommandResult execute(String commandText) throws CommandException, ParseException;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Queues the command to be executed on the command executor thread, after the commands submitted before it.
+     * Commands submitted this way never run concurrently with each other.
+     * @param commandText The command as entered by the user.
+     * @return a future completed with the result of the command execution, or exceptionally with the
+     *     {@code CommandException} or {@code ParseException} it throws.
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
     /**
      * Returns the Inventory.
      *
@@ -51,4 +61,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Stops accepting submitted commands, and waits for those already submitted to be executed.
+     *
+     * @return true if every command was executed, false if a command was still being executed when the wait ended.
+     */
+    boolean close();
 }
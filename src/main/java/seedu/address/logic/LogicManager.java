@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -25,16 +26,27 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final PersistenceCoordinator persistenceCoordinator;
     private final AddressBookParser addressBookParser;
+    private final CommandQueue commandQueue;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved to {@code storage} as soon as each command is executed.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new PersistenceCoordinator(model, storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, saving changes through the given
+     * {@code PersistenceCoordinator}.
+     */
+    public LogicManager(Model model, PersistenceCoordinator persistenceCoordinator) {
         this.model = model;
-        this.storage = storage;
+        this.persistenceCoordinator = persistenceCoordinator;
         addressBookParser = new AddressBookParser();
+        commandQueue = new CommandQueue(this::execute);
     }
 
     @Override
@@ -46,9 +58,7 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveInventory(model.getInventory());
-            storage.saveTransactionList(model.getTransactions());
-            storage.saveBookKeeping(model.getBookKeeping());
+            persistenceCoordinator.commandExecuted();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -56,6 +66,11 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        return commandQueue.submit(commandText);
+    }
+
     @Override
     public ReadOnlyInventory getInventory() {
         return model.getInventory();
@@ -80,4 +95,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public boolean close() {
+        return commandQueue.close();
+    }
 }
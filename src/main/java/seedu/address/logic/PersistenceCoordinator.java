@@ -0,0 +1,289 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.BookKeeping;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyBookKeeping;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.item.Item;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.rollup.RecordedCost;
+import seedu.address.model.rollup.SalesRollup;
+import seedu.address.storage.CommandRecord;
+import seedu.address.storage.ItemListChange;
+import seedu.address.storage.Storage;
+import seedu.address.storage.WriteAheadLog;
+
+/**
+ * Saves the inventory, transaction list and bookkeeping of a {@code Model}, but only those that have changed
+ * since they were last saved. Read-only commands such as {@code find} and {@code list} therefore do not write
+ * to disk at all.
+ *
+ * Changes to the inventory are detected through its observable item list. The transaction list only ever grows
+ * or gets replaced, so it is compared by identity and size, while bookkeeping is compared by value. Sales rollups
+ * are compared by their version.
+ *
+ * With a {@link WriteAheadLog}, the changes made by each command are instead appended to the log as soon as the
+ * command is executed, and the data is only saved to its own files at periodic checkpoints, which empty the log.
+ * {@link #checkpoint()} should be called once the log has been replayed at startup, so that the log only holds
+ * changes made afterwards. Only the costs recorded in sales rollups are logged; the sales in transactions replayed
+ * from the log are added to them again at startup.
+ */
+public class PersistenceCoordinator {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+
+    private final Model model;
+    private final Storage storage;
+    private final WriteAheadLog writeAheadLog;
+    private final int checkpointInterval;
+
+    // Change tracking
+    private boolean isInventoryChanged = true;
+    private ReadOnlyTransactionList lastTransactions;
+    private int lastTransactionCount;
+    private BookKeeping lastBookKeeping;
+    private SalesRollup lastRollup;
+    private long lastRollupVersion;
+
+    // Changed data waiting to be written
+    private ReadOnlyInventory pendingInventory;
+    private ReadOnlyTransactionList pendingTransactions;
+    private ReadOnlyBookKeeping pendingBookKeeping;
+    private SalesRollup pendingRollup;
+
+    // Changes not yet appended to the write-ahead log
+    private final List<ItemListChange> unloggedInventoryChanges = new ArrayList<>();
+    private final List<RecordedCost> unloggedCosts = new ArrayList<>();
+    private boolean isRollupReset = false;
+    private ReadOnlyTransactionList loggedTransactions;
+    private int loggedTransactionCount;
+    private BookKeeping loggedBookKeeping;
+    private boolean isCheckpointed = false;
+    private int commandsSinceCheckpoint = 0;
+
+    /**
+     * Creates a {@code PersistenceCoordinator} that saves changed data as soon as each command is executed,
+     * on the thread executing the command.
+     */
+    public PersistenceCoordinator(Model model, Storage storage) {
+        this(model, storage, 0, null);
+    }
+
+    /**
+     * Creates a {@code PersistenceCoordinator} that appends the changes made by each command to
+     * {@code writeAheadLog}, and saves changed data after every {@code checkpointInterval} commands.
+     */
+    public PersistenceCoordinator(Model model, Storage storage, WriteAheadLog writeAheadLog, int checkpointInterval) {
+        this(model, storage, checkpointInterval, requireNonNull(writeAheadLog));
+    }
+
+    /**
+     * Creates a {@code PersistenceCoordinator} that saves changed data as soon as each command is executed if
+     * {@code writeAheadLog} is null.
+     */
+    private PersistenceCoordinator(Model model, Storage storage, int checkpointInterval, WriteAheadLog writeAheadLog) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        this.model = model;
+        this.storage = storage;
+        this.writeAheadLog = writeAheadLog;
+        this.checkpointInterval = checkpointInterval;
+
+        model.getInventory().getItemList().addListener((ListChangeListener<Item>) change -> {
+            isInventoryChanged = true;
+            if (writeAheadLog != null) {
+                unloggedInventoryChanges.addAll(ItemListChange.fromChange(change));
+            }
+        });
+        if (writeAheadLog != null) {
+            model.getSalesRollup().addListener(new SalesRollup.CostListener() {
+                @Override
+                public void costRecorded(RecordedCost cost) {
+                    unloggedCosts.add(cost);
+                }
+
+                @Override
+                public void cleared() {
+                    isRollupReset = true;
+                    unloggedCosts.clear();
+                }
+            });
+        }
+    }
+
+    /**
+     * Records the changes made by the command that was just executed, and saves them.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    public void commandExecuted() throws IOException {
+        if (writeAheadLog != null) {
+            logCommand();
+            return;
+        }
+
+        collectChanges();
+        writePending();
+    }
+
+    /**
+     * Saves all remaining changes, checkpointing if there is a write-ahead log.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    public void close() throws IOException {
+        if (writeAheadLog != null) {
+            checkpoint();
+            return;
+        }
+
+        collectChanges();
+        writePending();
+    }
+
+    /**
+     * Saves everything that changed since the last save on the calling thread, and then empties the
+     * write-ahead log.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     * @throws IllegalStateException if there is no write-ahead log.
+     */
+    public void checkpoint() throws IOException {
+        if (writeAheadLog == null) {
+            throw new IllegalStateException("Checkpoints require a write-ahead log");
+        }
+
+        isCheckpointed = false;
+        collectChanges();
+        writePending();
+        writeAheadLog.checkpoint(model.getInventory(), model.getTransactions(), model.getSalesRollup());
+
+        unloggedInventoryChanges.clear();
+        unloggedCosts.clear();
+        isRollupReset = false;
+        loggedTransactions = model.getTransactions();
+        loggedTransactionCount = loggedTransactions.getTransactionRecordList().size();
+        loggedBookKeeping = new BookKeeping(model.getBookKeeping());
+        commandsSinceCheckpoint = 0;
+        isCheckpointed = true;
+    }
+
+    /**
+     * Appends the changes made by the command that was just executed to the write-ahead log, and checkpoints
+     * if it is due. Without a complete checkpoint to build on, such as after a failed write, checkpoints instead.
+     */
+    private void logCommand() throws IOException {
+        if (!isCheckpointed) {
+            checkpoint();
+            return;
+        }
+
+        CommandRecord record = collectCommandRecord();
+        if (record.isEmpty()) {
+            return;
+        }
+
+        try {
+            writeAheadLog.append(record);
+        } catch (IOException ioe) {
+            isCheckpointed = false;
+            throw ioe;
+        }
+
+        commandsSinceCheckpoint++;
+        if (commandsSinceCheckpoint >= checkpointInterval) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Returns the changes made to the model since they were last appended to the write-ahead log.
+     */
+    private CommandRecord collectCommandRecord() {
+        List<ItemListChange> inventoryChanges = new ArrayList<>(unloggedInventoryChanges);
+        unloggedInventoryChanges.clear();
+
+        ReadOnlyTransactionList transactions = model.getTransactions();
+        List<TransactionRecord> records = transactions.getTransactionRecordList();
+        boolean isTransactionListReset = transactions != loggedTransactions || records.size() < loggedTransactionCount;
+        List<TransactionRecord> addedTransactions =
+                records.subList(isTransactionListReset ? 0 : loggedTransactionCount, records.size());
+        loggedTransactions = transactions;
+        loggedTransactionCount = records.size();
+
+        BookKeeping changedBookKeeping = null;
+        if (!model.getBookKeeping().equals(loggedBookKeeping)) {
+            loggedBookKeeping = new BookKeeping(model.getBookKeeping());
+            changedBookKeeping = loggedBookKeeping;
+        }
+
+        CommandRecord record = new CommandRecord(inventoryChanges, isTransactionListReset, addedTransactions,
+                changedBookKeeping, isRollupReset, unloggedCosts);
+        unloggedCosts.clear();
+        isRollupReset = false;
+        return record;
+    }
+
+    /**
+     * Marks every part of the model that changed since the last call as waiting to be written.
+     */
+    private void collectChanges() {
+        if (isInventoryChanged) {
+            pendingInventory = model.getInventory();
+            isInventoryChanged = false;
+        }
+
+        ReadOnlyTransactionList transactions = model.getTransactions();
+        int transactionCount = transactions.getTransactionRecordList().size();
+        if (transactions != lastTransactions || transactionCount != lastTransactionCount) {
+            pendingTransactions = transactions;
+            lastTransactions = transactions;
+            lastTransactionCount = transactionCount;
+        }
+
+        BookKeeping bookKeeping = model.getBookKeeping();
+        if (!bookKeeping.equals(lastBookKeeping)) {
+            lastBookKeeping = new BookKeeping(bookKeeping);
+            pendingBookKeeping = lastBookKeeping;
+        }
+
+        SalesRollup salesRollup = model.getSalesRollup();
+        if (salesRollup != lastRollup || salesRollup.getVersion() != lastRollupVersion) {
+            pendingRollup = salesRollup;
+            lastRollup = salesRollup;
+            lastRollupVersion = salesRollup.getVersion();
+        }
+    }
+
+    /**
+     * Writes all data waiting to be written. Data that fails to be written is kept waiting, so that it is
+     * retried on the next save. Data is written on the thread executing commands, so it does not change while
+     * it is written.
+     */
+    private void writePending() throws IOException {
+        if (pendingInventory != null) {
+            storage.saveInventory(pendingInventory);
+            pendingInventory = null;
+        }
+        if (pendingTransactions != null) {
+            storage.saveTransactionList(pendingTransactions);
+            pendingTransactions = null;
+        }
+        if (pendingBookKeeping != null) {
+            storage.saveBookKeeping(pendingBookKeeping);
+            pendingBookKeeping = null;
+        }
+        if (pendingRollup != null) {
+            storage.saveRollup(pendingRollup);
+            pendingRollup = null;
+        }
+    }
+}
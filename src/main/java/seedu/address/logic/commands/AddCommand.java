@@ -84,7 +84,7 @@ public class AddCommand extends Command {
             Item newItem = toAddDescriptor.buildItem();
             model.addItem(newItem);
 
-            model.addCostBookKeeping(newItem.getCostPrice(), newItem.getCount());
+            model.addCostBookKeeping(newItem.getCostPriceCents(), newItem.getCount());
 
             return new CommandResult(String.format(MESSAGE_SUCCESS_NEW, newItem));
         }
@@ -119,7 +119,7 @@ public class AddCommand extends Command {
         Item target = matchingItems.get(0);
         int amount = toAddDescriptor.getCount().get();
         model.restockItem(target, amount);
-        model.addCostBookKeeping(target.getCostPrice(), amount);
+        model.addCostBookKeeping(target.getCostPriceCents(), amount);
         String replenishedMessage = String.format(MESSAGE_SUCCESS_REPLENISH, amount, target.getName());
         if (extraCostFlags) {
             return new CommandResult(replenishedMessage + "\n" + MESSAGE_EXTRA_PRICE_FLAGS);
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.item.Item;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.storage.CsvDataFile;
+
+/**
+ * Writes the inventory or the transactions to a CSV file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the inventory or the transactions to a CSV file, replacing the file if it exists.\n"
+            + "Parameters: inventory|transactions FILE\n"
+            + "Example: " + COMMAND_WORD + " inventory data/stock.csv";
+
+    public static final String MESSAGE_SUCCESS_INVENTORY = "Exported %1$d items to %2$s";
+    public static final String MESSAGE_SUCCESS_TRANSACTIONS = "Exported %1$d transactions to %2$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    /**
+     * The data that can be exported.
+     */
+    public enum Data {
+        INVENTORY, TRANSACTIONS
+    }
+
+    private final Data data;
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the given {@code data} to the CSV file at {@code filePath}.
+     */
+    public ExportCommand(Data data, Path filePath) {
+        requireNonNull(data);
+        requireNonNull(filePath);
+        this.data = data;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        try {
+            if (data == Data.INVENTORY) {
+                List<Item> items = model.getInventory().getItemList();
+                CsvDataFile.writeItems(filePath, items);
+                return new CommandResult(String.format(MESSAGE_SUCCESS_INVENTORY, items.size(), filePath));
+            }
+
+            List<TransactionRecord> transactions = model.getTransactions().getTransactionRecordList();
+            CsvDataFile.writeTransactions(filePath, transactions);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_TRANSACTIONS, transactions.size(), filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && data == ((ExportCommand) other).data
+                && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
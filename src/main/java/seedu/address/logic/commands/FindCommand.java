@@ -2,39 +2,55 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIKE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.display.DisplayMode.DISPLAY_INVENTORY;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.item.Item;
+import seedu.address.model.item.NameContainsKeywordsPredicate;
+import seedu.address.model.item.NameSimilarToPredicate;
+import seedu.address.model.item.SimilarItems;
+import seedu.address.model.item.TagContainsKeywordsPredicate;
 
 /**
  * Finds and lists all items in inventory whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. Items with the given names or tags are looked up in the inventory's indexes.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    /** Number of items shown at most for each query of items with a similar name. */
+    public static final int MAX_SIMILAR_ITEMS = 10;
+
     public static final String MESSAGE_INVENTORY_NOT_DISPLAYED =
             "Can't find outside inventory mode. Please use `list` first";
 
+    public static final String MESSAGE_SIMILAR_TRUNCATED = "Too many items are similar to %1$s to look at them all, "
+            + "so closer matches may not be listed. Try a longer name.";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all items whose description matches any of "
             + "the specified names, ids, or tags, and displays them as a list with index numbers.\n"
             + "\n Parameters: "
             + PREFIX_NAME + "NAME "
             + PREFIX_ID + "ID "
-            + PREFIX_TAG + "TAG "
+            + PREFIX_TAG + "TAG[+TAG]... "
+            + PREFIX_LIKE + "NAME "
             + "\n Example: " + COMMAND_WORD + " "
             + PREFIX_ID + "019381 or "
             + COMMAND_WORD + " " + PREFIX_NAME + "Banana "
-            + PREFIX_NAME + "bread.";
+            + PREFIX_NAME + "bread or "
+            + COMMAND_WORD + " " + PREFIX_TAG + "baked+popular or "
+            + COMMAND_WORD + " " + PREFIX_LIKE + "banan mufin.";
 
     private final List<Predicate<Item>> predicates;
 
@@ -57,13 +73,47 @@ public class FindCommand extends Command {
             throw new CommandException(MESSAGE_INVENTORY_NOT_DISPLAYED);
         }
 
+        List<String> truncatedQueries = new ArrayList<>();
+        List<Predicate<Item>> resolvedPredicates = new ArrayList<>();
+        for (Predicate<Item> predicate : predicates) {
+            resolvedPredicates.add(usingIndexesOf(model, predicate, truncatedQueries));
+        }
         Predicate<Item> combinedPredicate = item ->
-                predicates.stream().anyMatch(predicate -> predicate.test(item));
+                resolvedPredicates.stream().anyMatch(predicate -> predicate.test(item));
 
         model.updateFilteredItemList(DISPLAY_INVENTORY, combinedPredicate);
 
-        return new CommandResult(
-                String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredDisplayList().size()));
+        String message = String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredDisplayList().size());
+        if (!truncatedQueries.isEmpty()) {
+            message += "\n" + String.format(MESSAGE_SIMILAR_TRUNCATED, truncatedQueries.stream()
+                    .map(query -> "\"" + query + "\"")
+                    .collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Returns {@code predicate}, looking its matches up in the indexes of the inventory of {@code model} if it can.
+     * Queries of items with a similar name that were cut short are added to {@code truncatedQueries}.
+     */
+    private static Predicate<Item> usingIndexesOf(Model model, Predicate<Item> predicate,
+            List<String> truncatedQueries) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return ((NameContainsKeywordsPredicate) predicate).usingIndex(model::getItemsWithNameStartingWith);
+        }
+        if (predicate instanceof NameSimilarToPredicate) {
+            return ((NameSimilarToPredicate) predicate).usingIndex((query, limit) -> {
+                SimilarItems similarItems = model.getItemsWithNameSimilarTo(query, limit);
+                if (similarItems.isTruncated()) {
+                    truncatedQueries.add(query);
+                }
+                return similarItems.getItems();
+            });
+        }
+        if (predicate instanceof TagContainsKeywordsPredicate) {
+            return ((TagContainsKeywordsPredicate) predicate).usingIndex(model::getItemsWithTags);
+        }
+        return predicate;
     }
 
     @Override
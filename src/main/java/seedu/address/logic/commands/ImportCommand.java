@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemDescriptor;
+import seedu.address.storage.CsvDataFile;
+
+/**
+ * Adds the items in a CSV file to the inventory, restocking the items that are already in it.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the items in a CSV file to the inventory. Items that are already in the inventory are "
+            + "restocked by the count in the file.\n"
+            + "The first line of the file must be: " + CsvDataFile.ITEM_HEADER + "\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/delivery.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d rows: %2$d new items added, %3$d items restocked";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_FILE = "Nothing was imported. %1$s";
+    public static final String MESSAGE_CONFLICT = "Nothing was imported. Row %1$d: %2$s does not match %3$s";
+    public static final String MESSAGE_COUNT_TOO_LARGE =
+            "Nothing was imported. Row %1$d: %2$s would have more than 999,999 in stock";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the items in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Item> rows;
+        try {
+            rows = CsvDataFile.readItems(filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, e.getMessage()), e);
+        }
+
+        // Every row is matched before the inventory is changed, so that a bad row leaves it as it was
+        Map<Integer, Item> newItemsById = new LinkedHashMap<>();
+        Map<String, Item> newItemsByName = new HashMap<>();
+        Map<Item, Integer> restockAmounts = new HashMap<>();
+        long costCents = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Item row = rows.get(i);
+            Item newItem = newItemsById.get(row.getId());
+            Item newItemWithName = newItemsByName.get(row.getLowerCaseName());
+            if (newItem != null || newItemWithName != null) {
+                // A later row of an item that is new to the inventory
+                if (newItem != newItemWithName) {
+                    throw conflict(i, row, newItem != null ? newItem : newItemWithName);
+                }
+                // The prices of the first row would otherwise silently win
+                if (newItem.getCostPriceCents() != row.getCostPriceCents()
+                        || newItem.getSalesPriceCents() != row.getSalesPriceCents()) {
+                    throw conflict(i, row, newItem);
+                }
+                int mergedCount = newItem.getCount() + row.getCount();
+                if (mergedCount > Item.MAX_COUNT) {
+                    throw countTooLarge(i, row);
+                }
+                Item merged = newItem.updateCount(mergedCount);
+                newItemsById.put(merged.getId(), merged);
+                newItemsByName.put(merged.getLowerCaseName(), merged);
+                costCents += newItem.getCostPriceCents() * row.getCount();
+                continue;
+            }
+
+            List<Item> matches = model.getItems(new ItemDescriptor(row));
+            if (matches.isEmpty()) {
+                newItemsById.put(row.getId(), row);
+                newItemsByName.put(row.getLowerCaseName(), row);
+                costCents += row.getCostPriceCents() * row.getCount();
+                continue;
+            }
+
+            Item target = matches.get(0);
+            if (matches.size() > 1 || target.getId() != row.getId() || !target.getName().equals(row.getName())) {
+                throw conflict(i, row, target);
+            }
+            // No count is ever more than Item.MAX_COUNT, so these sums cannot overflow
+            int restockAmount = restockAmounts.getOrDefault(target, 0) + row.getCount();
+            if (target.getCount() + restockAmount > Item.MAX_COUNT) {
+                throw countTooLarge(i, row);
+            }
+            restockAmounts.put(target, restockAmount);
+            costCents += target.getCostPriceCents() * row.getCount();
+        }
+
+        model.addItems(new ArrayList<>(newItemsById.values()));
+        model.restockItems(restockAmounts);
+        // The cost of the whole file is recorded at once
+        if (costCents != 0) {
+            model.addCostBookKeeping(costCents, 1);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rows.size(), newItemsById.size(),
+                restockAmounts.size()));
+    }
+
+    private static CommandException conflict(int rowIndex, Item row, Item existing) {
+        return new CommandException(String.format(MESSAGE_CONFLICT, rowIndex + 1, row.getName(), existing));
+    }
+
+    private static CommandException countTooLarge(int rowIndex, Item row) {
+        return new CommandException(String.format(MESSAGE_COUNT_TOO_LARGE, rowIndex + 1, row.getName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
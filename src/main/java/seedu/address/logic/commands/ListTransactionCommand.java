@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ITEMS;
 import static seedu.address.model.display.DisplayMode.DISPLAY_TRANSACTION_LIST;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Optional;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -13,6 +16,7 @@ public class ListTransactionCommand extends ListCommand {
 
     public static final String MESSAGE_SUCCESS_ALL = "Listed all past transactions";
     public static final String MESSAGE_SUCCESS = "Listed past transaction %s";
+    public static final String MESSAGE_SUCCESS_PERIOD = "Listed %d past transactions from %s to %s";
     public static final String MESSAGE_TXN_NOT_FOUND = "Transaction %s not found";
 
     public static final String TRANSACTIONS_KEYWORD = "txns";
@@ -20,9 +24,13 @@ public class ListTransactionCommand extends ListCommand {
     public static final String MESSAGE_USAGE =
         ListInventoryCommand.COMMAND_WORD + " " + TRANSACTIONS_KEYWORD + ": lists all past transactions.\n"
         + ListInventoryCommand.COMMAND_WORD + " " + TRANSACTIONS_KEYWORD
-        + " ID: list items in the specified transaction.";
+        + " ID: list items in the specified transaction.\n"
+        + ListInventoryCommand.COMMAND_WORD + " " + TRANSACTIONS_KEYWORD
+        + " [from/YYYY-MM-DD] [to/YYYY-MM-DD]: lists past transactions made within the given dates.";
 
     private final Optional<String> transactionId;
+    private final Optional<LocalDate> fromDate;
+    private final Optional<LocalDate> toDate;
 
     /**
      * Creates a ListTransactionCommand that will display a specific transaction.
@@ -36,12 +44,42 @@ public class ListTransactionCommand extends ListCommand {
         this.transactionId = transactionId.equals("")
             ? Optional.empty()
             : Optional.of(transactionId);
+        this.fromDate = Optional.empty();
+        this.toDate = Optional.empty();
+    }
+
+    /**
+     * Creates a ListTransactionCommand that will display the transactions made from {@code fromDate} to
+     * {@code toDate}, both inclusive. Either date may be empty, leaving that end of the period open.
+     *
+     * {@code fromDate} and {@code toDate} must not be null, and must not both be empty.
+     */
+    public ListTransactionCommand(Optional<LocalDate> fromDate, Optional<LocalDate> toDate) {
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        assert fromDate.isPresent() || toDate.isPresent();
+
+        this.transactionId = Optional.empty();
+        this.fromDate = fromDate;
+        this.toDate = toDate;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        // If dates specified, display past transactions made within them
+        if (fromDate.isPresent() || toDate.isPresent()) {
+            ZoneId zone = ZoneId.systemDefault();
+            Instant from = fromDate.map(date -> date.atStartOfDay(zone).toInstant()).orElse(Instant.MIN);
+            Instant to = toDate.map(date -> date.plusDays(1).atStartOfDay(zone).toInstant()).orElse(Instant.MAX);
+            int count = model.openTransactionsBetween(from, to);
+
+            return new CommandResult(String.format(MESSAGE_SUCCESS_PERIOD, count,
+                    fromDate.map(LocalDate::toString).orElse("the first"),
+                    toDate.map(LocalDate::toString).orElse("the last")));
+        }
+
         // If no id specified, display all past transactions
         if (transactionId.isEmpty()) {
 
@@ -69,7 +107,9 @@ public class ListTransactionCommand extends ListCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ListTransactionCommand) // instanceof handles nulls
-                && transactionId.equals(((ListTransactionCommand) other).transactionId); // state check
+                && transactionId.equals(((ListTransactionCommand) other).transactionId) // state check
+                && fromDate.equals(((ListTransactionCommand) other).fromDate)
+                && toDate.equals(((ListTransactionCommand) other).toDate);
     }
 
 }
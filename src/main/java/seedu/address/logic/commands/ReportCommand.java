@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.rollup.Period;
+import seedu.address.model.rollup.PeriodTotals;
+import seedu.address.model.rollup.PeriodTotals.ItemSales;
+
+/**
+ * Reports the costs, revenue, profit and units sold in each day, week or month, optionally with the revenue and
+ * units sold of each item.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+    public static final String ITEMS_KEYWORD = "items";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reports the costs, revenue, profit and units sold in each day, week or month, "
+            + "optionally only within the given dates. With " + ITEMS_KEYWORD + ", the revenue and units sold "
+            + "of each item sold are reported as well\n"
+            + "Parameters: day|week|month [" + ITEMS_KEYWORD + "] [from/YYYY-MM-DD] [to/YYYY-MM-DD]\n"
+            + "Example: " + COMMAND_WORD + " week " + ITEMS_KEYWORD + " from/2021-10-01 to/2021-10-31";
+
+    public static final String MESSAGE_SUCCESS = "Report by %s:\n%s";
+    public static final String MESSAGE_NOTHING_RECORDED = "No costs or sales recorded";
+    public static final String ITEM_INDENT = "    ";
+
+    private final Period period;
+    private final Optional<LocalDate> fromDate;
+    private final Optional<LocalDate> toDate;
+    private final boolean isByItem;
+
+    /**
+     * Creates a ReportCommand that reports each period of the given length from {@code fromDate} to
+     * {@code toDate}, both inclusive. Either date may be empty, leaving that end of the report open.
+     */
+    public ReportCommand(Period period, Optional<LocalDate> fromDate, Optional<LocalDate> toDate) {
+        this(period, fromDate, toDate, false);
+    }
+
+    /**
+     * Creates a ReportCommand like {@link #ReportCommand(Period, Optional, Optional)}, which also reports the
+     * sales of each item in each period if {@code isByItem} is true.
+     */
+    public ReportCommand(Period period, Optional<LocalDate> fromDate, Optional<LocalDate> toDate, boolean isByItem) {
+        requireNonNull(period);
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        this.period = period;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.isByItem = isByItem;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<PeriodTotals> totals = model.getSalesRollup().getTotals(period,
+                fromDate.orElse(LocalDate.MIN), toDate.orElse(LocalDate.MAX));
+        String report = totals.isEmpty()
+                ? MESSAGE_NOTHING_RECORDED
+                : totals.stream().map(this::format).collect(Collectors.joining("\n"));
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, period.name().toLowerCase(Locale.ROOT), report));
+    }
+
+    private String format(PeriodTotals periodTotals) {
+        if (!isByItem) {
+            return periodTotals.toString();
+        }
+
+        StringBuilder builder = new StringBuilder(periodTotals.toString());
+        for (ItemSales itemSales : periodTotals.getItemSales()) {
+            builder.append('\n').append(ITEM_INDENT).append(itemSales);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReportCommand // instanceof handles nulls
+                && period == ((ReportCommand) other).period
+                && fromDate.equals(((ReportCommand) other).fromDate)
+                && toDate.equals(((ReportCommand) other).toDate)
+                && isByItem == ((ReportCommand) other).isByItem);
+    }
+}
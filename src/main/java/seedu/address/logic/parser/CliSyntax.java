@@ -12,5 +12,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_COUNT = new Prefix("c/");
     public static final Prefix PREFIX_SALESPRICE = new Prefix("sp/");
     public static final Prefix PREFIX_COSTPRICE = new Prefix("cp/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_LIKE = new Prefix("like/");
 
 }
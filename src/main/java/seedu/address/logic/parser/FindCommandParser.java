@@ -2,19 +2,23 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIKE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.item.IdContainsNumberPredicate;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.NameContainsKeywordsPredicate;
+import seedu.address.model.item.NameSimilarToPredicate;
 import seedu.address.model.item.TagContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -23,6 +27,8 @@ import seedu.address.model.tag.Tag;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("\\+");
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -37,11 +43,11 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ID, PREFIX_TAG);
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ID, PREFIX_TAG, PREFIX_LIKE);
 
-        // Check that either name or id or tag is specified
+        // Check that either name or id or tag or similar name is specified
         if (argMultimap.getValue(PREFIX_NAME).isEmpty() && argMultimap.getValue(PREFIX_ID).isEmpty()
-                && argMultimap.getValue(PREFIX_TAG).isEmpty()) {
+                && argMultimap.getValue(PREFIX_TAG).isEmpty() && argMultimap.getValue(PREFIX_LIKE).isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
@@ -59,10 +65,21 @@ public class FindCommandParser implements Parser<FindCommand> {
             predicates.add(new IdContainsNumberPredicate(queryIds));
         }
 
-        // Add tag predicate if tag(s) specified
+        // Add tag predicate if tag(s) specified, where tags joined by TAG_SEPARATOR must all be present
         if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            Collection<Tag> queryTags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-            predicates.add(new TagContainsKeywordsPredicate(queryTags));
+            List<Set<Tag>> queryTagGroups = new ArrayList<>();
+            for (String tagGroup : argMultimap.getAllValues(PREFIX_TAG)) {
+                queryTagGroups.add(ParserUtil.parseTags(List.of(TAG_SEPARATOR.split(tagGroup, -1))));
+            }
+            predicates.add(TagContainsKeywordsPredicate.anyGroupOf(queryTagGroups));
+        }
+
+        // Add a similar name predicate for each similar name specified
+        for (String query : argMultimap.getAllValues(PREFIX_LIKE)) {
+            if (query.isBlank()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            predicates.add(new NameSimilarToPredicate(query.trim(), FindCommand.MAX_SIMILAR_ITEMS));
         }
 
         return new FindCommand(predicates);
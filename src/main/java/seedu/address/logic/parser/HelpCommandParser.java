@@ -7,8 +7,10 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EndAndTransactOrderCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListInventoryCommand;
 import seedu.address.logic.commands.ListTransactionCommand;
 import seedu.address.logic.commands.RemoveCommand;
@@ -50,6 +52,10 @@ public class HelpCommandParser implements Parser<HelpCommand> {
             return new HelpCommand(messageUsage);
         case SortCommand.COMMAND_WORD:
             return new HelpCommand(SortCommand.MESSAGE_USAGE);
+        case ImportCommand.COMMAND_WORD:
+            return new HelpCommand(ImportCommand.MESSAGE_USAGE);
+        case ExportCommand.COMMAND_WORD:
+            return new HelpCommand(ExportCommand.MESSAGE_USAGE);
         case ExitCommand.COMMAND_WORD:
             return new HelpCommand(ExitCommand.MESSAGE_USAGE);
         case StartOrderCommand.COMMAND_WORD:
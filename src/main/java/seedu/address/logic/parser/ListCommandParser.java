@@ -1,6 +1,11 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Optional;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListInventoryCommand;
@@ -13,6 +18,8 @@ import seedu.address.model.display.DisplayMode;
  */
 public class ListCommandParser implements Parser<ListCommand> {
 
+    public static final String MESSAGE_INVALID_PERIOD = "The from date must not be after the to date!";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListCommand
      * and returns a ListCommand object for execution.
@@ -37,6 +44,10 @@ public class ListCommandParser implements Parser<ListCommand> {
                     .substring(ListTransactionCommand.TRANSACTIONS_KEYWORD.length())
                     .trim();
 
+            // Transaction ids never contain prefixes, so any prefix must be a date
+            if (id.contains("/")) {
+                return parsePeriod(id);
+            }
             return new ListTransactionCommand(id);
         }
 
@@ -48,4 +59,29 @@ public class ListCommandParser implements Parser<ListCommand> {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage)
         );
     }
+
+    /**
+     * Parses the dates of the period in which transactions are to be listed.
+     *
+     * @throws ParseException if the dates are missing, invalid or not in order.
+     */
+    private ListTransactionCommand parsePeriod(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FROM, PREFIX_TO);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListTransactionCommand.MESSAGE_USAGE));
+        }
+
+        Optional<LocalDate> fromDate = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get()))
+                : Optional.empty();
+        Optional<LocalDate> toDate = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get()))
+                : Optional.empty();
+        if (fromDate.isPresent() && toDate.isPresent() && fromDate.get().isAfter(toDate.get())) {
+            throw new ParseException(MESSAGE_INVALID_PERIOD);
+        }
+
+        return new ListTransactionCommand(fromDate, toDate);
+    }
 }
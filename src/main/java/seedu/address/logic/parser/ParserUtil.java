@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -10,6 +12,7 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.item.Item;
 import seedu.address.model.item.Name;
 import seedu.address.model.tag.Tag;
 
@@ -45,7 +48,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -60,7 +63,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -125,9 +128,22 @@ public class ParserUtil {
         return idSet;
     }
 
+    /**
+     * Parses {@code String date} in the format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
+        }
+    }
+
     /**
      * Parses {@code String count} into a {@code Integer}.
-     * Count must be between [1, 999999]
+     * Count must be between 1 and {@link Item#MAX_COUNT}.
      */
     public static Integer parseCount(String count) throws ParseException {
         int countInteger;
@@ -138,7 +154,7 @@ public class ParserUtil {
         }
 
         // Check range is valid
-        if (countInteger <= 0 || countInteger > 999999) {
+        if (countInteger <= 0 || countInteger > Item.MAX_COUNT) {
             throw new ParseException(Messages.MESSAGE_INVALID_COUNT_FORMAT);
         }
 
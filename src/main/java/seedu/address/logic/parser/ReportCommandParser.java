@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.rollup.Period;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportCommand
+     * and returns a ReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        String[] preamble = argMultimap.getPreamble().split("\\s+");
+        boolean isByItem = preamble.length == 2 && preamble[1].equalsIgnoreCase(ReportCommand.ITEMS_KEYWORD);
+        if (preamble.length > 2 || (preamble.length == 2 && !isByItem)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+
+        Period period;
+        try {
+            period = Period.valueOf(preamble[0].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+
+        Optional<LocalDate> fromDate = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get()))
+                : Optional.empty();
+        Optional<LocalDate> toDate = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get()))
+                : Optional.empty();
+        if (fromDate.isPresent() && toDate.isPresent() && fromDate.get().isAfter(toDate.get())) {
+            throw new ParseException(ListCommandParser.MESSAGE_INVALID_PERIOD);
+        }
+
+        return new ReportCommand(period, fromDate, toDate, isByItem);
+    }
+}
@@ -1,21 +1,35 @@
 package seedu.address.model;
 
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.address.commons.util.MoneyUtil;
+
+/**
+ * The total revenue and cost of the inventory.
+ *
+ * Totals can be added to from several threads at once without locking or allocating: each total is a
+ * {@link LongAdder} of cents, which spreads concurrent additions over separate cells. The totals are capped at
+ * {@link #LIMIT} when they are read. A total found over the limit is brought back down to it, so that later
+ * additions build on the same total as was saved and read back.
+ */
 public class BookKeeping implements ReadOnlyBookKeeping {
 
     public static final double LIMIT = 999999999;
+    public static final long LIMIT_CENTS = MoneyUtil.toCents(LIMIT);
 
-    private Double revenue;
-    private Double cost;
+    // Totals are kept in cents so that adding up many prices is exact
+    private final LongAdder revenueCents = new LongAdder();
+    private final LongAdder costCents = new LongAdder();
 
     /**
-     * Constructor for BookKeeping.
+     * Constructor for BookKeeping. The totals are rounded to the nearest cent.
      *
      * @param revenue Current revenue.
      * @param cost Current cost.
      */
-    public BookKeeping(Double revenue, Double cost) {
-        this.revenue = revenue;
-        this.cost = cost;
+    public BookKeeping(double revenue, double cost) {
+        this.revenueCents.add(capped(MoneyUtil.toCents(revenue)));
+        this.costCents.add(capped(MoneyUtil.toCents(cost)));
     }
 
     /**
@@ -24,58 +38,114 @@ public class BookKeeping implements ReadOnlyBookKeeping {
      * @param bookKeeping a ReadOnlyBookKeeping version of BookKeeping
      */
     public BookKeeping(ReadOnlyBookKeeping bookKeeping) {
-        this.revenue = bookKeeping.getRevenue();
-        this.cost = bookKeeping.getCost();
+        Snapshot snapshot = snapshotOf(bookKeeping);
+        this.revenueCents.add(snapshot.revenueCents);
+        this.costCents.add(snapshot.costCents);
     }
 
     public BookKeeping() {
         this(0.0, 0.0);
     }
 
-    public Double getRevenue() {
-        return revenue;
+    /**
+     * Returns a BookKeeping with the given totals in cents.
+     */
+    public static BookKeeping fromCents(long revenueCents, long costCents) {
+        BookKeeping bookKeeping = new BookKeeping();
+        bookKeeping.revenueCents.add(capped(revenueCents));
+        bookKeeping.costCents.add(capped(costCents));
+        return bookKeeping;
+    }
+
+    public double getRevenue() {
+        return MoneyUtil.toDollars(getRevenueCents());
+    }
+
+    public double getCost() {
+        return MoneyUtil.toDollars(getCostCents());
+    }
+
+    public double getProfit() {
+        return MoneyUtil.toDollars(getProfitCents());
     }
 
-    public Double getCost() {
-        return cost;
+    public long getRevenueCents() {
+        return cappedSum(revenueCents);
     }
 
-    public Double getProfit() {
-        return this.revenue - this.cost;
+    public long getCostCents() {
+        return cappedSum(costCents);
+    }
+
+    public long getProfitCents() {
+        return snapshot().getProfitCents();
+    }
+
+    /**
+     * Returns the revenue and cost, each read once, so that a profit worked out from them agrees with them.
+     * Additions made while the snapshot is taken may be left out of it.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(getRevenueCents(), getCostCents());
+    }
+
+    private static Snapshot snapshotOf(ReadOnlyBookKeeping bookKeeping) {
+        return bookKeeping instanceof BookKeeping
+                ? ((BookKeeping) bookKeeping).snapshot()
+                : new Snapshot(bookKeeping.getRevenueCents(), bookKeeping.getCostCents());
     }
 
     /**
      * Add cost to bookKeeping. Total cost is capped at $999,999,999.
      *
-     * @param cost cost of buying the item.
+     * @param costCents cost of buying the item, in cents.
      * @param amount of item to add.
      */
-    public void addCost(Double cost, Integer amount) {
-        Double amountToAdd = cost * amount;
-
-        this.cost += amountToAdd;
-        this.cost = Math.min(this.cost, LIMIT);
+    public void addCost(long costCents, int amount) {
+        this.costCents.add(costCents * amount);
     }
 
     /**
      * Add revenue to bookKeeping. Total revenue is capped at $999,999,999.
      *
-     * @param revenue revenue of selling the item.
+     * @param revenueCents revenue of selling the item, in cents.
      * @param amount of item to add.
      */
-    public void addRevenue(Double revenue, Integer amount) {
-        Double amountToAdd = revenue * amount;
+    public void addRevenue(long revenueCents, int amount) {
+        this.revenueCents.add(revenueCents * amount);
+    }
 
-        this.revenue += amountToAdd;
-        this.revenue = Math.min(this.revenue, LIMIT);
+    private static long capped(long cents) {
+        return Math.min(cents, LIMIT_CENTS);
     }
 
     /**
-     * Reinitialise bookKeeping.
+     * Returns {@code total} capped at {@link #LIMIT_CENTS}. A total over the limit is brought back down to it by
+     * adding the difference, which keeps any additions made in the meantime.
+     */
+    private static long cappedSum(LongAdder total) {
+        long sum = total.sum();
+        if (sum <= LIMIT_CENTS) {
+            return sum;
+        }
+
+        // Readers take turns, so that two of them cannot both subtract the same excess
+        synchronized (total) {
+            sum = total.sum();
+            if (sum <= LIMIT_CENTS) {
+                return sum;
+            }
+            total.add(LIMIT_CENTS - sum);
+            return LIMIT_CENTS;
+        }
+    }
+
+    /**
+     * Reinitialise bookKeeping. Additions made at the same time may be kept or lost.
      */
     public void initialise() {
-        this.revenue = 0.0;
-        this.cost = 0.0;
+        revenueCents.reset();
+        costCents.reset();
     }
 
     @Override
@@ -91,21 +161,60 @@ public class BookKeeping implements ReadOnlyBookKeeping {
         }
 
         // state check
-        BookKeeping other = (BookKeeping) obj;
-        return revenue.equals(other.revenue)
-                && cost.equals(other.cost);
+        return snapshot().equals(((BookKeeping) obj).snapshot());
+    }
+
+    @Override
+    public int hashCode() {
+        return snapshot().hashCode();
     }
 
     @Override
     public String toString() {
-        String costString = String.format("$%.2f", cost);
-        String revenueString = String.format("$%.2f", revenue);
+        return snapshot().toString();
+    }
+
+    /**
+     * The revenue and cost of a {@code BookKeeping} at one point in time.
+     */
+    public static class Snapshot {
+        private final long revenueCents;
+        private final long costCents;
+
+        private Snapshot(long revenueCents, long costCents) {
+            this.revenueCents = revenueCents;
+            this.costCents = costCents;
+        }
+
+        public long getRevenueCents() {
+            return revenueCents;
+        }
 
-        String profitString = getProfit() >= 0
-                ? String.format("$%.2f", getProfit())
-                : String.format("-$%.2f", -getProfit());
+        public long getCostCents() {
+            return costCents;
+        }
+
+        public long getProfitCents() {
+            return revenueCents - costCents;
+        }
 
-        return "Total costs: " + costString + ", Total revenue: "
-                + revenueString + ", Total profit: " + profitString;
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Snapshot // instanceof handles nulls
+                    && revenueCents == ((Snapshot) other).revenueCents
+                    && costCents == ((Snapshot) other).costCents);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(31 * revenueCents + costCents);
+        }
+
+        @Override
+        public String toString() {
+            return "Total costs: " + MoneyUtil.format(costCents) + ", Total revenue: "
+                    + MoneyUtil.format(revenueCents) + ", Total profit: " + MoneyUtil.format(getProfitCents());
+        }
     }
 }
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The format in which the inventory, transaction list and bookkeeping are stored on the hard disk.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON files. */
+    JSON,
+    /** Compact binary files, which are faster to load and save. */
+    BINARY
+}
@@ -2,15 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.ItemDescriptor;
+import seedu.address.model.item.SimilarItems;
 import seedu.address.model.item.UniqueItemList;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the inventory level
@@ -99,6 +105,34 @@ public class Inventory implements ReadOnlyInventory {
         return items.get(descriptor);
     }
 
+    /**
+     * Returns the items in the inventory that have all of the given {@code tags}, compared by identity.
+     */
+    public Set<Item> getItemsWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return items.getWithTags(tags);
+    }
+
+    /**
+     * Returns the items in the inventory with a word in their name that starts with {@code query}, compared by
+     * identity.
+     * @see UniqueItemList#getWithNameStartingWith(String)
+     */
+    public Set<Item> getItemsWithNameStartingWith(String query) {
+        requireNonNull(query);
+        return items.getWithNameStartingWith(query);
+    }
+
+    /**
+     * Returns at most {@code limit} of the items in the inventory whose name is most similar to {@code query}, most
+     * similar first.
+     * @see UniqueItemList#getWithNameSimilarTo(String, int)
+     */
+    public SimilarItems getItemsWithNameSimilarTo(String query, int limit) {
+        requireNonNull(query);
+        return items.getWithNameSimilarTo(query, limit);
+    }
+
 
     /**
      * Adds an item to the inventory.
@@ -116,13 +150,23 @@ public class Inventory implements ReadOnlyInventory {
     }
 
     /**
-     * Adds a list of items to the inventory.
-     * If the item already exists in the inventory, increment its count.
+     * Adds a list of items to the inventory at once.
+     * None of the items may already exist in the inventory, and they must not contain duplicates.
      */
     public void addItems(List<Item> newItems) {
-        for (Item newItem : newItems) {
-            addItem(newItem);
-        }
+        items.addAll(newItems);
+    }
+
+    /**
+     * Increments the count of each key of {@code amounts} in the inventory by its value, in a single pass over the
+     * inventory. Every key must exist in the inventory.
+     */
+    public void restockItems(Map<Item, Integer> amounts) {
+        requireNonNull(amounts);
+
+        Map<Item, Item> restockedItems = new HashMap<>(amounts.size() * 2);
+        amounts.forEach((target, amount) -> restockedItems.put(target, target.updateCount(target.getCount() + amount)));
+        items.setItems(restockedItems);
     }
 
     /**
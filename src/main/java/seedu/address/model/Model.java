@@ -1,8 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -11,7 +15,10 @@ import seedu.address.model.display.DisplayMode;
 import seedu.address.model.display.Displayable;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.ItemDescriptor;
+import seedu.address.model.item.SimilarItems;
 import seedu.address.model.order.Order;
+import seedu.address.model.rollup.SalesRollup;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -88,6 +95,29 @@ public interface Model {
      */
     List<Item> getItems(ItemDescriptor descriptor);
 
+    /**
+     * Returns the items in the inventory that have all of the given {@code tags}.
+     * Items are compared by identity in the returned set, which does not change with the inventory.
+     */
+    Set<Item> getItemsWithTags(Collection<Tag> tags);
+
+    /**
+     * Returns the items in the inventory with a word in their name that starts with {@code query}, ignoring case.
+     * Items are compared by identity in the returned set, which does not change with the inventory.
+     *
+     * @throws IllegalArgumentException if {@code query} is blank.
+     */
+    Set<Item> getItemsWithNameStartingWith(String query);
+
+    /**
+     * Returns at most {@code limit} of the items in the inventory whose name is most similar to {@code query},
+     * allowing for typos and ignoring case. The most similar item comes first. The result is marked as truncated if
+     * the search stopped before looking at every item that could be more similar.
+     *
+     * @throws IllegalArgumentException if {@code query} is blank or {@code limit} is not positive.
+     */
+    SimilarItems getItemsWithNameSimilarTo(String query, int limit);
+
     /**
      * Deletes {@code item} from the inventory .
      * The item must exist in the inventory.
@@ -99,6 +129,12 @@ public interface Model {
      */
     void addItem(Item item);
 
+    /**
+     * Adds the given items into inventory at once.
+     * None of the items may already exist in the inventory, and they must not contain duplicates.
+     */
+    void addItems(List<Item> items);
+
     /**
      * Replaces the given item {@code target} with {@code editedItem}.
      * {@code target} must exist in the inventory.
@@ -112,6 +148,12 @@ public interface Model {
      */
     void restockItem(Item target, int amount);
 
+    /**
+     * Increments the count of each key of {@code amounts} in the inventory by its value.
+     * Every key must exist in the inventory.
+     */
+    void restockItems(Map<Item, Integer> amounts);
+
     /**
      * Decrements the count of the given {@code target} in the inventory by {@code amount}.
      * {@code target} must exist in the inventory.
@@ -206,6 +248,14 @@ public interface Model {
      */
     Double openTransaction(String id);
 
+    /**
+     * Displays the past transactions with timestamps from {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @return the number of transactions displayed.
+     * @throws NullPointerException if {@code from} or {@code to} is null.
+     */
+    int openTransactionsBetween(Instant from, Instant to);
+
     /**
      * Returns the model's current {@code DisplayMode}.
      *
@@ -220,17 +270,17 @@ public interface Model {
 
     /**
      * Add a specified cost to bookKeeping.
-     * @param cost of the item
+     * @param costCents of the item, in cents
      * @param amount of the item
      */
-    void addCostBookKeeping(Double cost, int amount);
+    void addCostBookKeeping(long costCents, int amount);
 
     /**
      * Add a specified revenue to bookKeeping.
-     * @param revenue gained when buying the item
+     * @param revenueCents gained when buying the item, in cents
      * @param amount of the item
      */
-    void addRevenueBookKeeping(Double revenue, int amount);
+    void addRevenueBookKeeping(long revenueCents, int amount);
 
     /**
      * Return the current BookKeeping.
@@ -242,4 +292,9 @@ public interface Model {
      * Initialise BookKeeping.
      */
     void initialiseBookKeeping();
+
+    /**
+     * Returns the revenue, costs and units sold in each day, week and month.
+     */
+    SalesRollup getSalesRollup();
 }
@@ -6,24 +6,33 @@ import static seedu.address.model.display.DisplayMode.DISPLAY_INVENTORY;
 import static seedu.address.model.display.DisplayMode.DISPLAY_OPEN_ORDER;
 import static seedu.address.model.display.DisplayMode.DISPLAY_TRANSACTION;
 import static seedu.address.model.display.DisplayMode.DISPLAY_TRANSACTION_LIST;
+import static seedu.address.model.display.DisplayMode.DISPLAY_TRANSACTION_PERIOD;
 
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.MoneyUtil;
 import seedu.address.model.display.DisplayList;
 import seedu.address.model.display.DisplayMode;
 import seedu.address.model.display.Displayable;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.ItemDescriptor;
+import seedu.address.model.item.SimilarItems;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.rollup.SalesRollup;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of BogoBogo data.
@@ -39,16 +48,28 @@ public class ModelManager implements Model {
     private Optional<Order> optionalOrder;
     private TransactionList transactions;
     private BookKeeping bookKeeping;
+    private final SalesRollup salesRollup;
 
     private DisplayMode currentDisplay = DISPLAY_INVENTORY;
 
     /**
      * Initializes a ModelManager with the given inventory and userPrefs.
+     * The sales totals are built from the transaction list, without any costs.
      */
     public ModelManager(ReadOnlyInventory inventory, ReadOnlyUserPrefs userPrefs,
                         ReadOnlyTransactionList transactionList, ReadOnlyBookKeeping bookKeeping) {
+        this(inventory, userPrefs, transactionList, bookKeeping, new SalesRollup());
+    }
+
+    /**
+     * Initializes a ModelManager with the given inventory, userPrefs and sales totals.
+     * Transactions that {@code salesRollup} does not cover yet are added to its totals.
+     */
+    public ModelManager(ReadOnlyInventory inventory, ReadOnlyUserPrefs userPrefs,
+                        ReadOnlyTransactionList transactionList, ReadOnlyBookKeeping bookKeeping,
+                        SalesRollup salesRollup) {
         super();
-        requireAllNonNull(inventory, userPrefs, transactionList, bookKeeping);
+        requireAllNonNull(inventory, userPrefs, transactionList, bookKeeping, salesRollup);
 
         logger.fine("Initializing with inventory: " + inventory + ", user prefs " + userPrefs
             + ", transaction list: " + transactionList + ", bookkeeping: " + bookKeeping);
@@ -59,6 +80,8 @@ public class ModelManager implements Model {
         displayList = new DisplayList(this.inventory.getItemList());
         optionalOrder = Optional.empty();
         this.bookKeeping = new BookKeeping(bookKeeping);
+        this.salesRollup = new SalesRollup(salesRollup);
+        this.salesRollup.catchUp(transactions.getTransactionRecordList());
     }
 
     public ModelManager() {
@@ -144,10 +167,28 @@ public class ModelManager implements Model {
         return inventory.getItems(descriptor);
     }
 
+    @Override
+    public Set<Item> getItemsWithTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return inventory.getItemsWithTags(tags);
+    }
+
+    @Override
+    public Set<Item> getItemsWithNameStartingWith(String query) {
+        requireNonNull(query);
+        return inventory.getItemsWithNameStartingWith(query);
+    }
+
+    @Override
+    public SimilarItems getItemsWithNameSimilarTo(String query, int limit) {
+        requireNonNull(query);
+        return inventory.getItemsWithNameSimilarTo(query, limit);
+    }
+
     @Override
     public void deleteItem(Item item) {
         inventory.deleteItem(item);
-        addCostBookKeeping(-item.getCostPrice(), item.getCount());
+        addCostBookKeeping(-item.getCostPriceCents(), item.getCount());
     }
 
     @Override
@@ -157,6 +198,14 @@ public class ModelManager implements Model {
                 PREDICATE_SHOW_ALL_ITEMS);
     }
 
+    @Override
+    public void addItems(List<Item> items) {
+        requireNonNull(items);
+        inventory.addItems(items);
+        updateFilteredDisplayList(DisplayMode.DISPLAY_INVENTORY,
+                PREDICATE_SHOW_ALL_ITEMS);
+    }
+
     @Override
     public void setItem(Item target, Item editedItem) {
         requireAllNonNull(target, editedItem);
@@ -170,6 +219,12 @@ public class ModelManager implements Model {
         inventory.restockItem(target, amount);
     }
 
+    @Override
+    public void restockItems(Map<Item, Integer> amounts) {
+        requireNonNull(amounts);
+        inventory.restockItems(amounts);
+    }
+
     @Override
     public void removeItem(Item target, int amount) {
         requireNonNull(target);
@@ -234,23 +289,32 @@ public class ModelManager implements Model {
     @Override
     public Double openTransaction(String id) {
         // Attempt to find transaction with matching id
-        Optional<TransactionRecord> transactionOptional = transactions.getTransactionRecordList().stream()
-                .filter(txn -> txn.getId().equals(id))
-                .findFirst();
+        Optional<TransactionRecord> transactionOptional = transactions.findById(id);
 
         // If transaction found, return false
         if (transactionOptional.isEmpty()) {
             return -1.0;
         }
 
-        Double totalCost = transactionOptional.get().getOrderItems().stream()
-                .map(item -> item.getSalesPrice() * item.getCount())
-                .reduce((a, b) -> a + b).get();
+        long totalCents = transactionOptional.get().getOrderItems().stream()
+                .mapToLong(item -> item.getSalesPriceCents() * item.getCount())
+                .sum();
 
         // Display transaction
         currentDisplay = DISPLAY_TRANSACTION;
         displayList.setItems(transactionOptional.get().getOrderItems());
-        return totalCost;
+        return MoneyUtil.toDollars(totalCents);
+    }
+
+    @Override
+    public int openTransactionsBetween(Instant from, Instant to) {
+        requireAllNonNull(from, to);
+        List<TransactionRecord> records = transactions.findBetween(from, to);
+
+        // Display transactions
+        currentDisplay = DISPLAY_TRANSACTION_PERIOD;
+        displayList.setItems(records);
+        return records.size();
     }
     public DisplayList getDisplayList() {
         return this.displayList;
@@ -358,8 +422,10 @@ public class ModelManager implements Model {
         TransactionRecord transaction = inventory.transactOrder(optionalOrder.get());
 
         transactions.add(transaction);
-        transaction.getOrderItems().stream()
-                .forEach(item -> addRevenueBookKeeping(item.getSalesPrice(), item.getCount()));
+        salesRollup.recordTransaction(transaction);
+        for (Item item : transaction.getOrderItems()) {
+            addRevenueBookKeeping(item.getSalesPriceCents(), item.getCount());
+        }
 
         logger.fine(TRANSACTION_LOGGING_MSG + transaction);
     }
@@ -378,18 +444,25 @@ public class ModelManager implements Model {
     //=========== BookKeeping ================================================================================
 
     @Override
-    public void addCostBookKeeping(Double revenue, int amount) {
-        bookKeeping.addCost(revenue, amount);
+    public void addCostBookKeeping(long costCents, int amount) {
+        bookKeeping.addCost(costCents, amount);
+        salesRollup.recordCost(Instant.now(), costCents * amount);
     }
 
     @Override
-    public void addRevenueBookKeeping(Double revenue, int amount) {
-        bookKeeping.addRevenue(revenue, amount);
+    public void addRevenueBookKeeping(long revenueCents, int amount) {
+        bookKeeping.addRevenue(revenueCents, amount);
     }
 
     @Override
     public void initialiseBookKeeping() {
         bookKeeping.initialise();
+        salesRollup.clear();
+    }
+
+    @Override
+    public SalesRollup getSalesRollup() {
+        return salesRollup;
     }
 
     /**
@@ -4,15 +4,30 @@ public interface ReadOnlyBookKeeping {
     /**
      * Returns the revenue
      */
-    Double getRevenue();
+    double getRevenue();
 
     /**
      * Returns the cost
      */
-    Double getCost();
+    double getCost();
 
     /**
      * Returns the profit
      */
-    Double getProfit();
+    double getProfit();
+
+    /**
+     * Returns the revenue in cents
+     */
+    long getRevenueCents();
+
+    /**
+     * Returns the cost in cents
+     */
+    long getCostCents();
+
+    /**
+     * Returns the profit in cents
+     */
+    long getProfitCents();
 }
@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+
+import seedu.address.model.order.TransactionRecord;
+
+/**
+ * The past transactions that a {@code TransactionList} starts with, as read from storage.
+ * A history never changes once created, so it can be shared between transaction lists without copying.
+ * Storages may read each transaction from the storage only when it is needed.
+ */
+public abstract class TransactionHistory extends AbstractList<TransactionRecord> implements RandomAccess {
+
+    private static final TransactionHistory EMPTY = of(Collections.emptyList());
+
+    // Built when a period of time is first looked up, as the history never changes
+    private TransactionTimeIndex timeIndex;
+
+    /**
+     * Returns an empty history.
+     */
+    public static TransactionHistory empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a history of the transactions in {@code records}, which are copied and indexed by id.
+     */
+    public static TransactionHistory of(Collection<TransactionRecord> records) {
+        requireNonNull(records);
+        List<TransactionRecord> copy = Collections.unmodifiableList(new ArrayList<>(records));
+        Map<String, TransactionRecord> idIndex = new HashMap<>();
+        copy.forEach(record -> idIndex.putIfAbsent(record.getId(), record));
+        return new TransactionHistory() {
+            @Override
+            public TransactionRecord get(int index) {
+                return copy.get(index);
+            }
+
+            @Override
+            public int size() {
+                return copy.size();
+            }
+
+            @Override
+            public Optional<TransactionRecord> findById(String id) {
+                requireNonNull(id);
+                return Optional.ofNullable(idIndex.get(id));
+            }
+        };
+    }
+
+    /**
+     * Returns the first transaction with the given {@code id}, if there is one.
+     * Reads every transaction until it is found, unless overridden with a faster lookup.
+     */
+    public Optional<TransactionRecord> findById(String id) {
+        requireNonNull(id);
+        return stream().filter(record -> record.getId().equals(id)).findFirst();
+    }
+
+    /**
+     * Returns the timestamp of the transaction at {@code index}.
+     * Reads the transaction, unless overridden with a faster lookup.
+     */
+    public Instant getTimestamp(int index) {
+        return get(index).getTimestamp();
+    }
+
+    /**
+     * Returns the transactions with timestamps from {@code from}, inclusive, to {@code to}, exclusive,
+     * in the order of their timestamps.
+     */
+    public List<TransactionRecord> findBetween(Instant from, Instant to) {
+        requireNonNull(from);
+        requireNonNull(to);
+
+        if (timeIndex == null) {
+            timeIndex = new TransactionTimeIndex(this::getTimestamp, size());
+        }
+        return Arrays.stream(timeIndex.findBetween(from, to)).mapToObj(this::get).collect(Collectors.toList());
+    }
+}
@@ -1,39 +1,152 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.order.TransactionRecord;
 
+/**
+ * The transactions that have been checked out, in the order they were recorded.
+ *
+ * Transactions are indexed by id so that a transaction can be found without scanning the whole list.
+ * The read-only view returned by {@link #getTransactionRecordList()} is created once and reflects later additions.
+ */
 public class TransactionList implements ReadOnlyTransactionList {
 
-    private ArrayList<TransactionRecord> transactionRecordList;
+    // Transactions read from storage, followed by the transactions added since
+    private final TransactionHistory history;
+    private final ArrayList<TransactionRecord> transactionRecordList;
+
+    // The first of the added transactions with each id, kept in sync with transactionRecordList
+    private final Map<String, TransactionRecord> idIndex = new HashMap<>();
+    private final TransactionTimeIndex timeIndex;
+
+    private final ObservableList<TransactionRecord> internalList;
+    private final ObservableList<TransactionRecord> internalUnmodifiableList;
 
     public TransactionList(ArrayList<TransactionRecord> transactionRecordList) {
-        this.transactionRecordList = transactionRecordList;
+        this(TransactionHistory.empty(), transactionRecordList);
     }
 
+    /**
+     * Creates a {@code TransactionList} that starts with the transactions in {@code history}.
+     * The history is not copied, so transactions that are read on demand are not read until they are needed.
+     */
+    public TransactionList(TransactionHistory history) {
+        this(history, new ArrayList<>());
+    }
+
+    /**
+     * Creates a copy of {@code tobeCopied}. The history of a {@code TransactionList} is shared rather than copied.
+     */
     public TransactionList(ReadOnlyTransactionList tobeCopied) {
-        this.transactionRecordList = new ArrayList<>(tobeCopied.getTransactionRecordList());
+        this(historyOf(tobeCopied), new ArrayList<>(addedTo(tobeCopied)));
     }
 
     public TransactionList() {
         this(new ArrayList<TransactionRecord>());
     }
 
+    private TransactionList(TransactionHistory history, ArrayList<TransactionRecord> transactionRecordList) {
+        requireNonNull(history);
+        this.history = history;
+        this.transactionRecordList = transactionRecordList;
+        transactionRecordList.forEach(record -> idIndex.putIfAbsent(record.getId(), record));
+        this.timeIndex = new TransactionTimeIndex(index -> transactionRecordList.get(index).getTimestamp(),
+                transactionRecordList.size());
+
+        List<TransactionRecord> records = history.isEmpty()
+                ? transactionRecordList
+                : new HistoryAndAdded(history, transactionRecordList);
+        this.internalList = FXCollections.observableList(records);
+        this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    private static TransactionHistory historyOf(ReadOnlyTransactionList transactionList) {
+        return transactionList instanceof TransactionList
+                ? ((TransactionList) transactionList).history
+                : TransactionHistory.empty();
+    }
+
+    private static List<TransactionRecord> addedTo(ReadOnlyTransactionList transactionList) {
+        return transactionList instanceof TransactionList
+                ? ((TransactionList) transactionList).transactionRecordList
+                : transactionList.getTransactionRecordList();
+    }
+
     @Override
     public ObservableList<TransactionRecord> getTransactionRecordList() {
-        ObservableList<TransactionRecord> observableList =
-                FXCollections.observableList(transactionRecordList);
-        return FXCollections.unmodifiableObservableList(observableList);
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * Returns the transactions this list started with.
+     */
+    public TransactionHistory getHistory() {
+        return history;
     }
 
     /**
      * Adds a {@code TransactionRecord} to the TransactionList.
      */
     public void add(TransactionRecord transactionRecord) {
-        this.transactionRecordList.add(transactionRecord);
+        requireNonNull(transactionRecord);
+        internalList.add(transactionRecord);
+        idIndex.putIfAbsent(transactionRecord.getId(), transactionRecord);
+        timeIndex.addNext();
+    }
+
+    /**
+     * Returns the first transaction with the given {@code id}, if there is one.
+     */
+    public Optional<TransactionRecord> findById(String id) {
+        requireNonNull(id);
+
+        Optional<TransactionRecord> pastRecord = history.findById(id);
+        if (pastRecord.isPresent()) {
+            return pastRecord;
+        }
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns the transactions with timestamps from {@code from}, inclusive, to {@code to}, exclusive,
+     * in the order of their timestamps.
+     */
+    public List<TransactionRecord> findBetween(Instant from, Instant to) {
+        requireNonNull(from);
+        requireNonNull(to);
+
+        List<TransactionRecord> pastRecords = history.findBetween(from, to);
+        int[] addedPositions = timeIndex.findBetween(from, to);
+        List<TransactionRecord> records = new ArrayList<>(pastRecords.size() + addedPositions.length);
+
+        // Merge the two lists, which are each in the order of their timestamps
+        int pastIndex = 0;
+        int addedIndex = 0;
+        while (pastIndex < pastRecords.size() || addedIndex < addedPositions.length) {
+            TransactionRecord added = addedIndex < addedPositions.length
+                    ? transactionRecordList.get(addedPositions[addedIndex])
+                    : null;
+            if (added == null || (pastIndex < pastRecords.size()
+                    && !pastRecords.get(pastIndex).getTimestamp().isAfter(added.getTimestamp()))) {
+                records.add(pastRecords.get(pastIndex++));
+            } else {
+                records.add(added);
+                addedIndex++;
+            }
+        }
+        return records;
     }
 
     @Override
@@ -50,7 +163,7 @@ public class TransactionList implements ReadOnlyTransactionList {
 
         // state check
         TransactionList other = (TransactionList) obj;
-        return transactionRecordList.equals(other.transactionRecordList);
+        return getTransactionRecordList().equals(other.getTransactionRecordList());
     }
 
     /**
@@ -69,16 +182,49 @@ public class TransactionList implements ReadOnlyTransactionList {
         }
 
         // state check
-        TransactionList other = (TransactionList) obj;
-        if (this.transactionRecordList.size() != other.transactionRecordList.size()) {
+        List<TransactionRecord> records = getTransactionRecordList();
+        List<TransactionRecord> otherRecords = ((TransactionList) obj).getTransactionRecordList();
+        if (records.size() != otherRecords.size()) {
             return false;
         }
-        for (int i = 0; i < this.transactionRecordList.size(); i += 1) {
-            if (!this.transactionRecordList.get(i).isSameTransactionInfo(
-                    other.transactionRecordList.get(i).getOrderItems())) {
+        for (int i = 0; i < records.size(); i += 1) {
+            if (!records.get(i).isSameTransactionInfo(otherRecords.get(i).getOrderItems())) {
                 return false;
             }
         }
         return true;
     }
+
+    /**
+     * A view of the history followed by the transactions added since, which can only be added to.
+     */
+    private static class HistoryAndAdded extends AbstractList<TransactionRecord> implements RandomAccess {
+        private final List<TransactionRecord> history;
+        private final List<TransactionRecord> added;
+
+        private HistoryAndAdded(List<TransactionRecord> history, List<TransactionRecord> added) {
+            this.history = history;
+            this.added = added;
+        }
+
+        @Override
+        public TransactionRecord get(int index) {
+            int historySize = history.size();
+            return index < historySize ? history.get(index) : added.get(index - historySize);
+        }
+
+        @Override
+        public int size() {
+            return history.size() + added.size();
+        }
+
+        @Override
+        public void add(int index, TransactionRecord element) {
+            int historySize = history.size();
+            if (index < historySize) {
+                throw new UnsupportedOperationException("The history cannot be changed");
+            }
+            added.add(index - historySize, element);
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+/**
+ * An index of the transactions in a list, in the order of their timestamps, for finding the transactions
+ * recorded in a period of time without reading the whole list.
+ * Transactions are identified by their positions in the list. Transactions with the same timestamp keep the order
+ * they have in the list.
+ */
+class TransactionTimeIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IntFunction<Instant> timestampAt;
+    private int[] order;
+    private int size;
+
+    /**
+     * Creates an index of the first {@code count} transactions of a list, where {@code timestampAt} returns
+     * the timestamp of the transaction at a position.
+     * The list is only sorted if its transactions are not already in the order of their timestamps.
+     */
+    TransactionTimeIndex(IntFunction<Instant> timestampAt, int count) {
+        requireNonNull(timestampAt);
+        this.timestampAt = timestampAt;
+        this.order = new int[Math.max(count, INITIAL_CAPACITY)];
+        this.size = count;
+
+        boolean isSorted = true;
+        Instant previous = null;
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+            Instant timestamp = timestampAt.apply(i);
+            isSorted = isSorted && (previous == null || !timestamp.isBefore(previous));
+            previous = timestamp;
+        }
+        if (!isSorted) {
+            Integer[] positions = Arrays.stream(order, 0, count).boxed().toArray(Integer[]::new);
+            Arrays.sort(positions, Comparator.comparing(timestampAt::apply));
+            for (int i = 0; i < count; i++) {
+                order[i] = positions[i];
+            }
+        }
+    }
+
+    /**
+     * Adds the transaction at the next position of the list to the index.
+     * This takes constant time if it is not earlier than any transaction already indexed.
+     */
+    void addNext() {
+        int position = size;
+        int insertionPoint = indexOfFirstAfter(timestampAt.apply(position), true);
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size * 2);
+        }
+        System.arraycopy(order, insertionPoint, order, insertionPoint + 1, size - insertionPoint);
+        order[insertionPoint] = position;
+        size++;
+    }
+
+    /**
+     * Returns the positions of the transactions with timestamps from {@code from}, inclusive, to {@code to},
+     * exclusive, in the order of their timestamps.
+     */
+    int[] findBetween(Instant from, Instant to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int start = indexOfFirstAfter(from, false);
+        int end = Math.max(start, indexOfFirstAfter(to, false));
+        return Arrays.copyOfRange(order, start, end);
+    }
+
+    /**
+     * Returns the index in {@code order} of the first transaction later than {@code timestamp}, or at the same
+     * time as it unless {@code isSameTimeBefore}.
+     */
+    private int indexOfFirstAfter(Instant timestamp, boolean isSameTimeBefore) {
+        // Most transactions are added in the order they are recorded
+        if (size == 0 || timestampAt.apply(order[size - 1]).compareTo(timestamp) < (isSameTimeBefore ? 1 : 0)) {
+            return size;
+        }
+
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = timestampAt.apply(order[middle]).compareTo(timestamp);
+            if (comparison < 0 || (isSameTimeBefore && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -17,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path inventoryFilePath = Paths.get("data" , "inventory.json");
     private Path transactionFilePath = Paths.get("data", "transaction.json");
     private Path bookKeepingFilePath = Paths.get("data", "bookKeeping.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -50,6 +51,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setInventoryFilePath(newUserPrefs.getInventoryFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +80,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return this.bookKeepingFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -90,12 +101,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && inventoryFilePath.equals(o.inventoryFilePath);
+                && inventoryFilePath.equals(o.inventoryFilePath)
+                && dataFileFormat == o.dataFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, inventoryFilePath);
+        return Objects.hash(guiSettings, inventoryFilePath, dataFileFormat);
     }
 
     @Override
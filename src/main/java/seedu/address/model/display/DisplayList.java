@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
@@ -14,25 +13,23 @@ import javafx.collections.transformation.FilteredList;
  * any changes to the source will be propagated to the displayed list.
  *
  * Needed by BogoBogo as the source to the displayed list can be switched at runtime.
+ *
+ * Changes to the source are applied one by one to the displayed list, so changing one element of a long source only
+ * costs a test of the filter on that element, and reordering the source does not test the filter at all.
  */
 public class DisplayList {
 
     private final FilteredList<Displayable> filtered;
-    private final ObservableList<Displayable> displayed;
+    private final MirroredList<Displayable> displayed;
     private ObservableList<? extends Displayable> source;
 
-    private ListChangeListener<Displayable> listener;
-
     /**
      * Constructs a {@code DisplayList} that uses {@code toDisplay} as it source.
      */
     public DisplayList(ObservableList<? extends Displayable> toDisplay) {
         source = toDisplay;
-        displayed = FXCollections.observableArrayList(toDisplay);
+        displayed = new MirroredList<>(toDisplay, Runnable::run);
         filtered = new FilteredList<Displayable>(displayed);
-
-        listener = change -> displayed.setAll(source);
-        source.addListener(listener);
     }
 
 
@@ -43,16 +40,9 @@ public class DisplayList {
 
         filtered.setPredicate(x -> true);
 
-        // Remove listener from old source
-        source.removeListener(listener);
-
-        // Change to new source
+        // Change to new source, which stops listening to the old source
         source = toDisplay;
-        displayed.setAll(source);
-
-        // Add new listener to new source
-        listener = change -> displayed.setAll(source);
-        source.addListener(listener);
+        displayed.setSource(toDisplay);
     }
 
     /**
@@ -7,6 +7,7 @@ public enum DisplayMode {
     DISPLAY_INVENTORY,
     DISPLAY_OPEN_ORDER,
     DISPLAY_TRANSACTION_LIST,
+    DISPLAY_TRANSACTION_PERIOD,
     DISPLAY_TRANSACTION
 }
 
@@ -7,4 +7,10 @@ public interface Displayable {
 
     public UiPart<Region> asDisplayCard(int index);
 
+    /**
+     * Shows this in {@code card}, a card made by {@link #asDisplayCard(int)}, in place of what it showed before.
+     * Returns false if {@code card} is not the kind of card that can show this.
+     */
+    public boolean showInDisplayCard(UiPart<Region> card, int index);
+
 }
@@ -1,8 +1,12 @@
 package seedu.address.model.display;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -12,6 +16,7 @@ import seedu.address.ui.UiPart;
 
 /**
  * An UI component that displays information of an {@code Item}.
+ * A card can be reused to display another item, without loading its layout again.
  */
 public class ItemCard extends UiPart<Region> {
 
@@ -25,7 +30,8 @@ public class ItemCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Item item;
+    private Item item;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -49,15 +55,28 @@ public class ItemCard extends UiPart<Region> {
      */
     public ItemCard(Item item, int displayedIndex) {
         super(FXML);
+        setItem(item, displayedIndex);
+    }
+
+    /**
+     * Displays {@code item} with the given index on this card, in place of the item displayed before.
+     */
+    public void setItem(Item item, int displayedIndex) {
+        if (item == this.item && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.item = item;
+        this.displayedIndex = displayedIndex;
+
         index.setText(displayedIndex + ". ");
         name.setText(item.getName().fullName);
         id.setText(String.format("%06d", item.getId()));
         count.setText(String.format("Quantity: %d", item.getCount()));
         salesPrice.setText(String.format("Sales Price: $ %.2f", item.getSalesPrice()));
-        item.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTagNames(item.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList()));
 
         if (item.getCostPrice() == -1) {
             // Cost price is not saved, don't need to display
@@ -65,8 +84,27 @@ public class ItemCard extends UiPart<Region> {
         } else {
             costPrice.setText(String.format("Cost Price: $ %.2f", item.getCostPrice()));
         }
+    }
 
+    public Item getItem() {
+        return item;
+    }
 
+    /**
+     * Shows {@code tagNames} in the tags pane, reusing the labels of the tags shown before.
+     */
+    private void setTagNames(List<String> tagNames) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
     }
 
     @Override
@@ -0,0 +1,132 @@
+package seedu.address.model.display;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only copy of a source {@code ObservableList} that is kept up to date by applying each change of the source
+ * to it, and that reports the same changes to its own listeners.
+ *
+ * Changes are recorded when the source reports them, and applied through an {@code Executor}. With
+ * {@code Platform::runLater}, the copy only ever changes on the JavaFX application thread, so it can be shown by the
+ * UI while the source is changed by another thread. The changes are applied in the order the source made them.
+ *
+ * @param <E> the type of the elements.
+ */
+public class MirroredList<E> extends ObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private final Executor applier;
+    private final ListChangeListener<E> listener = this::record;
+    private ObservableList<? extends E> source;
+
+    /**
+     * Creates a copy of {@code source} whose changes are applied through {@code applier}.
+     * The copy starts with the current elements of {@code source}.
+     */
+    public MirroredList(ObservableList<? extends E> source, Executor applier) {
+        requireNonNull(source);
+        requireNonNull(applier);
+        this.applier = applier;
+        this.source = source;
+        elements.addAll(source);
+        source.addListener(listener);
+    }
+
+    /**
+     * Makes this a copy of {@code newSource} instead, replacing all its elements with those of {@code newSource}.
+     */
+    public void setSource(ObservableList<? extends E> newSource) {
+        requireNonNull(newSource);
+        source.removeListener(listener);
+        source = newSource;
+
+        List<E> replacement = new ArrayList<>(newSource);
+        applier.execute(() -> replaceAll(replacement));
+        newSource.addListener(listener);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Records {@code change}, a change of the source, and has it applied.
+     */
+    private void record(ListChangeListener.Change<? extends E> change) {
+        // The change must be copied now, as the source may change again before it is applied
+        List<Runnable> steps = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                steps.add(() -> permute(from, to, permutation));
+            } else if (change.wasUpdated()) {
+                steps.add(() -> update(from, to));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                steps.add(() -> replace(from, removedSize, added));
+            }
+        }
+
+        applier.execute(() -> {
+            beginChange();
+            steps.forEach(Runnable::run);
+            endChange();
+        });
+    }
+
+    private void permute(int from, int to, int[] permutation) {
+        List<E> permuted = new ArrayList<>(elements.subList(from, to));
+        for (int i = from; i < to; i++) {
+            elements.set(permutation[i - from], permuted.get(i - from));
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    private void update(int from, int to) {
+        for (int i = from; i < to; i++) {
+            nextUpdate(i);
+        }
+    }
+
+    private void replace(int from, int removedSize, List<E> added) {
+        List<E> removedRange = elements.subList(from, from + removedSize);
+        List<E> removed = new ArrayList<>(removedRange);
+        removedRange.clear();
+        elements.addAll(from, added);
+
+        if (!added.isEmpty() && !removed.isEmpty()) {
+            nextReplace(from, from + added.size(), removed);
+        } else if (!added.isEmpty()) {
+            nextAdd(from, from + added.size());
+        } else if (!removed.isEmpty()) {
+            nextRemove(from, removed);
+        }
+    }
+
+    private void replaceAll(List<E> replacement) {
+        beginChange();
+        replace(0, elements.size(), replacement);
+        endChange();
+    }
+}
@@ -4,11 +4,13 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.commons.util.MoneyUtil;
 import seedu.address.model.order.TransactionRecord;
 import seedu.address.ui.UiPart;
 
 /**
  * An UI component that displays information of an {@code transaction}.
+ * A card can be reused to display another transaction, without loading its layout again.
  */
 public class TransactionCard extends UiPart<Region> {
 
@@ -22,7 +24,8 @@ public class TransactionCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final TransactionRecord transaction;
+    private TransactionRecord transaction;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -42,17 +45,33 @@ public class TransactionCard extends UiPart<Region> {
      */
     public TransactionCard(TransactionRecord transaction, int displayedIndex) {
         super(FXML);
+        setTransaction(transaction, displayedIndex);
+    }
+
+    /**
+     * Displays {@code transaction} with the given index on this card, in place of the transaction displayed before.
+     */
+    public void setTransaction(TransactionRecord transaction, int displayedIndex) {
+        if (transaction == this.transaction && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.transaction = transaction;
+        this.displayedIndex = displayedIndex;
+
         index.setText(displayedIndex + ". ");
         timestamp.setText(transaction.getTimeString());
         id.setText(transaction.getId());
 
-        Double sp = transaction.getOrderItems().stream()
-                .map(item -> item.getCount() * item.getSalesPrice()).reduce((a, b) -> a + b).get();
-        totalPrice.setText(String.format("Total price: $%.2f", sp));
+        long totalCents = transaction.getOrderItems().stream()
+                .mapToLong(item -> item.getCount() * item.getSalesPriceCents()).sum();
+        totalPrice.setText("Total price: " + MoneyUtil.format(totalCents));
         totalItems.setText(String.format("Total items: %d", transaction.getOrderItems().size()));
     }
 
+    public TransactionRecord getTransaction() {
+        return transaction;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -8,6 +8,8 @@ import java.util.Objects;
 import java.util.Set;
 
 import javafx.scene.layout.Region;
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.MoneyUtil;
 import seedu.address.model.display.Displayable;
 import seedu.address.model.display.ItemCard;
 import seedu.address.model.tag.Tag;
@@ -16,30 +18,51 @@ import seedu.address.ui.UiPart;
 /**
  * Represents an item in the inventory.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Fields are primitives where possible. Tag sets are immutable and shared by all items with the same tags, so an
+ * item with only its count changed shares everything but its count with the item it was made from.
  */
 public class Item implements Displayable {
 
+    /** The largest count that an item can have in stock. */
+    public static final int MAX_COUNT = 999999;
+
+    private static final Set<Tag> NO_TAGS = Collections.unmodifiableSet(new HashSet<>());
+    private static final Interner<Set<Tag>, Set<Tag>> TAG_SETS = new Interner<>(tags -> tags);
+
     // Identity fields
     private final Name name;
-    private final Integer id;
-    private final Double costPrice;
-    private final Double salesPrice;
+    private final int id;
+    // Prices are kept in cents so that totals of them are exact
+    private final long costPriceCents;
+    private final long salesPriceCents;
 
     // Data fields
-    private final Integer count;
-    private final Set<Tag> tags = new HashSet<>();
+    private final int count;
+    private final Set<Tag> tags;
+
+    // Derived from the fields above, which never change
+    private final int hash;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. Prices are rounded to the nearest cent.
      */
     public Item(Name name, Integer id, Integer count, Set<Tag> tags, Double costPrice, Double salesPrice) {
-        requireAllNonNull(name, id, count, tags, costPrice, salesPrice);
+        this(name, id, count, tags, MoneyUtil.toCents(costPrice), MoneyUtil.toCents(salesPrice));
+    }
+
+    /**
+     * Every field must be present and not null. Prices are in cents.
+     */
+    public Item(Name name, Integer id, Integer count, Set<Tag> tags, long costPriceCents, long salesPriceCents) {
+        requireAllNonNull(name, id, count, tags);
         this.count = count;
         this.name = name;
         this.id = id;
-        this.tags.addAll(tags);
-        this.costPrice = costPrice;
-        this.salesPrice = salesPrice;
+        this.tags = tags.isEmpty() ? NO_TAGS : TAG_SETS.intern(tags, Item::copyOfTags);
+        this.costPriceCents = costPriceCents;
+        this.salesPriceCents = salesPriceCents;
+        this.hash = Objects.hash(name, id, this.tags);
     }
 
     /**
@@ -50,29 +73,49 @@ public class Item implements Displayable {
         this.count = count;
         this.name = other.name;
         this.id = other.id;
-        this.salesPrice = other.salesPrice;
-        this.costPrice = other.costPrice;
-        this.tags.addAll(other.tags);
+        this.salesPriceCents = other.salesPriceCents;
+        this.costPriceCents = other.costPriceCents;
+        this.tags = other.tags;
+        this.hash = other.hash;
+    }
+
+    private static Set<Tag> copyOfTags(Set<Tag> tags) {
+        return Collections.unmodifiableSet(new HashSet<>(tags));
     }
 
     public Name getName() {
         return name;
     }
 
-    public Integer getId() {
+    /**
+     * Returns the name of this item in lower case, which is how items are matched and sorted by name.
+     */
+    public String getLowerCaseName() {
+        return name.getLowerCaseName();
+    }
+
+    public int getId() {
         return id;
     }
 
-    public Integer getCount() {
+    public int getCount() {
         return count;
     }
 
-    public Double getSalesPrice() {
-        return salesPrice;
+    public double getSalesPrice() {
+        return MoneyUtil.toDollars(salesPriceCents);
+    }
+
+    public double getCostPrice() {
+        return MoneyUtil.toDollars(costPriceCents);
+    }
+
+    public long getSalesPriceCents() {
+        return salesPriceCents;
     }
 
-    public Double getCostPrice() {
-        return costPrice;
+    public long getCostPriceCents() {
+        return costPriceCents;
     }
 
     /**
@@ -80,7 +123,7 @@ public class Item implements Displayable {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
 
@@ -92,14 +135,14 @@ public class Item implements Displayable {
     public Item updateCount(int newCount) {
         assert(newCount >= 0);
 
-        return new Item(name, id, newCount, tags, costPrice, salesPrice);
+        return new Item(this, newCount);
     }
 
     /**
      * Returns an item with only transaction related details (i.e. no cost price nor tags)
      */
     public Item justTransactedDetails() {
-        return new Item(name, id, count, new HashSet<>(), -1.0, salesPrice);
+        return new Item(name, id, count, NO_TAGS, MoneyUtil.toCents(-1.0), salesPriceCents);
     }
 
     /**
@@ -112,7 +155,7 @@ public class Item implements Displayable {
         }
 
         return otherItem != null
-                && (otherItem.getName().equals(getName()) || (otherItem.getId().equals(getId())));
+                && (otherItem.getName().equals(getName()) || otherItem.id == id);
     }
 
     /**
@@ -123,7 +166,7 @@ public class Item implements Displayable {
             return true;
         }
 
-        return other != null && Objects.equals(other.getCount(), getCount());
+        return other != null && other.count == count;
     }
 
     /**
@@ -134,7 +177,7 @@ public class Item implements Displayable {
             return true;
         }
 
-        return other != null && this.id.equals(other.getId());
+        return other != null && id == other.id;
     }
 
     /**
@@ -163,18 +206,18 @@ public class Item implements Displayable {
         }
 
         Item otherItem = (Item) other;
-        return otherItem.getName().equals(getName())
-                && otherItem.getId().equals(getId())
-                && otherItem.getCount().equals(getCount())
-                && otherItem.getSalesPrice().equals(getSalesPrice())
-                && otherItem.getCostPrice().equals(getCostPrice())
-                && otherItem.getTags().equals(getTags());
+        return otherItem.hash == hash
+                && otherItem.id == id
+                && otherItem.count == count
+                && otherItem.salesPriceCents == salesPriceCents
+                && otherItem.costPriceCents == costPriceCents
+                && otherItem.getName().equals(getName())
+                && (otherItem.tags == tags || otherItem.tags.equals(tags));
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, id, tags);
+        return hash;
     }
 
     @Override
@@ -199,4 +242,13 @@ public class Item implements Displayable {
     public UiPart<Region> asDisplayCard(int index) {
         return new ItemCard(this, index);
     }
+
+    @Override
+    public boolean showInDisplayCard(UiPart<Region> card, int index) {
+        if (!(card instanceof ItemCard)) {
+            return false;
+        }
+        ((ItemCard) card).setItem(this, index);
+        return true;
+    }
 }
@@ -8,9 +8,6 @@ import java.util.Comparator;
 public class ItemNameComparator implements Comparator<Item> {
     @Override
     public int compare(Item item1, Item item2) {
-        String name1 = item1.getName().fullName.toLowerCase();
-        String name2 = item2.getName().fullName.toLowerCase();
-
-        return name1.compareTo(name2);
+        return item1.getLowerCaseName().compareTo(item2.getLowerCaseName());
     }
 }
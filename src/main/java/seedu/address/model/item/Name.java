@@ -3,6 +3,11 @@ package seedu.address.model.item;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Item's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +23,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<String, Name> POOL = new Interner<>(name -> name.fullName);
+
     public final String fullName;
 
+    // Names are compared ignoring case
+    private final String lowerCaseName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,13 +40,28 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseName = name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the shared {@code Name} with the given text, creating it if there is none.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        return POOL.intern(name, Name::new);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    public String getLowerCaseName() {
+        return lowerCaseName;
     }
 
 
@@ -48,19 +74,19 @@ public class Name {
      * Returns true if the other name has the same lower case string as own lowercase string.
      */
     public boolean hasSameLower(Name other) {
-        return fullName.toLowerCase().equals(other.fullName.toLowerCase());
+        return lowerCaseName.equals(other.lowerCaseName);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Name // instanceof handles nulls
-                && fullName.equalsIgnoreCase(((Name) other).fullName)); // state check
+                && lowerCaseName.equals(((Name) other).lowerCaseName)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return lowerCaseName.hashCode();
     }
 
 }
@@ -1,6 +1,11 @@
 package seedu.address.model.item;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -21,6 +26,26 @@ public class NameContainsKeywordsPredicate implements Predicate<Item> {
                 .anyMatch(keyword -> StringUtil.phrasesStartsWithQuery(item.getName().fullName, keyword));
     }
 
+    /**
+     * Returns a predicate equivalent to this one for the items that {@code nameIndex} currently knows of.
+     * {@code nameIndex} returns the items with a word in their name that starts with the given keyword, so the
+     * matching items are looked up once instead of checking the name of every item.
+     * Matches are remembered by id and their names checked again, so an item replaced by an updated copy,
+     * such as when it is restocked or sold, still matches.
+     */
+    public Predicate<Item> usingIndex(Function<String, Set<Item>> nameIndex) {
+        requireNonNull(nameIndex);
+        Set<Integer> matchIds = new HashSet<>();
+        for (String keyword : keywords) {
+            nameIndex.apply(keyword).forEach(item -> matchIds.add(item.getId()));
+        }
+
+        if (matchIds.isEmpty()) {
+            return item -> false;
+        }
+        return item -> matchIds.contains(item.getId()) && test(item);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,59 @@
+package seedu.address.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Item}'s {@code Name} is similar to the query given, allowing for typos.
+ * When used with an index, only the {@code limit} most similar items match.
+ *
+ * @see UniqueItemList#getWithNameSimilarTo(String, int)
+ */
+public class NameSimilarToPredicate implements Predicate<Item> {
+    private final String query;
+    private final int limit;
+
+    /**
+     * Creates a predicate that matches items with a name similar to {@code query}, keeping the {@code limit} most
+     * similar when used with an index.
+     */
+    public NameSimilarToPredicate(String query, int limit) {
+        requireNonNull(query);
+        assert limit > 0;
+        this.query = query;
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean test(Item item) {
+        return NameTrigramIndex.isSimilar(query.trim().toLowerCase(Locale.ROOT), item.getName().fullName);
+    }
+
+    /**
+     * Returns a predicate that matches the items that {@code nameIndex} currently finds most similar to the query.
+     * {@code nameIndex} returns at most the given number of items with a name similar to the given query.
+     * Matches are remembered by id and their names checked again, so an item replaced by an updated copy,
+     * such as when it is restocked or sold, still matches.
+     */
+    public Predicate<Item> usingIndex(BiFunction<String, Integer, List<Item>> nameIndex) {
+        requireNonNull(nameIndex);
+        Set<Integer> matchIds = new HashSet<>();
+        nameIndex.apply(query, limit).forEach(item -> matchIds.add(item.getId()));
+        return item -> matchIds.contains(item.getId()) && test(item);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSimilarToPredicate // instanceof handles nulls
+                && query.equals(((NameSimilarToPredicate) other).query)
+                && limit == ((NameSimilarToPredicate) other).limit); // state check
+    }
+
+}
@@ -0,0 +1,276 @@
+package seedu.address.model.item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Finds the items whose name is similar to some text, allowing for typos, without checking the name of every item.
+ *
+ * Each word of a name is broken into overlapping three-letter pieces, padded so that the start and end of the word
+ * count as letters, e.g. "bun" gives "  b", " bu", "bun" and "un ". An item is similar to a query if their names
+ * share at least {@link #MIN_SHARED_FRACTION} of the pieces of the query. Similar items are ranked by the Jaccard
+ * similarity of their pieces, so that names with fewer extra letters come first.
+ *
+ * Names hold only letters, digits and spaces, so each piece is stored as a small number that indexes an array
+ * instead of as a string.
+ *
+ * Pieces shared by many names can make most of the inventory similar to a query. To keep such queries fast, at most
+ * {@link #MAX_CANDIDATES} items are scored per query, found through the rarest pieces of the query first, and
+ * the result says when the search was cut short.
+ */
+class NameTrigramIndex {
+
+    /** Fraction of the pieces of a query that a name must share to be similar to it. */
+    static final double MIN_SHARED_FRACTION = 0.5;
+
+    /** Number of items scored at most for each query. */
+    static final int MAX_CANDIDATES = 2000;
+
+    // Letters, digits, the padding space, and one symbol for any other character a query may hold
+    private static final int SYMBOL_COUNT = 26 + 10 + 2;
+    private static final int PADDING = 36;
+    private static final int OTHER = 37;
+    private static final Comparator<Match> WORST_FIRST = Comparator.<Match>comparingDouble(match -> match.similarity)
+            .thenComparing(match -> match.item.getLowerCaseName(), Comparator.reverseOrder())
+            .thenComparing(match -> match.item.getId(), Comparator.reverseOrder());
+
+    @SuppressWarnings("unchecked")
+    private final Set<Item>[] trigrams = new Set[SYMBOL_COUNT * SYMBOL_COUNT * SYMBOL_COUNT];
+    private final Map<Item, Integer> trigramCounts = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code item} under each piece of its name.
+     */
+    void add(Item item) {
+        int[] itemTrigrams = trigramsOf(item.getLowerCaseName());
+        trigramCounts.put(item, itemTrigrams.length);
+        for (int trigram : itemTrigrams) {
+            if (trigrams[trigram] == null) {
+                trigrams[trigram] = NameWordIndex.newIdentitySet();
+            }
+            trigrams[trigram].add(item);
+        }
+    }
+
+    /**
+     * Removes the exact {@code item} instance from under each piece of its name.
+     */
+    void remove(Item item) {
+        if (trigramCounts.remove(item) == null) {
+            return;
+        }
+        for (int trigram : trigramsOf(item.getLowerCaseName())) {
+            Set<Item> bucket = trigrams[trigram];
+            if (bucket != null && bucket.remove(item) && bucket.isEmpty()) {
+                trigrams[trigram] = null;
+            }
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} of the items most similar to {@code query}, most similar first.
+     * Items equally similar are ordered by name.
+     *
+     * At most {@link #MAX_CANDIDATES} items are scored. Which ones does not depend on the order of the items in the
+     * index: when only some of the items found through a piece can still be scored, those whose number of pieces
+     * allows them to be most similar to the query are picked, then those first by name, so an item named exactly as
+     * the query is always found. The result is marked as truncated if an item left unscored could have been among
+     * those returned.
+     *
+     * @param query a lower-cased query.
+     */
+    SimilarItems getSimilarTo(String query, int limit) {
+        assert limit > 0;
+
+        // Rarest pieces first, as every similar item must have one of the first few
+        List<Set<Item>> buckets = new ArrayList<>();
+        for (int trigram : trigramsOf(query)) {
+            buckets.add(trigrams[trigram] == null ? Collections.emptySet() : trigrams[trigram]);
+        }
+        buckets.sort(Comparator.comparingInt(Set::size));
+
+        int queryCount = buckets.size();
+        int minShared = minShared(queryCount);
+        int candidateBuckets = queryCount - minShared + 1;
+
+        PriorityQueue<Match> best = new PriorityQueue<>(WORST_FIRST);
+        int candidatesLeft = MAX_CANDIDATES;
+        // The highest similarity of the items left unscored because too many items were looked at
+        double skippedSimilarity = 0;
+        for (int i = 0; i < candidateBuckets && i < queryCount; i++) {
+            // Items first found in this bucket share at most the remaining pieces, so none of them can rank higher
+            if (best.size() == limit && maxSimilarity(queryCount - i, queryCount) < best.peek().similarity) {
+                break;
+            }
+
+            // Candidates in earlier buckets have been scored already, and are not counted again.
+            // Each candidate is kept with the highest similarity it can have until it is scored, and only the
+            // candidatesLeft that can be most similar are scored.
+            PriorityQueue<Match> candidates = new PriorityQueue<>(WORST_FIRST);
+            for (Item candidate : buckets.get(i)) {
+                if (isInAny(buckets.subList(0, i), candidate)) {
+                    continue;
+                }
+                int itemCount = trigramCounts.get(candidate);
+                double possibleSimilarity = similarity(Math.min(queryCount - i, itemCount), queryCount, itemCount);
+                if (candidates.size() == candidatesLeft && (candidatesLeft == 0
+                        || WORST_FIRST.compare(new Match(candidate, possibleSimilarity), candidates.peek()) < 0)) {
+                    skippedSimilarity = Math.max(skippedSimilarity, possibleSimilarity);
+                    if (candidatesLeft == 0 && isRanked(skippedSimilarity, best, limit)) {
+                        // Nothing more can be scored, and an item that could rank has been skipped
+                        break;
+                    }
+                    continue;
+                }
+
+                candidates.add(new Match(candidate, possibleSimilarity));
+                if (candidates.size() > candidatesLeft) {
+                    skippedSimilarity = Math.max(skippedSimilarity, candidates.poll().similarity);
+                }
+            }
+            candidatesLeft -= candidates.size();
+
+            for (Match candidate : candidates) {
+                int shared = 1;
+                for (Set<Item> bucket : buckets.subList(i + 1, queryCount)) {
+                    if (bucket.contains(candidate.item)) {
+                        shared++;
+                    }
+                }
+                if (shared < minShared) {
+                    continue;
+                }
+
+                best.add(new Match(candidate.item,
+                        similarity(shared, queryCount, trigramCounts.get(candidate.item))));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            if (candidatesLeft == 0 && isRanked(skippedSimilarity, best, limit)) {
+                break;
+            }
+        }
+
+        boolean isTruncated = isRanked(skippedSimilarity, best, limit);
+        List<Item> matches = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            matches.add(best.poll().item);
+        }
+        Collections.reverse(matches);
+        return new SimilarItems(matches, isTruncated);
+    }
+
+    /**
+     * Returns true if {@code name} is similar to {@code query}, as judged by {@link #getSimilarTo}.
+     *
+     * @param query a lower-cased query.
+     */
+    static boolean isSimilar(String query, String name) {
+        int[] queryTrigrams = trigramsOf(query);
+        int[] nameTrigrams = trigramsOf(name.toLowerCase(Locale.ROOT));
+        int shared = 0;
+        for (int trigram : queryTrigrams) {
+            if (Arrays.binarySearch(nameTrigrams, trigram) >= 0) {
+                shared++;
+            }
+        }
+        return queryTrigrams.length > 0 && shared >= minShared(queryTrigrams.length);
+    }
+
+    /**
+     * Returns the distinct pieces of the words of the lower-cased {@code text}, in ascending order.
+     */
+    static int[] trigramsOf(String text) {
+        // Each character, and the end of the text, ends at most one piece
+        int[] result = new int[text.length() + 1];
+        int count = 0;
+        int previous = PADDING;
+        int current = PADDING;
+        for (int i = 0; i <= text.length(); i++) {
+            int next = i < text.length() ? symbolOf(text.charAt(i)) : PADDING;
+            if (next == PADDING && current == PADDING) {
+                continue;
+            }
+            result[count++] = (previous * SYMBOL_COUNT + current) * SYMBOL_COUNT + next;
+            previous = current;
+            current = next;
+            if (next == PADDING) {
+                // Start the next word afresh
+                previous = PADDING;
+            }
+        }
+
+        Arrays.sort(result, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || result[i] != result[distinct - 1]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, distinct);
+    }
+
+    private static int symbolOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= '0' && c <= '9') {
+            return 26 + c - '0';
+        }
+        return c == ' ' ? PADDING : OTHER;
+    }
+
+    private static int minShared(int queryCount) {
+        return Math.max(1, (int) Math.ceil(queryCount * MIN_SHARED_FRACTION));
+    }
+
+    private static double similarity(int shared, int queryCount, int itemCount) {
+        return (double) shared / (queryCount + itemCount - shared);
+    }
+
+    /**
+     * Returns the highest similarity of an item sharing {@code shared} pieces with a query, whatever its name.
+     */
+    private static double maxSimilarity(int shared, int queryCount) {
+        return similarity(shared, queryCount, shared);
+    }
+
+    /**
+     * Returns true if an item as similar as {@code similarity} to a query could be among the {@code limit} most
+     * similar items, given the {@code best} found so far.
+     */
+    private static boolean isRanked(double similarity, PriorityQueue<Match> best, int limit) {
+        return similarity > 0 && (best.size() < limit || similarity >= best.peek().similarity);
+    }
+
+    private static boolean isInAny(List<Set<Item>> buckets, Item item) {
+        for (Set<Item> bucket : buckets) {
+            if (bucket.contains(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An item that is similar to a query, with how similar it is.
+     */
+    private static class Match {
+        private final Item item;
+        private final double similarity;
+
+        private Match(Item item, double similarity) {
+            this.item = item;
+            this.similarity = similarity;
+        }
+    }
+}
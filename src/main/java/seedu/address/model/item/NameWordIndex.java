@@ -0,0 +1,226 @@
+package seedu.address.model.item;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Finds the items whose name has a word starting with some text, without checking the name of every item.
+ *
+ * For every word of a name, the lower-cased rest of the name from that word onwards is kept in a sorted map.
+ * The names that have a word starting with some text are then those under the keys that start with that text,
+ * which are next to each other in the map.
+ *
+ * Most phrases are only in one name, so the only item under a phrase is kept as it is, and a set is only made
+ * for a phrase once a second item is added under it.
+ *
+ * @see seedu.address.commons.util.StringUtil#phrasesStartsWithQuery(String, String)
+ */
+class NameWordIndex {
+
+    // Each phrase maps to the only item under it, or to an identity set of two or more items
+    private final NavigableMap<String, Object> phrases = new TreeMap<>();
+
+    /**
+     * Adds {@code item} under each word of its name.
+     */
+    void add(Item item) {
+        String name = item.getLowerCaseName();
+        // As in StringUtil#phrasesStartsWithQuery, the last character of a name never starts a word
+        for (int i = 0; i < name.length() - 1; i++) {
+            if (isWordStart(name, i)) {
+                phrases.merge(name.substring(i), item, NameWordIndex::mergeBuckets);
+            }
+        }
+    }
+
+    /**
+     * Adds every item in {@code items} under each word of its name. The phrases of all the items are sorted
+     * once, so that when the index is empty, as when it is rebuilt, the map is built from them without comparing
+     * any more phrases.
+     */
+    void addAll(List<Item> items) {
+        List<Map.Entry<String, Item>> added = new ArrayList<>(items.size() * 2);
+        for (Item item : items) {
+            String name = item.getLowerCaseName();
+            for (int i = 0; i < name.length() - 1; i++) {
+                if (isWordStart(name, i)) {
+                    added.add(Map.entry(name.substring(i), item));
+                }
+            }
+        }
+        added.sort(Map.Entry.comparingByKey());
+
+        List<Map.Entry<String, Object>> buckets = new ArrayList<>(added.size());
+        int start = 0;
+        while (start < added.size()) {
+            String phrase = added.get(start).getKey();
+            int end = start + 1;
+            while (end < added.size() && added.get(end).getKey().equals(phrase)) {
+                end++;
+            }
+
+            Object bucket = added.get(start).getValue();
+            if (end - start > 1) {
+                Set<Item> bucketItems = Collections.newSetFromMap(new IdentityHashMap<>(end - start));
+                added.subList(start, end).forEach(entry -> bucketItems.add(entry.getValue()));
+                bucket = bucketItems;
+            }
+            buckets.add(Map.entry(phrase, bucket));
+            start = end;
+        }
+
+        if (phrases.isEmpty()) {
+            // A TreeMap copies a sorted map into itself in linear time
+            phrases.putAll(new SortedEntries(buckets));
+        } else {
+            buckets.forEach(entry -> phrases.merge(entry.getKey(), entry.getValue(), NameWordIndex::mergeBuckets));
+        }
+    }
+
+    /**
+     * Removes the exact {@code item} instance from under each word of its name.
+     */
+    void remove(Item item) {
+        String name = item.getLowerCaseName();
+        for (int i = 0; i < name.length() - 1; i++) {
+            if (!isWordStart(name, i)) {
+                continue;
+            }
+            String phrase = name.substring(i);
+            Object bucket = phrases.get(phrase);
+            if (bucket == item) {
+                phrases.remove(phrase);
+            } else if (bucket instanceof Set) {
+                Set<Item> items = asSet(bucket);
+                if (items.remove(item) && items.size() == 1) {
+                    phrases.put(phrase, items.iterator().next());
+                }
+            }
+        }
+    }
+
+    void clear() {
+        phrases.clear();
+    }
+
+    /**
+     * Returns the items whose name has a word that, with the words after it, starts with {@code query},
+     * ignoring case. Items are compared by identity in the returned set, which is not backed by this index.
+     *
+     * @param query a lower-cased query that is not empty.
+     */
+    Set<Item> getStartingWith(String query) {
+        assert !query.isEmpty();
+
+        Set<Item> matches = newIdentitySet();
+        for (Object bucket : phrases.subMap(query, true, query + Character.MAX_VALUE, false).values()) {
+            if (bucket instanceof Set) {
+                matches.addAll(asSet(bucket));
+            } else {
+                matches.add((Item) bucket);
+            }
+        }
+        return matches;
+    }
+
+    static Set<Item> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the items of both buckets, each of which is either a single item or a set of items.
+     */
+    private static Object mergeBuckets(Object bucket, Object added) {
+        Set<Item> items;
+        if (bucket instanceof Set) {
+            items = asSet(bucket);
+        } else {
+            items = newIdentitySet();
+            items.add((Item) bucket);
+        }
+
+        if (added instanceof Set) {
+            items.addAll(asSet(added));
+        } else {
+            items.add((Item) added);
+        }
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Item> asSet(Object bucket) {
+        return (Set<Item>) bucket;
+    }
+
+    private static boolean isWordStart(String name, int index) {
+        return name.charAt(index) != ' ' && (index == 0 || name.charAt(index - 1) == ' ');
+    }
+
+    /**
+     * A read-only view of a list of entries with distinct keys in ascending order, as a sorted map that can only
+     * be iterated over.
+     */
+    private static class SortedEntries extends AbstractMap<String, Object> implements SortedMap<String, Object> {
+        private final List<Map.Entry<String, Object>> entries;
+
+        private SortedEntries(List<Map.Entry<String, Object>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    return entries.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+            };
+        }
+
+        @Override
+        public Comparator<? super String> comparator() {
+            return null;
+        }
+
+        @Override
+        public SortedMap<String, Object> subMap(String fromKey, String toKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedMap<String, Object> headMap(String toKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SortedMap<String, Object> tailMap(String fromKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String firstKey() {
+            return entries.get(0).getKey();
+        }
+
+        @Override
+        public String lastKey() {
+            return entries.get(entries.size() - 1).getKey();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * The items found to have a name similar to a query, most similar first.
+ * Guarantees: immutable.
+ *
+ * @see NameTrigramIndex#getSimilarTo(String, int)
+ */
+public class SimilarItems {
+
+    private final List<Item> items;
+    private final boolean isTruncated;
+
+    /**
+     * Creates the result of a search that found {@code items}. {@code isTruncated} is true if the search stopped
+     * before looking at every item that could be more similar than the last of them.
+     */
+    public SimilarItems(List<Item> items, boolean isTruncated) {
+        requireNonNull(items);
+        this.items = List.copyOf(items);
+        this.isTruncated = isTruncated;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns true if some items that could be more similar than those found were not looked at.
+     */
+    public boolean isTruncated() {
+        return isTruncated;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SimilarItems // instanceof handles nulls
+                && items.equals(((SimilarItems) other).items)
+                && isTruncated == ((SimilarItems) other).isTruncated); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return items.hashCode() * 31 + Boolean.hashCode(isTruncated);
+    }
+
+    @Override
+    public String toString() {
+        return items + (isTruncated ? " (truncated)" : "");
+    }
+}
@@ -1,35 +1,89 @@
 package seedu.address.model.item;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
 
 /**
- * Tests that a {@code Item}'s {@code tag} matches any of the keywords given.
+ * Tests that a {@code Item}'s {@code tag} matches any of the groups of tags given.
+ * An item matches a group if it has all of the tags in the group.
  */
 public class TagContainsKeywordsPredicate implements Predicate<Item> {
-    private final Collection<Tag> keytags;
+    private final Set<Set<Tag>> tagGroups;
 
+    /**
+     * Creates a predicate that matches items with any of the {@code keytags}.
+     */
     public TagContainsKeywordsPredicate(Collection<Tag> keytags) {
-        this.keytags = keytags;
+        requireNonNull(keytags);
+        tagGroups = new HashSet<>();
+        keytags.forEach(tag -> tagGroups.add(Set.of(tag)));
+    }
+
+    private TagContainsKeywordsPredicate(Set<Set<Tag>> tagGroups) {
+        this.tagGroups = tagGroups;
+    }
+
+    /**
+     * Creates a predicate that matches items with all of the tags in any of the {@code tagGroups}.
+     * None of the groups may be empty.
+     */
+    public static TagContainsKeywordsPredicate anyGroupOf(Collection<? extends Collection<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        Set<Set<Tag>> groups = new HashSet<>();
+        tagGroups.forEach(group -> {
+            assert !group.isEmpty();
+            groups.add(Set.copyOf(group));
+        });
+        return new TagContainsKeywordsPredicate(groups);
     }
 
     @Override
     public boolean test(Item item) {
-        int lengthOfItemTag = item.getTags().toString().length();
-        if (item.getTags().isEmpty()) {
+        Set<Tag> tags = item.getTags();
+        if (tags.isEmpty()) {
             return false;
         }
 
-        return item.getTags().stream().anyMatch(keytags::contains);
+        for (Set<Tag> group : tagGroups) {
+            if (tags.containsAll(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one for the items that {@code tagIndex} currently knows of.
+     * {@code tagIndex} returns the items with all of the given tags, so the matching items are looked up once
+     * instead of checking the tags of every item.
+     * Matches are remembered by id and their tags checked again, so an item replaced by an updated copy,
+     * such as when it is restocked or sold, still matches.
+     */
+    public Predicate<Item> usingIndex(Function<? super Set<Tag>, Set<Item>> tagIndex) {
+        requireNonNull(tagIndex);
+        Set<Integer> matchIds = new HashSet<>();
+        for (Set<Tag> group : tagGroups) {
+            tagIndex.apply(group).forEach(item -> matchIds.add(item.getId()));
+        }
+
+        if (matchIds.isEmpty()) {
+            return item -> false;
+        }
+        return item -> matchIds.contains(item.getId()) && test(item);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TagContainsKeywordsPredicate // instanceof handles nulls
-                && keytags.equals(((TagContainsKeywordsPredicate) other).keytags)); // state check
+                && tagGroups.equals(((TagContainsKeywordsPredicate) other).tagGroups)); // state check
     }
 
 }
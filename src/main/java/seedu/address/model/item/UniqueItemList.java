@@ -1,18 +1,26 @@
 package seedu.address.model.item;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.item.exceptions.DuplicateItemException;
 import seedu.address.model.item.exceptions.ItemNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of items that enforces uniqueness between its elements and does not allow nulls.
@@ -23,6 +31,11 @@ import seedu.address.model.item.exceptions.ItemNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Items are additionally indexed by id and by lower-cased name so that identity lookups do not need to scan the
+ * whole list, and by tag, by the words of their names and by the three-letter pieces of their names so that the
+ * items matching a search can be found without testing every item. The indexes only mirror the contents of the
+ * backing list, so the order exposed through {@link #asUnmodifiableObservableList()} is unaffected.
+ *
  * @see Item#isSameItem(Item)
  */
 public class UniqueItemList implements Iterable<Item> {
@@ -31,21 +44,32 @@ public class UniqueItemList implements Iterable<Item> {
     private final ObservableList<Item> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Secondary indexes kept in sync with internalList. Buckets hold more than one item only when
+    // an item with a count of zero shares its id or name with another item.
+    private final Map<Integer, List<Item>> idIndex = new HashMap<>();
+    private final Map<String, List<Item>> nameIndex = new HashMap<>();
+    private final Map<Tag, Set<Item>> tagIndex = new HashMap<>();
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    // Built on the first search for similar names, as most lists, such as those of orders, are never searched so
+    private NameTrigramIndex nameTrigramIndex;
+
     /**
      * Returns true if the list contains an equivalent item as the given argument.
      * @see Item#isSameItem(Item)
      */
     public boolean contains(Item toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> toCheck.isSameItem(x) && x.getCount() > 0);
+        // Called for every row of an import, so the buckets are looped over rather than streamed
+        return hasStock(getByName(toCheck.getName())) || hasStock(getById(toCheck.getId()));
     }
+
     /**
      * Returns true if the list contains an equivalent item as the given argument.
      * @see Item#isSameItem(Item)
      */
     public boolean containsID(Item toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> toCheck.isSameId(x));
+        return idIndex.containsKey(toCheck.getId());
     }
     /**
      * Returns true if the list contains an equivalent name as the given argument.
@@ -53,7 +77,7 @@ public class UniqueItemList implements Iterable<Item> {
      */
     public boolean containsName(Item toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> toCheck.isSameName(x));
+        return nameIndex.containsKey(toCheck.getLowerCaseName());
     }
 
     /**
@@ -68,9 +92,85 @@ public class UniqueItemList implements Iterable<Item> {
      */
     public List<Item> get(ItemDescriptor descriptor) {
         requireNonNull(descriptor);
-        return internalList.stream()
-                .filter(descriptor::isMatch)
-                .collect(Collectors.toList());
+
+        List<Item> matches = new ArrayList<>();
+        descriptor.getName().ifPresent(name -> matches.addAll(getByName(name)));
+        descriptor.getId().ifPresent(id -> {
+            for (Item item : getById(id)) {
+                if (!containsInstance(matches, item)) {
+                    matches.add(item);
+                }
+            }
+        });
+
+        // Only ambiguous lookups pay for restoring the displayed order
+        if (matches.size() > 1) {
+            matches.sort(Comparator.comparingInt(internalList::indexOf));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the items in the list that have all of the given {@code tags}, in no particular order.
+     * Items are compared by identity in the returned set, which is not backed by this list.
+     */
+    public Set<Item> getWithTags(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+
+        // Start from the rarest tag, so that the fewest items need to be checked for the others
+        Set<Item> rarest = null;
+        for (Tag tag : tags) {
+            Set<Item> bucket = tagIndex.getOrDefault(tag, Collections.emptySet());
+            if (rarest == null || bucket.size() < rarest.size()) {
+                rarest = bucket;
+            }
+        }
+
+        Set<Item> matches = NameWordIndex.newIdentitySet();
+        if (rarest == null) {
+            matches.addAll(internalList);
+            return matches;
+        }
+        for (Item item : rarest) {
+            if (tags.size() == 1 || item.getTags().containsAll(tags)) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the items in the list whose name has a word that, with the words after it, starts with {@code query},
+     * ignoring case. Items are compared by identity in the returned set, which is not backed by this list.
+     *
+     * @throws IllegalArgumentException if {@code query} is blank.
+     * @see seedu.address.commons.util.StringUtil#phrasesStartsWithQuery(String, String)
+     */
+    public Set<Item> getWithNameStartingWith(String query) {
+        requireNonNull(query);
+        String preppedQuery = query.trim().toLowerCase(Locale.ROOT);
+        checkArgument(!preppedQuery.isEmpty(), "query parameter cannot be empty");
+        return nameWordIndex.getStartingWith(preppedQuery);
+    }
+
+    /**
+     * Returns at most {@code limit} of the items in the list whose name is most similar to {@code query}, allowing
+     * for typos and ignoring case. The most similar item comes first. The result is marked as truncated if the
+     * search stopped before looking at every item that could be more similar.
+     *
+     * @throws IllegalArgumentException if {@code query} is blank or {@code limit} is not positive.
+     * @see NameTrigramIndex
+     */
+    public SimilarItems getWithNameSimilarTo(String query, int limit) {
+        requireNonNull(query);
+        String preppedQuery = query.trim().toLowerCase(Locale.ROOT);
+        checkArgument(!preppedQuery.isEmpty(), "query parameter cannot be empty");
+        checkArgument(limit > 0, "limit must be positive");
+        if (nameTrigramIndex == null) {
+            nameTrigramIndex = new NameTrigramIndex();
+            internalList.forEach(nameTrigramIndex::add);
+        }
+        return nameTrigramIndex.getSimilarTo(preppedQuery, limit);
     }
 
     /**
@@ -80,7 +180,7 @@ public class UniqueItemList implements Iterable<Item> {
      */
     public Optional<Item> getItem(Item item) {
         requireNonNull(item);
-        return internalList.stream().filter(item::equals).findFirst();
+        return getById(item.getId()).stream().filter(item::equals).findFirst();
     }
 
     /**
@@ -93,8 +193,33 @@ public class UniqueItemList implements Iterable<Item> {
             throw new DuplicateItemException();
         }
         internalList.add(toAdd);
+        addToIndex(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list at once, reporting a single change to listeners.
+     * As with {@link #add(Item)}, none of the items may already exist in the list, nor in {@code toAdd} before it.
+     * If one does, nothing is added.
+     */
+    public void addAll(List<Item> toAdd) {
+        requireAllNonNull(toAdd);
 
-        getItem(toAdd);
+        // Each item is indexed by id and name before the next is checked, so that duplicates within toAdd are
+        // also caught
+        for (int i = 0; i < toAdd.size(); i++) {
+            if (contains(toAdd.get(i))) {
+                toAdd.subList(0, i).forEach(this::removeFromIdAndNameIndexes);
+                throw new DuplicateItemException();
+            }
+            addToIdAndNameIndexes(toAdd.get(i));
+        }
+        // The other indexes are only built once every item is known to be new, and the words of all the names
+        // are indexed at once
+        toAdd.forEach(this::addToTagIndex);
+        nameWordIndex.addAll(toAdd);
+        // Built again by the next like/ query that needs it, rather than updated item by item
+        nameTrigramIndex = null;
+        internalList.addAll(toAdd);
     }
 
     /**
@@ -114,7 +239,38 @@ public class UniqueItemList implements Iterable<Item> {
             throw new DuplicateItemException();
         }
 
-        internalList.set(index, editedItem);
+        Item replaced = internalList.set(index, editedItem);
+        removeFromIndex(replaced);
+        addToIndex(editedItem);
+    }
+
+    /**
+     * Replaces each item in the list that is a key of {@code editedItems} with its value, in a single pass over the
+     * list. Every key must exist in the list, and each value must not have the same identity as another existing
+     * item in the list.
+     */
+    public void setItems(Map<Item, Item> editedItems) {
+        requireNonNull(editedItems);
+        for (Map.Entry<Item, Item> entry : editedItems.entrySet()) {
+            requireAllNonNull(entry.getKey(), entry.getValue());
+            if (!getById(entry.getKey().getId()).contains(entry.getKey())) {
+                throw new ItemNotFoundException();
+            }
+            if (!entry.getKey().isSameItem(entry.getValue()) && contains(entry.getValue())) {
+                throw new DuplicateItemException();
+            }
+        }
+
+        int replacedCount = 0;
+        for (int i = 0; i < internalList.size() && replacedCount < editedItems.size(); i++) {
+            Item editedItem = editedItems.get(internalList.get(i));
+            if (editedItem != null) {
+                removeFromIndex(internalList.set(i, editedItem));
+                addToIndex(editedItem);
+                replacedCount++;
+            }
+        }
+        assert replacedCount == editedItems.size();
     }
 
     /**
@@ -124,13 +280,17 @@ public class UniqueItemList implements Iterable<Item> {
     public void remove(Item toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ItemNotFoundException();
         }
+
+        removeFromIndex(internalList.remove(index));
     }
 
     public void setItems(UniqueItemList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -140,10 +300,8 @@ public class UniqueItemList implements Iterable<Item> {
      */
     public void setItems(List<Item> items) {
         requireAllNonNull(items);
-        // System.out.println(items);
-        if (!itemsAreUnique(items)) {
-            throw new DuplicateItemException();
-        }
+        requireUnique(items);
+        rebuildIndex(items);
         internalList.setAll(items);
     }
 
@@ -165,7 +323,8 @@ public class UniqueItemList implements Iterable<Item> {
 
     @Override
     public Iterator<Item> iterator() {
-        return internalList.iterator();
+        // Iterate over the unmodifiable view so that the indexes cannot be bypassed
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -181,16 +340,127 @@ public class UniqueItemList implements Iterable<Item> {
     }
 
     /**
-     * Returns true if {@code items} contains only unique items.
+     * Returns the items whose name is the same as {@code name}, ignoring case.
      */
-    private boolean itemsAreUnique(List<Item> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).isSameItem(items.get(j))) {
-                    return false;
-                }
+    private List<Item> getByName(Name name) {
+        return nameIndex.getOrDefault(name.getLowerCaseName(), Collections.emptyList());
+    }
+
+    /**
+     * Returns the items with the given {@code id}.
+     */
+    private List<Item> getById(Integer id) {
+        return idIndex.getOrDefault(id, Collections.emptyList());
+    }
+
+    private static boolean hasStock(List<Item> items) {
+        for (Item item : items) {
+            if (item.getCount() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsInstance(List<Item> items, Item toFind) {
+        for (Item item : items) {
+            if (item == toFind) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addToIndex(Item item) {
+        addToIdAndNameIndexes(item);
+        addToTagIndex(item);
+        nameWordIndex.add(item);
+        if (nameTrigramIndex != null) {
+            nameTrigramIndex.add(item);
+        }
+    }
+
+    private void addToIdAndNameIndexes(Item item) {
+        idIndex.computeIfAbsent(item.getId(), unused -> new ArrayList<>(1)).add(item);
+        nameIndex.computeIfAbsent(item.getLowerCaseName(), unused -> new ArrayList<>(1)).add(item);
+    }
+
+    private void addToTagIndex(Item item) {
+        for (Tag tag : item.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> NameWordIndex.newIdentitySet()).add(item);
+        }
+    }
+
+    private void removeFromIdAndNameIndexes(Item item) {
+        removeFromBucket(idIndex, item.getId(), item);
+        removeFromBucket(nameIndex, item.getLowerCaseName(), item);
+    }
+
+    private void removeFromIndex(Item item) {
+        removeFromIdAndNameIndexes(item);
+        for (Tag tag : item.getTags()) {
+            Set<Item> bucket = tagIndex.get(tag);
+            if (bucket != null && bucket.remove(item) && bucket.isEmpty()) {
+                tagIndex.remove(tag);
+            }
+        }
+        nameWordIndex.remove(item);
+        if (nameTrigramIndex != null) {
+            nameTrigramIndex.remove(item);
+        }
+    }
+
+    /**
+     * Removes the exact {@code item} instance from the bucket under {@code key}, dropping the bucket if emptied.
+     */
+    private static <K> void removeFromBucket(Map<K, List<Item>> index, K key, Item item) {
+        List<Item> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+
+        for (Iterator<Item> it = bucket.iterator(); it.hasNext();) {
+            if (it.next() == item) {
+                it.remove();
+                break;
+            }
+        }
+
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private void rebuildIndex(List<Item> items) {
+        idIndex.clear();
+        nameIndex.clear();
+        tagIndex.clear();
+        nameWordIndex.clear();
+        nameTrigramIndex = null;
+        for (Item item : items) {
+            addToIdAndNameIndexes(item);
+            addToTagIndex(item);
+        }
+        nameWordIndex.addAll(items);
+    }
+
+    /**
+     * Checks that {@code items} contains only unique items, in a single pass over the list.
+     * @throws DuplicateItemException naming the first pair of items that share a name or id.
+     */
+    private static void requireUnique(List<Item> items) {
+        Map<Integer, Item> seenIds = new HashMap<>(items.size() * 2);
+        Map<String, Item> seenNames = new HashMap<>(items.size() * 2);
+
+        for (Item item : items) {
+            Item sameId = seenIds.putIfAbsent(item.getId(), item);
+            if (sameId != null) {
+                throw new DuplicateItemException(sameId, item);
+            }
+            Item sameName = seenNames.putIfAbsent(item.getLowerCaseName(), item);
+            if (sameName != null) {
+                throw new DuplicateItemException(sameName, item);
             }
         }
-        return true;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.item.exceptions;
 
+import seedu.address.model.item.Item;
+
 /**
  * Signals that the operation will result in duplicate Items (Items are considered duplicates if they have the same
  * id).
@@ -8,4 +10,11 @@ public class DuplicateItemException extends RuntimeException {
     public DuplicateItemException() {
         super("Operation would result in duplicate items");
     }
+
+    /**
+     * Constructs a {@code DuplicateItemException} that names the two items that clash.
+     */
+    public DuplicateItemException(Item first, Item second) {
+        super(String.format("Operation would result in duplicate items: %s and %s", first, second));
+    }
 }
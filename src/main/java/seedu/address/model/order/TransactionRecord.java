@@ -104,8 +104,8 @@ public class TransactionRecord extends Order implements Displayable {
             Item item2 = otherList.get(i);
 
             if (!item1.getName().equals(item2.getName())
-                || !item1.getId().equals(item2.getId())
-                || !item1.getCount().equals(item2.getCount())) {
+                || item1.getId() != item2.getId()
+                || item1.getCount() != item2.getCount()) {
                 return false;
             }
         }
@@ -138,6 +138,15 @@ public class TransactionRecord extends Order implements Displayable {
         return new TransactionCard(this, index);
     }
 
+    @Override
+    public boolean showInDisplayCard(UiPart<Region> card, int index) {
+        if (!(card instanceof TransactionCard)) {
+            return false;
+        }
+        ((TransactionCard) card).setTransaction(this, index);
+        return true;
+    }
+
     /**
      * Returns the string representation of the transaction.
      */
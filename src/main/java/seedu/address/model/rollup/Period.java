@@ -0,0 +1,32 @@
+package seedu.address.model.rollup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The lengths of time that sales and costs are totalled over.
+ * Weeks start on Monday.
+ */
+public enum Period {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * Returns the first day of the period of this length that {@code date} falls in.
+     */
+    public LocalDate startOf(LocalDate date) {
+        requireNonNull(date);
+        switch (this) {
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return date.withDayOfMonth(1);
+        default:
+            return date;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.model.rollup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.MoneyUtil;
+import seedu.address.model.item.Item;
+
+/**
+ * The revenue, costs and units sold in one period, in total and for each item sold.
+ * Only {@link SalesRollup} changes the totals.
+ */
+public class PeriodTotals {
+
+    private final LocalDate start;
+    private long revenueCents;
+    private long costCents;
+    private long unitsSold;
+
+    // Sales of each item, by item id
+    private final Map<Integer, ItemSales> itemSales = new TreeMap<>();
+
+    /**
+     * Creates empty totals for the period starting on {@code start}.
+     */
+    public PeriodTotals(LocalDate start) {
+        requireNonNull(start);
+        this.start = start;
+    }
+
+    /**
+     * Creates totals for the period starting on {@code start} with the given values, in cents.
+     */
+    public PeriodTotals(LocalDate start, long revenueCents, long costCents, long unitsSold,
+                        Collection<ItemSales> itemSales) {
+        this(start);
+        this.revenueCents = revenueCents;
+        this.costCents = costCents;
+        this.unitsSold = unitsSold;
+        itemSales.forEach(sales -> this.itemSales.put(sales.getId(), sales.copy()));
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}.
+     */
+    PeriodTotals(PeriodTotals toCopy) {
+        this(toCopy.start, toCopy.revenueCents, toCopy.costCents, toCopy.unitsSold, toCopy.itemSales.values());
+    }
+
+    /**
+     * Adds the sale of {@code item}, which has the count and sales price it was sold with.
+     */
+    void addSale(Item item) {
+        long itemRevenueCents = item.getSalesPriceCents() * item.getCount();
+        revenueCents += itemRevenueCents;
+        unitsSold += item.getCount();
+        itemSales.computeIfAbsent(item.getId(), id -> new ItemSales(id, item.getName().fullName, 0, 0))
+                .add(itemRevenueCents, item.getCount());
+    }
+
+    void addCost(long costCents) {
+        this.costCents += costCents;
+    }
+
+    /**
+     * Adds all of {@code other} to these totals.
+     */
+    void add(PeriodTotals other) {
+        revenueCents += other.revenueCents;
+        costCents += other.costCents;
+        unitsSold += other.unitsSold;
+        other.itemSales.values().forEach(sales -> itemSales.merge(sales.getId(), sales.copy(), (mine, theirs) -> {
+            mine.add(theirs.getRevenueCents(), theirs.getUnitsSold());
+            return mine;
+        }));
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public double getRevenue() {
+        return MoneyUtil.toDollars(revenueCents);
+    }
+
+    public double getCost() {
+        return MoneyUtil.toDollars(costCents);
+    }
+
+    public double getProfit() {
+        return MoneyUtil.toDollars(getProfitCents());
+    }
+
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    public long getCostCents() {
+        return costCents;
+    }
+
+    public long getProfitCents() {
+        return revenueCents - costCents;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    /**
+     * Returns the sales of each item in the period, in the order of their ids.
+     */
+    public Collection<ItemSales> getItemSales() {
+        return Collections.unmodifiableCollection(itemSales.values());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PeriodTotals)) {
+            return false;
+        }
+
+        PeriodTotals otherTotals = (PeriodTotals) other;
+        return start.equals(otherTotals.start)
+                && revenueCents == otherTotals.revenueCents
+                && costCents == otherTotals.costCents
+                && unitsSold == otherTotals.unitsSold
+                && itemSales.equals(otherTotals.itemSales);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, revenueCents, costCents, unitsSold);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: costs %s, revenue %s, profit %s, %d units sold", start,
+                MoneyUtil.format(costCents), MoneyUtil.format(revenueCents), MoneyUtil.format(getProfitCents()),
+                unitsSold);
+    }
+
+    /**
+     * The revenue and units sold of one item in a period.
+     */
+    public static class ItemSales {
+        private final int id;
+        private final String name;
+        private long revenueCents;
+        private long unitsSold;
+
+        /**
+         * Creates the sales of the item with the given {@code id} and {@code name}, with revenue in cents.
+         */
+        public ItemSales(int id, String name, long revenueCents, long unitsSold) {
+            requireNonNull(name);
+            this.id = id;
+            this.name = name;
+            this.revenueCents = revenueCents;
+            this.unitsSold = unitsSold;
+        }
+
+        private void add(long revenueCents, long unitsSold) {
+            this.revenueCents += revenueCents;
+            this.unitsSold += unitsSold;
+        }
+
+        private ItemSales copy() {
+            return new ItemSales(id, name, revenueCents, unitsSold);
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getRevenue() {
+            return MoneyUtil.toDollars(revenueCents);
+        }
+
+        public long getRevenueCents() {
+            return revenueCents;
+        }
+
+        public long getUnitsSold() {
+            return unitsSold;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof ItemSales)) {
+                return false;
+            }
+
+            ItemSales otherSales = (ItemSales) other;
+            return id == otherSales.id
+                    && name.equals(otherSales.name)
+                    && revenueCents == otherSales.revenueCents
+                    && unitsSold == otherSales.unitsSold;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, name);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (id: %06d): revenue %s, %d units sold", name, id,
+                    MoneyUtil.format(revenueCents), unitsSold);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.rollup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import seedu.address.commons.util.MoneyUtil;
+
+/**
+ * A cost recorded in a {@link SalesRollup}, with the time it was incurred.
+ * Guarantees: immutable.
+ */
+public class RecordedCost {
+
+    private final Instant time;
+    private final long costCents;
+
+    /**
+     * Creates a cost of {@code costCents} cents incurred at {@code time}.
+     */
+    public RecordedCost(Instant time, long costCents) {
+        requireNonNull(time);
+        this.time = time;
+        this.costCents = costCents;
+    }
+
+    public Instant getTime() {
+        return time;
+    }
+
+    public long getCostCents() {
+        return costCents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecordedCost // instanceof handles nulls
+                && time.equals(((RecordedCost) other).time)
+                && costCents == ((RecordedCost) other).costCents); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, costCents);
+    }
+
+    @Override
+    public String toString() {
+        return MoneyUtil.format(costCents) + " at " + time;
+    }
+}
@@ -0,0 +1,222 @@
+package seedu.address.model.rollup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.order.TransactionRecord;
+
+/**
+ * Running totals of revenue, costs and units sold for each day, week and month, kept up to date as sales and
+ * costs are recorded. A report over a range of periods therefore only reads the totals of those periods,
+ * however many transactions were made in them.
+ *
+ * Sales are totalled for each item as well. Costs are recorded without the items they were for, so they are
+ * only totalled for each period. Periods are in the time zone of the system.
+ */
+public class SalesRollup {
+
+    private final ZoneId zone;
+    private final Map<Period, NavigableMap<LocalDate, PeriodTotals>> totals = new EnumMap<>(Period.class);
+    private final List<CostListener> listeners = new ArrayList<>();
+
+    // Number of transactions at the start of the transaction list that have been recorded
+    private int transactionCount = 0;
+
+    // Incremented on every change, so that a change can be detected without comparing all totals
+    private long version = 0;
+
+    /**
+     * Creates an empty {@code SalesRollup}.
+     */
+    public SalesRollup() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates an empty {@code SalesRollup} with periods in the given {@code zone}.
+     */
+    public SalesRollup(ZoneId zone) {
+        requireNonNull(zone);
+        this.zone = zone;
+        for (Period period : Period.values()) {
+            totals.put(period, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Creates a {@code SalesRollup} from the given daily totals, which cover the first {@code transactionCount}
+     * transactions of the transaction list.
+     */
+    public SalesRollup(Collection<PeriodTotals> dailyTotals, int transactionCount) {
+        this();
+        requireNonNull(dailyTotals);
+        for (PeriodTotals dayTotals : dailyTotals) {
+            for (Period period : Period.values()) {
+                totalsFor(period, dayTotals.getStart()).add(dayTotals);
+            }
+        }
+        this.transactionCount = transactionCount;
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}, without its listeners.
+     */
+    public SalesRollup(SalesRollup toCopy) {
+        this(toCopy.zone);
+        toCopy.totals.forEach((period, periodTotals) -> periodTotals.forEach((start, periodTotal) ->
+                totals.get(period).put(start, new PeriodTotals(periodTotal))));
+        this.transactionCount = toCopy.transactionCount;
+        this.version = toCopy.version;
+    }
+
+    /**
+     * Returns a {@code SalesRollup} of the sales in {@code records}, without any costs.
+     */
+    public static SalesRollup of(List<TransactionRecord> records) {
+        SalesRollup rollup = new SalesRollup();
+        rollup.catchUp(records);
+        return rollup;
+    }
+
+    /**
+     * Records the sales of {@code transaction}, which is the next transaction of the transaction list.
+     */
+    public void recordTransaction(TransactionRecord transaction) {
+        requireNonNull(transaction);
+        LocalDate date = LocalDate.ofInstant(transaction.getTimestamp(), zone);
+        for (Period period : Period.values()) {
+            PeriodTotals periodTotals = totalsFor(period, date);
+            transaction.getOrderItems().forEach(periodTotals::addSale);
+        }
+        transactionCount++;
+        version++;
+    }
+
+    /**
+     * Records a cost of {@code costCents} cents incurred at {@code time}.
+     */
+    public void recordCost(Instant time, long costCents) {
+        requireNonNull(time);
+        LocalDate date = LocalDate.ofInstant(time, zone);
+        for (Period period : Period.values()) {
+            totalsFor(period, date).addCost(costCents);
+        }
+        version++;
+
+        RecordedCost cost = new RecordedCost(time, costCents);
+        listeners.forEach(listener -> listener.costRecorded(cost));
+    }
+
+    /**
+     * Records the transactions in {@code records}, the whole transaction list, that have not been recorded yet.
+     * If more transactions were recorded than there are in the list, the list was replaced, so all of the totals
+     * are rebuilt from it instead, which loses any costs recorded.
+     */
+    public void catchUp(List<TransactionRecord> records) {
+        requireNonNull(records);
+        if (transactionCount > records.size()) {
+            clear();
+        }
+        for (int i = transactionCount; i < records.size(); i++) {
+            recordTransaction(records.get(i));
+        }
+    }
+
+    /**
+     * Removes all totals.
+     */
+    public void clear() {
+        totals.values().forEach(Map::clear);
+        transactionCount = 0;
+        version++;
+        listeners.forEach(CostListener::cleared);
+    }
+
+    /**
+     * Adds a listener that is told of every cost recorded and every time the totals are removed.
+     */
+    public void addListener(CostListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    private PeriodTotals totalsFor(Period period, LocalDate date) {
+        return totals.get(period).computeIfAbsent(period.startOf(date), PeriodTotals::new);
+    }
+
+    /**
+     * Returns the totals of the periods of the given length that overlap the dates from {@code from} to
+     * {@code to}, both inclusive, in order. Periods with no sales or costs are left out.
+     */
+    public List<PeriodTotals> getTotals(Period period, LocalDate from, LocalDate to) {
+        requireNonNull(period);
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+
+        // Include the period that from falls in, which may start before it
+        NavigableMap<LocalDate, PeriodTotals> periodTotals = totals.get(period);
+        LocalDate previousStart = periodTotals.floorKey(from);
+        LocalDate start = previousStart != null && period.startOf(from).equals(previousStart) ? previousStart : from;
+        return List.copyOf(periodTotals.subMap(start, true, to, true).values());
+    }
+
+    /**
+     * Returns the totals of all periods of the given length, in order.
+     */
+    public List<PeriodTotals> getTotals(Period period) {
+        requireNonNull(period);
+        return List.copyOf(totals.get(period).values());
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Returns a number that changes whenever the totals change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SalesRollup // instanceof handles nulls
+                && transactionCount == ((SalesRollup) other).transactionCount
+                && totals.equals(((SalesRollup) other).totals));
+    }
+
+    @Override
+    public int hashCode() {
+        return totals.hashCode();
+    }
+
+    /**
+     * Listens for the changes to a {@code SalesRollup} that cannot be worked out again from the transaction list.
+     */
+    public interface CostListener {
+        /**
+         * Called after {@code cost} is recorded.
+         */
+        void costRecorded(RecordedCost cost);
+
+        /**
+         * Called after all totals are removed.
+         */
+        void cleared();
+    }
+}
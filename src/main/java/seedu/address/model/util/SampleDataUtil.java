@@ -18,17 +18,17 @@ import seedu.address.model.tag.Tag;
 public class SampleDataUtil {
     public static Item[] getSampleItems() {
         return new Item[] {
-            new Item(new Name("Oatmeal Cookie"), 140121, 3,
+            new Item(Name.of("Oatmeal Cookie"), 140121, 3,
                     getTagSet("baked"), 1.0, 3.0),
-            new Item(new Name("Banana Muffin"), 201928, 5,
+            new Item(Name.of("Banana Muffin"), 201928, 5,
                     getTagSet("baked"), 2.0, 4.0),
-            new Item(new Name("Pecan Pie"), 178522, 7,
+            new Item(Name.of("Pecan Pie"), 178522, 7,
                     getTagSet("baked"), 3.0, 5.0),
-            new Item(new Name("Oreo Cheesecake"), 109128, 1,
+            new Item(Name.of("Oreo Cheesecake"), 109128, 1,
                     getTagSet("desert"), 4.0, 5.0),
-            new Item(new Name("Strawberry Shortcake"), 199127, 2,
+            new Item(Name.of("Strawberry Shortcake"), 199127, 2,
                     getTagSet("desert"), 2.1, 3.2),
-            new Item(new Name("Cold Brew Coffee"), 121858, 5,
+            new Item(Name.of("Cold Brew Coffee"), 121858, 5,
                     getTagSet("beverage"), 3.2, 4.4),
         };
     }
@@ -46,14 +46,14 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
     public static ReadOnlyBookKeeping getSampleBookKeeping() {
-        double cost = Arrays.stream(getSampleItems())
-                .map(item -> item.getCostPrice() * item.getCount()).reduce((a, b) -> a + b).get();
-        return new BookKeeping(0.0, cost);
+        long costCents = Arrays.stream(getSampleItems())
+                .mapToLong(item -> item.getCostPriceCents() * item.getCount()).sum();
+        return BookKeeping.fromCents(0, costCents);
     }
 
 }
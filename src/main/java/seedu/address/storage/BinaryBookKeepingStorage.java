@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.BookKeeping;
+import seedu.address.model.ReadOnlyBookKeeping;
+
+/**
+ * A class to access BookKeeping data stored in the binary snapshot format on the hard disk.
+ */
+public class BinaryBookKeepingStorage implements BookKeepingStorage {
+
+    static final byte KIND = 'B';
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryBookKeepingStorage.class);
+
+    private Path filePath;
+
+    public BinaryBookKeepingStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getBookKeepingPath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBookKeeping> readBookKeeping() throws DataConversionException {
+        return readBookKeeping(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyBookKeeping> readBookKeeping(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readBookKeepingFile);
+    }
+
+    private Optional<ReadOnlyBookKeeping> readBookKeepingFile(Path filePath) throws DataConversionException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            BinaryDataInput input = new BinaryDataInput(inputStream);
+            input.readHeader(KIND);
+
+            long revenueCents = input.readPrice();
+            long costCents = input.readPrice();
+            return Optional.of(BookKeeping.fromCents(revenueCents, costCents));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveBookKeeping(ReadOnlyBookKeeping bookKeeping) throws IOException {
+        saveBookKeeping(bookKeeping, filePath);
+    }
+
+    @Override
+    public void saveBookKeeping(ReadOnlyBookKeeping bookKeeping, Path filePath) throws IOException {
+        requireNonNull(bookKeeping);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileKeepingBackup(filePath, outputStream -> {
+            BinaryDataOutput output = new BinaryDataOutput(outputStream);
+            output.writeHeader(KIND);
+            output.writePrice(bookKeeping.getRevenueCents());
+            output.writePrice(bookKeeping.getCostCents());
+            output.flush();
+        });
+    }
+}
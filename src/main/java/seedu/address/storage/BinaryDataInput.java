@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.MoneyUtil;
+
+/**
+ * Reads data in the binary snapshot format written by {@link BinaryDataOutput}.
+ */
+class BinaryDataInput {
+
+    static final long MAX_CENTS = 1L << 52;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VAR_LONG_BYTES = 10;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    // Data is read either from inputStream through buffer, or straight from byteBuffer
+    private final InputStream inputStream;
+    private final byte[] buffer;
+    private final ByteBuffer byteBuffer;
+    private int position = 0;
+    private int limit = 0;
+
+    BinaryDataInput(InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.byteBuffer = null;
+    }
+
+    /**
+     * Creates a {@code BinaryDataInput} that reads from the current position of {@code byteBuffer} up to its limit,
+     * advancing its position.
+     */
+    BinaryDataInput(ByteBuffer byteBuffer) {
+        this.inputStream = null;
+        this.buffer = null;
+        this.byteBuffer = byteBuffer;
+    }
+
+    /**
+     * Reads the header of a file and checks that it holds data of the given {@code kind}, in a supported version.
+     *
+     * @return the version of the format the file was written in.
+     * @throws IllegalValueException if the header is not as expected.
+     */
+    int readHeader(byte kind) throws IOException, IllegalValueException {
+        byte[] magic = new byte[BinaryDataOutput.MAGIC.length];
+        for (int i = 0; i < magic.length; i++) {
+            magic[i] = (byte) readByte();
+        }
+        if (!Arrays.equals(magic, BinaryDataOutput.MAGIC) || readByte() != kind) {
+            throw new IllegalValueException("Not a binary data file of the expected kind");
+        }
+
+        long version = readVarLong();
+        if (version < BinaryDataOutput.FIRST_VERSION || version > BinaryDataOutput.VERSION) {
+            throw new IllegalValueException("Unsupported binary data file version " + version);
+        }
+        return (int) version;
+    }
+
+    /**
+     * Returns the next byte.
+     *
+     * @throws EOFException if the end of the stream has been reached.
+     */
+    int readByte() throws IOException {
+        if (byteBuffer != null) {
+            if (!byteBuffer.hasRemaining()) {
+                throw new EOFException("Unexpected end of binary data file");
+            }
+            return byteBuffer.get() & 0xFF;
+        }
+
+        if (position == limit) {
+            limit = inputStream.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                throw new EOFException("Unexpected end of binary data file");
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() throws IOException, IllegalValueException {
+        long value = 0;
+        for (int i = 0; i < MAX_VAR_LONG_BYTES; i++) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException("Malformed number in binary data file");
+    }
+
+    long readSignedVarLong() throws IOException, IllegalValueException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readSignedVarInt() throws IOException, IllegalValueException {
+        long value = readSignedVarLong();
+        if (value != (int) value) {
+            throw new IllegalValueException("Number out of range in binary data file: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a count of elements that follow, which cannot be negative.
+     */
+    int readCount() throws IOException, IllegalValueException {
+        long count = readVarLong();
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalValueException("Count out of range in binary data file: " + count);
+        }
+        return (int) count;
+    }
+
+    int readInt() throws IOException {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    long readLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    /**
+     * Reads a price in cents. A price written as a {@code double} is rounded to the nearest cent.
+     *
+     * @see BinaryDataOutput#writePrice(long)
+     */
+    long readPrice() throws IOException, IllegalValueException {
+        long value = readVarLong();
+        if ((value & 1) == 1) {
+            double price = Double.longBitsToDouble(readLong());
+            if (!(Math.abs(price) < MAX_CENTS / 100.0)) {
+                throw new IllegalValueException("Price out of range in binary data file: " + price);
+            }
+            return MoneyUtil.toCents(price);
+        }
+
+        long zigZagCents = value >>> 1;
+        return (zigZagCents >>> 1) ^ -(zigZagCents & 1);
+    }
+
+    String readString() throws IOException, IllegalValueException {
+        int length = readCount();
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalValueException("String too long in binary data file: " + length);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) readByte();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string written by {@link BinaryDataOutput#writeDictionaryString} and returns it as parsed by
+     * {@code parser}. Each new string is parsed once and added to {@code dictionary}.
+     *
+     * @throws IllegalValueException if the string is not an entry of the dictionary or is rejected by {@code parser}.
+     */
+    <T> T readDictionaryValue(List<T> dictionary, ValueParser<T> parser) throws IOException, IllegalValueException {
+        int index = readCount();
+        if (index == 0) {
+            T value = parser.parse(readString());
+            dictionary.add(value);
+            return value;
+        }
+        if (index > dictionary.size()) {
+            throw new IllegalValueException("Unknown dictionary entry in binary data file: " + index);
+        }
+        return dictionary.get(index - 1);
+    }
+
+    /**
+     * Returns an empty dictionary for {@link #readDictionaryValue}.
+     */
+    static <T> List<T> newDictionary() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Parses a string read from a binary data file into a model object.
+     */
+    @FunctionalInterface
+    interface ValueParser<T> {
+        T parse(String value) throws IllegalValueException;
+    }
+}
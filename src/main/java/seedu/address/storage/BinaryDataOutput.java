@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes data in the binary snapshot format read by {@link BinaryDataInput}.
+ *
+ * Integers are written as variable-length quantities, 7 bits per byte, so that small ids and counts take a single
+ * byte. Prices are written as a whole number of cents. Repeated strings, such as tag names,
+ * can be written as an index into a dictionary of the strings written before them.
+ * The output stream is not flushed or closed until {@link #flush()} is called.
+ */
+class BinaryDataOutput {
+
+    static final byte[] MAGIC = {'B', 'O', 'G', 'O'};
+    static final int FIRST_VERSION = 1;
+    // Version 2 stores each transaction as a separate record, see BinaryTransactionStorage
+    static final int VERSION = 2;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream outputStream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+
+    BinaryDataOutput(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Writes the header of a file that holds data of the given {@code kind}.
+     */
+    void writeHeader(byte kind) throws IOException {
+        for (byte b : MAGIC) {
+            writeByte(b);
+        }
+        writeByte(kind);
+        writeVarLong(VERSION);
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeHeader} writes.
+     */
+    static int headerSize() {
+        return MAGIC.length + 1 + varLongSize(VERSION);
+    }
+
+    void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as possible.
+     */
+    void writeVarLong(long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeVarLong} writes for {@code value}.
+     */
+    static int varLongSize(long value) {
+        assert value >= 0;
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    /**
+     * Writes {@code value}, which may be negative, in as few bytes as possible.
+     */
+    void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeInt(int value) throws IOException {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            writeByte(value >>> shift);
+        }
+    }
+
+    void writeLong(long value) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (value >>> shift));
+        }
+    }
+
+    /**
+     * Writes a price of {@code cents} cents. Files written before prices were kept in cents may instead hold a
+     * {@code double} where a price was not a whole number of cents; the lowest bit of the first number written
+     * tells the two apart.
+     */
+    void writePrice(long cents) throws IOException {
+        assert Math.abs(cents) < BinaryDataInput.MAX_CENTS;
+        writeVarLong(((cents << 1) ^ (cents >> 63)) << 1);
+    }
+
+    void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        writeBytes(bytes);
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        for (byte b : bytes) {
+            writeByte(b);
+        }
+    }
+
+    /**
+     * Writes {@code value} as an index into {@code dictionary}, adding it to the dictionary if it is new.
+     * A new string is written in full, after the index 0.
+     */
+    void writeDictionaryString(String value, Map<String, Integer> dictionary) throws IOException {
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarLong(index + 1);
+            return;
+        }
+
+        writeVarLong(0);
+        writeString(value);
+        dictionary.put(value, dictionary.size());
+    }
+
+    /**
+     * Returns an empty dictionary for {@link #writeDictionaryString}.
+     */
+    static Map<String, Integer> newDictionary() {
+        return new HashMap<>();
+    }
+
+    /**
+     * Writes all buffered data to the output stream and flushes it.
+     */
+    void flush() throws IOException {
+        flushBuffer();
+        outputStream.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        outputStream.write(buffer, 0, position);
+        position = 0;
+    }
+}
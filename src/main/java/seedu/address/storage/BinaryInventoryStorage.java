@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Inventory;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access Inventory data stored in the binary snapshot format on the hard disk.
+ * Each item is stored as its name, id, count, cost price, sales price and tags, without any field names.
+ * Each tag name is stored once, and referred to by its index after that.
+ */
+public class BinaryInventoryStorage implements InventoryStorage {
+
+    static final byte KIND = 'I';
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryInventoryStorage.class);
+
+    private Path filePath;
+
+    public BinaryInventoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getInventoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException {
+        return readInventory(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInventory()}.
+     * If the file is missing or damaged, the previous version kept when it was last saved is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readInventoryFile);
+    }
+
+    private Optional<ReadOnlyInventory> readInventoryFile(Path filePath) throws DataConversionException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            BinaryDataInput input = new BinaryDataInput(inputStream);
+            input.readHeader(KIND);
+
+            Inventory inventory = new Inventory();
+            List<Tag> tagDictionary = BinaryDataInput.newDictionary();
+            int itemCount = input.readCount();
+            for (int i = 0; i < itemCount; i++) {
+                Item item = readItem(input, tagDictionary);
+                if (inventory.hasItem(item)) {
+                    throw new IllegalValueException(JsonSerializableInventory.MESSAGE_DUPLICATE_ITEM);
+                }
+                inventory.addItem(item);
+            }
+            return Optional.of(inventory);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Item readItem(BinaryDataInput input, List<Tag> tagDictionary)
+            throws IOException, IllegalValueException {
+        String name = input.readString();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        int id = input.readSignedVarInt();
+        int count = input.readSignedVarInt();
+        long costPriceCents = input.readPrice();
+        long salesPriceCents = input.readPrice();
+
+        int tagCount = input.readCount();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(input.readDictionaryValue(tagDictionary, BinaryInventoryStorage::parseTag));
+        }
+        return new Item(Name.of(name), id, count, tags, costPriceCents, salesPriceCents);
+    }
+
+    private static Tag parseTag(String tagName) throws IllegalValueException {
+        if (!Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return Tag.of(tagName);
+    }
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        saveInventory(inventory, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInventory(ReadOnlyInventory)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        requireNonNull(inventory);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileKeepingBackup(filePath, outputStream -> {
+            BinaryDataOutput output = new BinaryDataOutput(outputStream);
+            output.writeHeader(KIND);
+
+            List<Item> items = inventory.getItemList();
+            Map<String, Integer> tagDictionary = BinaryDataOutput.newDictionary();
+            output.writeVarLong(items.size());
+            for (Item item : items) {
+                writeItem(output, item, tagDictionary);
+            }
+            output.flush();
+        });
+    }
+
+    private static void writeItem(BinaryDataOutput output, Item item, Map<String, Integer> tagDictionary)
+            throws IOException {
+        output.writeString(item.getName().fullName);
+        output.writeSignedVarLong(item.getId());
+        output.writeSignedVarLong(item.getCount());
+        output.writePrice(item.getCostPriceCents());
+        output.writePrice(item.getSalesPriceCents());
+
+        output.writeVarLong(item.getTags().size());
+        for (Tag tag : item.getTags()) {
+            output.writeDictionaryString(tag.tagName, tagDictionary);
+        }
+    }
+
+}
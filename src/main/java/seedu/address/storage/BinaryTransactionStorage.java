@@ -0,0 +1,459 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.MoneyUtil;
+import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.TransactionList;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.order.TransactionRecord;
+
+/**
+ * A class to access TransactionRecord List data stored in the binary snapshot format on the hard disk.
+ *
+ * Each transaction is stored as a separate record of its id, timestamp and transacted items, preceded by the length
+ * and checksum of the record. The file is memory-mapped when it is read, and a transaction is only decoded when
+ * it is used, so reading the transaction history does not take longer as it grows.
+ * Saving a transaction list that only has new transactions added to the end of it appends just those transactions
+ * to the file. Files written in version 1 of the format, before transactions were stored as records, are read in full.
+ *
+ * The position, checksum, id hash and timestamp of each record are also saved in an index file next to the
+ * transaction file, so that the records do not all have to be read when the file is opened. The index is only an
+ * aid: a missing index, or one that does not match the file, just means the records are read in full, after which
+ * the index is written again.
+ */
+public class BinaryTransactionStorage implements TransactionStorage {
+
+    static final byte KIND = 'T';
+    static final int FIRST_RECORDS_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTransactionStorage.class);
+    private static final long TRANSACTED_COST_PRICE_CENTS = MoneyUtil.toCents(-1.0);
+    private static final String RETIRED_FILE_EXTENSION = ".old";
+    private static final String INDEX_FILE_EXTENSION = ".idx";
+
+    private Path filePath;
+
+    // The transactions known to be saved at filePath, only valid when isInSync is true
+    private boolean isInSync = false;
+    private int savedCount;
+    private TransactionRecord lastSaved;
+    private long savedLength;
+
+    public BinaryTransactionStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTransactionFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTransactionList> readTransactionList() throws DataConversionException {
+        return readTransactionList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTransactionList> readTransactionList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readTransactionListFile);
+    }
+
+    private Optional<ReadOnlyTransactionList> readTransactionListFile(Path filePath) throws DataConversionException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        removeRetiredBackups(filePath);
+
+        try {
+            if (readVersion(filePath) < FIRST_RECORDS_VERSION) {
+                if (filePath.equals(this.filePath)) {
+                    isInSync = false;
+                }
+                return Optional.of(readVersion1File(filePath));
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        ByteBuffer savedIndex = readIndex(filePath);
+        boolean hasIndex = savedIndex.hasRemaining();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedTransactionHistory history = MappedTransactionHistory.index(channel, savedIndex);
+            if (filePath.equals(this.filePath)) {
+                markSaved(history, history.getValidLength());
+                if (!hasIndex || !history.isFullyIndexed()) {
+                    writeIndex(filePath, history::writeIndex);
+                }
+            }
+            return Optional.of(new TransactionList(history));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the path of the index file of the transaction file at {@code filePath}.
+     */
+    static Path getIndexPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the contents of the index file of {@code filePath}, or an empty buffer if it cannot be read.
+     */
+    private static ByteBuffer readIndex(Path filePath) {
+        Path indexPath = getIndexPath(filePath);
+        if (!FileUtil.isFileExists(indexPath)) {
+            return ByteBuffer.allocate(0);
+        }
+        try {
+            return ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        } catch (IOException e) {
+            logger.warning("Error reading from transaction index " + indexPath + ": " + e);
+            return ByteBuffer.allocate(0);
+        }
+    }
+
+    /**
+     * Writes the index file of {@code filePath}. Failing to do so is logged rather than thrown, since the
+     * transactions are saved without it.
+     */
+    private static void writeIndex(Path filePath, FileUtil.StreamWriter writer) {
+        Path indexPath = getIndexPath(filePath);
+        try {
+            FileUtil.writeToFile(indexPath, writer);
+        } catch (IOException e) {
+            logger.warning("Error writing transaction index " + indexPath + ": " + e);
+        }
+    }
+
+    private static int readVersion(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return new BinaryDataInput(inputStream).readHeader(KIND);
+        }
+    }
+
+    /**
+     * Reads a file written in version 1 of the format, which holds the number of transactions followed by the
+     * transactions, with each item name stored once in a dictionary. Transactions cannot be appended to such a file,
+     * so it is rewritten in the current version when the transaction list is next saved.
+     */
+    private static TransactionList readVersion1File(Path filePath) throws IOException, IllegalValueException {
+        logger.info("Reading " + filePath + " in version 1 of the binary format");
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            BinaryDataInput input = new BinaryDataInput(inputStream);
+            input.readHeader(KIND);
+
+            List<Name> nameDictionary = BinaryDataInput.newDictionary();
+            int transactionCount = input.readCount();
+            ArrayList<TransactionRecord> transactionRecords = new ArrayList<>();
+            for (int i = 0; i < transactionCount; i++) {
+                String id = input.readString();
+                Instant timestamp = readTimestamp(input);
+
+                int itemCount = input.readCount();
+                List<Item> items = new ArrayList<>();
+                for (int j = 0; j < itemCount; j++) {
+                    Name name = input.readDictionaryValue(nameDictionary, BinaryTransactionStorage::parseName);
+                    items.add(readItemAfterName(input, name));
+                }
+                transactionRecords.add(new TransactionRecord(items, id, timestamp));
+            }
+            return new TransactionList(transactionRecords);
+        }
+    }
+
+    /**
+     * Reads a transaction written by {@link #writeTransaction}.
+     */
+    static TransactionRecord readTransaction(BinaryDataInput input) throws IOException, IllegalValueException {
+        String id = input.readString();
+        Instant timestamp = readTimestamp(input);
+
+        int itemCount = input.readCount();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(readItemAfterName(input, parseName(input.readString())));
+        }
+        return new TransactionRecord(items, id, timestamp);
+    }
+
+    /**
+     * Reads the rest of a transacted item, whose name has already been read.
+     */
+    private static Item readItemAfterName(BinaryDataInput input, Name name) throws IOException, IllegalValueException {
+        int itemId = input.readSignedVarInt();
+        int count = input.readSignedVarInt();
+        long salesPriceCents = input.readPrice();
+        return new Item(name, itemId, count, Collections.emptySet(), TRANSACTED_COST_PRICE_CENTS, salesPriceCents);
+    }
+
+    /**
+     * Reads the timestamp of a transaction, which follows its id.
+     */
+    static Instant readTimestamp(BinaryDataInput input) throws IOException, IllegalValueException {
+        long epochSecond = input.readSignedVarLong();
+        int nanos = input.readSignedVarInt();
+        try {
+            return Instant.ofEpochSecond(epochSecond, nanos);
+        } catch (RuntimeException e) {
+            throw new IllegalValueException("Invalid timestamp in binary data file: " + e.getMessage());
+        }
+    }
+
+    private static Name parseName(String name) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return Name.of(name);
+    }
+
+    @Override
+    public void saveTransactionList(ReadOnlyTransactionList transactionList) throws IOException {
+        saveTransactionList(transactionList, filePath);
+    }
+
+    @Override
+    public void saveTransactionList(ReadOnlyTransactionList transactionList, Path filePath) throws IOException {
+        requireNonNull(transactionList);
+        requireNonNull(filePath);
+
+        List<TransactionRecord> records = transactionList.getTransactionRecordList();
+        if (!filePath.equals(this.filePath) || !isAppendedToSaved(records) || !isFileAsSaved()) {
+            writeFile(records, filePath);
+            return;
+        }
+
+        try {
+            appendToFile(records.subList(savedCount, records.size()));
+        } catch (IOException ioe) {
+            isInSync = false;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns true if {@code records} consists of the saved transactions followed by zero or more new ones.
+     */
+    private boolean isAppendedToSaved(List<TransactionRecord> records) {
+        return isInSync
+                && records.size() >= savedCount
+                && (savedCount == 0 || records.get(savedCount - 1).equals(lastSaved));
+    }
+
+    /**
+     * Returns true if the file ends with the saved transactions. A file that has anything after them, such as an
+     * incomplete record left behind by a crash, is rewritten rather than truncated, since it may still be mapped.
+     */
+    private boolean isFileAsSaved() throws IOException {
+        return FileUtil.isFileExists(filePath) && Files.size(filePath) == savedLength;
+    }
+
+    /**
+     * Appends {@code newRecords} to the end of the saved transactions.
+     */
+    private void appendToFile(List<TransactionRecord> newRecords) throws IOException {
+        if (newRecords.isEmpty()) {
+            return;
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream indexEntries = new ByteArrayOutputStream();
+        writeRecords(new BinaryDataOutput(outputStream), newRecords, savedLength, indexEntries);
+        ByteBuffer bytes = ByteBuffer.wrap(outputStream.toByteArray());
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.position(savedLength);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+
+        appendToIndex(indexEntries.toByteArray());
+        savedCount += newRecords.size();
+        lastSaved = newRecords.get(newRecords.size() - 1);
+        savedLength += outputStream.size();
+    }
+
+    /**
+     * Appends {@code indexEntries}, the index entries of the records just appended, to the index file if it holds
+     * the entries of all the saved transactions. Otherwise the index file is removed, to be written again when the
+     * transactions are next read.
+     */
+    private void appendToIndex(byte[] indexEntries) {
+        Path indexPath = getIndexPath(filePath);
+        try {
+            long expectedSize = BinaryDataOutput.headerSize()
+                    + (long) savedCount * MappedTransactionHistory.INDEX_ENTRY_SIZE;
+            if (FileUtil.isFileExists(indexPath) && Files.size(indexPath) == expectedSize) {
+                Files.write(indexPath, indexEntries, StandardOpenOption.APPEND);
+            } else {
+                Files.deleteIfExists(indexPath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error appending to transaction index " + indexPath + ": " + e);
+        }
+    }
+
+    /**
+     * Writes all of {@code records} to a new file at {@code filePath}, replacing the previous one, and writes its
+     * index file.
+     */
+    private void writeFile(List<TransactionRecord> records, Path filePath) throws IOException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        retireBackup(filePath);
+        // The index of the previous file must not outlive it
+        Files.deleteIfExists(getIndexPath(filePath));
+        ByteArrayOutputStream indexEntries = new ByteArrayOutputStream();
+        FileUtil.writeToFileKeepingBackup(filePath, outputStream -> {
+            BinaryDataOutput output = new BinaryDataOutput(outputStream);
+            output.writeHeader(KIND);
+            indexEntries.reset();
+            writeRecords(output, records, BinaryDataOutput.headerSize(), indexEntries);
+        });
+        writeIndex(filePath, outputStream -> {
+            BinaryDataOutput output = new BinaryDataOutput(outputStream);
+            output.writeHeader(MappedTransactionHistory.INDEX_KIND);
+            output.flush();
+            indexEntries.writeTo(outputStream);
+        });
+
+        if (isOwnFile) {
+            markSaved(records, Files.size(filePath));
+        }
+    }
+
+    /**
+     * Removes the backup of {@code filePath} before the file replaces it. A transaction history read earlier may
+     * still have the backup mapped into memory, and a mapped file cannot be deleted or replaced on some platforms,
+     * such as Windows, although it can be renamed. Such a backup is renamed out of the way instead, and removed by
+     * {@link #removeRetiredBackups} once it is no longer mapped.
+     */
+    private static void retireBackup(Path filePath) throws IOException {
+        Path backupPath = FileUtil.getBackupPath(filePath);
+        try {
+            Files.deleteIfExists(backupPath);
+        } catch (IOException e) {
+            Path retiredPath = Files.createTempFile(backupPath.toAbsolutePath().getParent(),
+                    backupPath.getFileName() + ".", RETIRED_FILE_EXTENSION);
+            Files.move(backupPath, retiredPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Moved " + backupPath + ", which is still in use, to " + retiredPath);
+        }
+    }
+
+    /**
+     * Removes the backups of {@code filePath} retired by {@link #retireBackup} that are no longer in use.
+     */
+    private static void removeRetiredBackups(Path filePath) {
+        Path directory = filePath.toAbsolutePath().getParent();
+        String prefix = FileUtil.getBackupPath(filePath).getFileName() + ".";
+        try (DirectoryStream<Path> retiredPaths = Files.newDirectoryStream(directory, path ->
+                path.getFileName().toString().startsWith(prefix)
+                        && path.getFileName().toString().endsWith(RETIRED_FILE_EXTENSION))) {
+            for (Path retiredPath : retiredPaths) {
+                try {
+                    Files.deleteIfExists(retiredPath);
+                } catch (IOException e) {
+                    logger.fine(retiredPath + " is still in use");
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to remove retired backups of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Writes each of {@code records} to {@code output} as a record preceded by its length and checksum,
+     * and flushes it. The index entry of each record, which starts at {@code position} in the file, is written to
+     * {@code indexEntries}.
+     */
+    private static void writeRecords(BinaryDataOutput output, List<TransactionRecord> records, long position,
+            ByteArrayOutputStream indexEntries) throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        BinaryDataOutput recordOutput = new BinaryDataOutput(recordBytes);
+        CRC32 crc = new CRC32();
+        ByteBuffer indexEntry = ByteBuffer.allocate(MappedTransactionHistory.INDEX_ENTRY_SIZE);
+        for (TransactionRecord record : records) {
+            recordBytes.reset();
+            writeTransaction(recordOutput, record);
+            recordOutput.flush();
+            byte[] bytes = recordBytes.toByteArray();
+
+            crc.reset();
+            crc.update(bytes);
+            output.writeVarLong(bytes.length);
+            output.writeInt((int) crc.getValue());
+            output.writeBytes(bytes);
+
+            position += MappedTransactionHistory.recordPrefixSize(bytes.length);
+            indexEntry.clear();
+            MappedTransactionHistory.writeIndexEntry(indexEntry, position, bytes.length, (int) crc.getValue(), record);
+            indexEntries.write(indexEntry.array());
+            position += bytes.length;
+        }
+        output.flush();
+    }
+
+    private static void writeTransaction(BinaryDataOutput output, TransactionRecord transactionRecord)
+            throws IOException {
+        output.writeString(transactionRecord.getId());
+        output.writeSignedVarLong(transactionRecord.getTimestamp().getEpochSecond());
+        output.writeSignedVarLong(transactionRecord.getTimestamp().getNano());
+
+        List<Item> items = transactionRecord.getOrderItems();
+        output.writeVarLong(items.size());
+        for (Item item : items) {
+            output.writeString(item.getName().fullName);
+            output.writeSignedVarLong(item.getId());
+            output.writeSignedVarLong(item.getCount());
+            output.writePrice(item.getSalesPriceCents());
+        }
+    }
+
+    private void markSaved(List<TransactionRecord> records, long length) {
+        isInSync = true;
+        savedCount = records.size();
+        lastSaved = records.isEmpty() ? null : records.get(records.size() - 1);
+        savedLength = length;
+    }
+}
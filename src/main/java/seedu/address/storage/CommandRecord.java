@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.BookKeeping;
+import seedu.address.model.ReadOnlyBookKeeping;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.rollup.RecordedCost;
+
+/**
+ * The changes made to the inventory, transaction list, bookkeeping and sales rollups by a single command,
+ * as recorded in the {@link WriteAheadLog}. Only the costs recorded in sales rollups are kept, as their sales
+ * can be worked out again from the transactions.
+ */
+public class CommandRecord {
+
+    private final List<ItemListChange> inventoryChanges;
+    private final boolean isTransactionListReset;
+    private final List<TransactionRecord> addedTransactions;
+    private final BookKeeping bookKeeping;
+    private final boolean isRollupReset;
+    private final List<RecordedCost> rollupCosts;
+
+    /**
+     * Creates a {@code CommandRecord} of a command that did not record any costs in the sales rollups.
+     *
+     * @see #CommandRecord(List, boolean, List, ReadOnlyBookKeeping, boolean, List)
+     */
+    public CommandRecord(List<ItemListChange> inventoryChanges, boolean isTransactionListReset,
+                         List<TransactionRecord> addedTransactions, ReadOnlyBookKeeping bookKeeping) {
+        this(inventoryChanges, isTransactionListReset, addedTransactions, bookKeeping, false, List.of());
+    }
+
+    /**
+     * Creates a {@code CommandRecord}.
+     *
+     * @param inventoryChanges the changes made to the inventory's item list, in order.
+     * @param isTransactionListReset true if the transaction list was emptied before adding {@code addedTransactions}.
+     * @param addedTransactions the transactions added to the end of the transaction list.
+     * @param bookKeeping the bookkeeping after the command, or null if it was not changed.
+     * @param isRollupReset true if the sales rollups were emptied before recording {@code rollupCosts}.
+     * @param rollupCosts the costs recorded in the sales rollups, in order.
+     */
+    public CommandRecord(List<ItemListChange> inventoryChanges, boolean isTransactionListReset,
+                         List<TransactionRecord> addedTransactions, ReadOnlyBookKeeping bookKeeping,
+                         boolean isRollupReset, List<RecordedCost> rollupCosts) {
+        requireAllNonNull(inventoryChanges, addedTransactions, rollupCosts);
+        this.inventoryChanges = Collections.unmodifiableList(new ArrayList<>(inventoryChanges));
+        this.isTransactionListReset = isTransactionListReset;
+        this.addedTransactions = Collections.unmodifiableList(new ArrayList<>(addedTransactions));
+        this.bookKeeping = bookKeeping == null ? null : new BookKeeping(bookKeeping);
+        this.isRollupReset = isRollupReset;
+        this.rollupCosts = Collections.unmodifiableList(new ArrayList<>(rollupCosts));
+    }
+
+    public List<ItemListChange> getInventoryChanges() {
+        return inventoryChanges;
+    }
+
+    public boolean isTransactionListReset() {
+        return isTransactionListReset;
+    }
+
+    public List<TransactionRecord> getAddedTransactions() {
+        return addedTransactions;
+    }
+
+    public Optional<ReadOnlyBookKeeping> getBookKeeping() {
+        return Optional.ofNullable(bookKeeping);
+    }
+
+    public boolean isRollupReset() {
+        return isRollupReset;
+    }
+
+    public List<RecordedCost> getRollupCosts() {
+        return rollupCosts;
+    }
+
+    /**
+     * Returns true if the command did not change anything.
+     */
+    public boolean isEmpty() {
+        return inventoryChanges.isEmpty() && !isTransactionListReset && addedTransactions.isEmpty()
+                && bookKeeping == null && !isRollupReset && rollupCosts.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CommandRecord)) {
+            return false;
+        }
+
+        CommandRecord otherRecord = (CommandRecord) other;
+        return inventoryChanges.equals(otherRecord.inventoryChanges)
+                && isTransactionListReset == otherRecord.isTransactionListReset
+                && addedTransactions.equals(otherRecord.addedTransactions)
+                && Objects.equals(bookKeeping, otherRecord.bookKeeping)
+                && isRollupReset == otherRecord.isRollupReset
+                && rollupCosts.equals(otherRecord.rollupCosts);
+    }
+}
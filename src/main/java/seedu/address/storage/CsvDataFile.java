@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.MoneyUtil;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes items and transactions as CSV files, one row at a time, so that large files are never held
+ * in memory as text.
+ *
+ * An item row holds the name, id, count, cost price, sales price and the tags of the item separated by spaces.
+ * A transaction row holds one item of a transaction, after the id and time of the transaction.
+ */
+public class CsvDataFile {
+
+    public static final String ITEM_HEADER = "name,id,count,costPrice,salesPrice,tags";
+    public static final String TRANSACTION_HEADER = "transactionId,timestamp,name,id,count,salesPrice";
+
+    public static final String MESSAGE_INVALID_HEADER = "The first line of the file must be: %1$s";
+    public static final String MESSAGE_INVALID_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_INVALID_COUNT = "The count must be an integer from 0 to 999,999!";
+
+    private static final int MAX_ID_LENGTH = 6;
+    private static final BigDecimal MAX_PRICE = BigDecimal.valueOf(10000000);
+    private static final int MAX_PLAIN_DOLLAR_DIGITS = 7;
+    private static final Pattern TAG_SEPARATOR = Pattern.compile(" +");
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final int ITEM_FIELD_COUNT = 6;
+
+    private CsvDataFile() {} // prevents instantiation
+
+    /**
+     * Reads the items in the CSV file at {@code filePath}, in the order of their rows.
+     * The tags field of a row may be left out.
+     *
+     * @throws IllegalValueException if the file has no item header, or a row does not hold a valid item.
+     *     The message names the line of the row.
+     * @throws IOException if there was any problem reading the file.
+     */
+    public static List<Item> readItems(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        List<Item> items = new ArrayList<>();
+        // Most rows share their tags with many others, so each distinct tags field is only parsed once
+        Map<String, Set<Tag>> tagSets = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !stripByteOrderMark(header).trim().equalsIgnoreCase(ITEM_HEADER)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_HEADER, ITEM_HEADER));
+            }
+
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    items.add(parseItem(CsvUtil.splitRow(line), tagSets));
+                } catch (IllegalValueException e) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_ROW, lineNumber, e.getMessage()), e);
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Writes {@code items} to a CSV file at {@code filePath}, replacing the file if it exists.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void writeItems(Path filePath, List<Item> items) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(items);
+
+        FileUtil.writeToFile(filePath, outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.append(ITEM_HEADER).append(System.lineSeparator());
+            for (Item item : items) {
+                CsvUtil.appendRow(writer, item.getName().fullName, String.valueOf(item.getId()),
+                        String.valueOf(item.getCount()),
+                        MoneyUtil.toDecimalDollars(item.getCostPriceCents()).toPlainString(),
+                        MoneyUtil.toDecimalDollars(item.getSalesPriceCents()).toPlainString(),
+                        item.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(" ")));
+            }
+            writer.flush();
+        });
+    }
+
+    /**
+     * Writes the items of each of {@code transactions} to a CSV file at {@code filePath}, one row per item,
+     * replacing the file if it exists.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void writeTransactions(Path filePath, List<TransactionRecord> transactions) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(transactions);
+
+        FileUtil.writeToFile(filePath, outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.append(TRANSACTION_HEADER).append(System.lineSeparator());
+            for (TransactionRecord transaction : transactions) {
+                String id = transaction.getId();
+                String timestamp = transaction.getTimestamp().toString();
+                for (Item item : transaction.getOrderItems()) {
+                    CsvUtil.appendRow(writer, id, timestamp, item.getName().fullName, String.valueOf(item.getId()),
+                            String.valueOf(item.getCount()),
+                            MoneyUtil.toDecimalDollars(item.getSalesPriceCents()).toPlainString());
+                }
+            }
+            writer.flush();
+        });
+    }
+
+    private static Item parseItem(List<String> fields, Map<String, Set<Tag>> tagSets)
+            throws IllegalValueException {
+        if (fields.size() != ITEM_FIELD_COUNT && fields.size() != ITEM_FIELD_COUNT - 1) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, ITEM_FIELD_COUNT,
+                    fields.size()));
+        }
+
+        String name = fields.get(0).trim();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        int id = parseId(fields.get(1).trim());
+        int count = parseCount(fields.get(2).trim());
+        long costPriceCents = parsePrice(fields.get(3).trim());
+        long salesPriceCents = parsePrice(fields.get(4).trim());
+
+        String tagNames = fields.size() == ITEM_FIELD_COUNT ? fields.get(5).trim() : "";
+        Set<Tag> tags = tagSets.get(tagNames);
+        if (tags == null) {
+            tags = parseTags(tagNames);
+            tagSets.put(tagNames, tags);
+        }
+
+        return new Item(Name.of(name), id, count, tags, costPriceCents, salesPriceCents);
+    }
+
+    private static Set<Tag> parseTags(String tagNames) throws IllegalValueException {
+        Set<Tag> tags = new HashSet<>();
+        if (!tagNames.isEmpty()) {
+            for (String tagName : TAG_SEPARATOR.split(tagNames)) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(Tag.of(tagName));
+            }
+        }
+        return tags;
+    }
+
+    private static int parseId(String id) throws IllegalValueException {
+        int idValue;
+        try {
+            idValue = Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_ID_FORMAT);
+        }
+        if (id.length() > MAX_ID_LENGTH || idValue < 0) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_ID_LENGTH_AND_SIGN);
+        }
+        return idValue;
+    }
+
+    private static int parseCount(String count) throws IllegalValueException {
+        try {
+            int countValue = Integer.parseInt(count);
+            if (countValue >= 0 && countValue <= Item.MAX_COUNT) {
+                return countValue;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, as for a count out of range
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_COUNT);
+    }
+
+    private static long parsePrice(String price) throws IllegalValueException {
+        long cents = parsePlainCents(price);
+        if (cents >= 0) {
+            return cents;
+        }
+
+        BigDecimal priceValue;
+        try {
+            priceValue = new BigDecimal(price);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_PRICE_FORMAT);
+        }
+        if (priceValue.signum() < 0 || priceValue.compareTo(MAX_PRICE) >= 0) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_PRICE_RANGE);
+        }
+        return MoneyUtil.toCents(priceValue);
+    }
+
+    /**
+     * Returns {@code price} in cents if it is written as whole dollars with at most two decimal places, below the
+     * maximum price, such as "12" or "3.50". Returns -1 for any other price, which is then parsed in full.
+     */
+    private static long parsePlainCents(String price) {
+        int point = price.indexOf('.');
+        int dollarDigits = point == -1 ? price.length() : point;
+        int centDigits = point == -1 ? 0 : price.length() - point - 1;
+        if (dollarDigits == 0 || dollarDigits > MAX_PLAIN_DOLLAR_DIGITS || centDigits > 2
+                || (point != -1 && centDigits == 0)) {
+            return -1;
+        }
+
+        long cents = 0;
+        for (int i = 0; i < price.length(); i++) {
+            char c = price.charAt(i);
+            if (i == point) {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            cents = cents * 10 + (c - '0');
+        }
+        for (int i = centDigits; i < 2; i++) {
+            cents *= 10;
+        }
+        return cents;
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK ? line.substring(1) : line;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.DataFileFormat;
+import seedu.address.model.ReadOnlyBookKeeping;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.ReadOnlyTransactionList;
+
+/**
+ * Imports and exports data between storages of different data file formats, such as JSON and binary,
+ * so that no data is lost when the format is changed in the user prefs. The format that the data was last kept in
+ * is recorded in a small file next to the data files.
+ */
+public class DataFormatBridge {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String FORMAT_MARKER_FILE_NAME = "dataFileFormat";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFormatBridge.class);
+
+    /**
+     * Returns the path of the binary data file that corresponds to {@code jsonFilePath}, which is the same path
+     * with its extension replaced by {@code BINARY_FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the file, next to {@code inventoryFilePath}, that records which data file format the data
+     * was last kept in.
+     */
+    public static Path getFormatMarkerPath(Path inventoryFilePath) {
+        return inventoryFilePath.resolveSibling(FORMAT_MARKER_FILE_NAME);
+    }
+
+    /**
+     * Prepares {@code target}, the storage of data files in {@code targetFormat}, to be used instead of
+     * {@code source}, the storage of the other format.
+     *
+     * If the data was last kept in the other format, the inventory, transaction list and bookkeeping are copied
+     * from {@code source}, replacing those in {@code target}, which are out of date. Otherwise only the data that
+     * {@code target} has no file for yet is copied. The format is then recorded as the one the data is kept in.
+     *
+     * @return the number of files copied.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static int importData(Storage source, Storage target, DataFileFormat targetFormat)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target, targetFormat);
+
+        Path markerPath = getFormatMarkerPath(target.getInventoryFilePath());
+        Optional<DataFileFormat> lastFormat = readFormatMarker(markerPath);
+        boolean isFormatChanged = lastFormat.isPresent() && lastFormat.get() != targetFormat;
+
+        int copiedCount = 0;
+        if (isFormatChanged || isMissing(target.getInventoryFilePath())) {
+            Optional<ReadOnlyInventory> inventory = source.readInventory();
+            if (inventory.isPresent()) {
+                target.saveInventory(inventory.get());
+                copiedCount++;
+            }
+        }
+        if (isFormatChanged || isMissing(target.getTransactionFilePath())) {
+            Optional<ReadOnlyTransactionList> transactionList = source.readTransactionList();
+            if (transactionList.isPresent()) {
+                target.saveTransactionList(transactionList.get());
+                copiedCount++;
+            }
+        }
+        if (isFormatChanged || isMissing(target.getBookKeepingPath())) {
+            Optional<ReadOnlyBookKeeping> bookKeeping = source.readBookKeeping();
+            if (bookKeeping.isPresent()) {
+                target.saveBookKeeping(bookKeeping.get());
+                copiedCount++;
+            }
+        }
+
+        if (copiedCount > 0) {
+            logger.info("Imported " + copiedCount + " data files from " + source.getInventoryFilePath()
+                    + " and the files next to it");
+        }
+
+        // Recorded only after the data is copied, so that a crash before this copies it again on the next start
+        if (lastFormat.isEmpty() || isFormatChanged) {
+            FileUtil.createParentDirsOfFile(markerPath);
+            FileUtil.writeToFile(markerPath, targetFormat.name());
+        }
+        return copiedCount;
+    }
+
+    private static Optional<DataFileFormat> readFormatMarker(Path markerPath) throws IOException {
+        if (!FileUtil.isFileExists(markerPath)) {
+            return Optional.empty();
+        }
+
+        String format = FileUtil.readFromFile(markerPath).trim();
+        try {
+            return Optional.of(DataFileFormat.valueOf(format));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Unknown data file format " + format + " in " + markerPath + ", ignoring it");
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isMissing(Path filePath) {
+        return !FileUtil.isFileExists(filePath) && !FileUtil.isFileExists(FileUtil.getBackupPath(filePath));
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.item.Item;
+
+/**
+ * A change to a list of items, as reported by its {@code ListChangeListener}.
+ * Either {@code removedCount} items starting at {@code from} were replaced by the added items, or the items starting
+ * at {@code from} were rearranged, with the item at {@code from + i} moving to index {@code permutation[i]}.
+ */
+public class ItemListChange {
+
+    private final int from;
+    private final int removedCount;
+    private final List<Item> addedItems;
+    private final int[] permutation;
+
+    private ItemListChange(int from, int removedCount, List<Item> addedItems, int[] permutation) {
+        this.from = from;
+        this.removedCount = removedCount;
+        this.addedItems = addedItems;
+        this.permutation = permutation;
+    }
+
+    /**
+     * Returns a change that replaces {@code removedCount} items starting at {@code from} with {@code addedItems}.
+     */
+    public static ItemListChange replacement(int from, int removedCount, List<? extends Item> addedItems) {
+        requireNonNull(addedItems);
+        return new ItemListChange(from, removedCount, Collections.unmodifiableList(new ArrayList<>(addedItems)),
+                null);
+    }
+
+    /**
+     * Returns a change that moves the item at {@code from + i} to index {@code permutation[i]}.
+     */
+    public static ItemListChange permutation(int from, int[] permutation) {
+        requireNonNull(permutation);
+        return new ItemListChange(from, 0, Collections.emptyList(), permutation.clone());
+    }
+
+    /**
+     * Returns the changes described by {@code change}.
+     */
+    public static List<ItemListChange> fromChange(ListChangeListener.Change<? extends Item> change) {
+        List<ItemListChange> changes = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                changes.add(permutation(change.getFrom(), permutation));
+            } else if (!change.wasUpdated()) {
+                changes.add(replacement(change.getFrom(), change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+        return changes;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<Item> getAddedItems() {
+        return addedItems;
+    }
+
+    public boolean isPermutation() {
+        return permutation != null;
+    }
+
+    public int[] getPermutation() {
+        return permutation.clone();
+    }
+
+    /**
+     * Makes this change to {@code items}.
+     *
+     * @throws IndexOutOfBoundsException if {@code items} is too short for this change.
+     */
+    public void applyTo(List<Item> items) {
+        if (isPermutation()) {
+            List<Item> moved = new ArrayList<>(items.subList(from, from + permutation.length));
+            for (int i = 0; i < permutation.length; i++) {
+                items.set(permutation[i], moved.get(i));
+            }
+            return;
+        }
+
+        items.subList(from, from + removedCount).clear();
+        items.addAll(from, addedItems);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ItemListChange)) {
+            return false;
+        }
+
+        ItemListChange otherChange = (ItemListChange) other;
+        return from == otherChange.from
+                && removedCount == otherChange.removedCount
+                && addedItems.equals(otherChange.addedItems)
+                && Arrays.equals(permutation, otherChange.permutation);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * from + removedCount) + addedItems.hashCode();
+    }
+}
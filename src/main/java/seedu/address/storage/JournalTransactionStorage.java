@@ -0,0 +1,310 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.TransactionList;
+import seedu.address.model.order.TransactionRecord;
+
+/**
+ * A {@code TransactionStorage} that keeps a JSON snapshot of the transaction list, together with an append-only
+ * journal of the transactions recorded after that snapshot was written.
+ *
+ * Saving a transaction list that only has new transactions added to the end of it, which is what checking out
+ * an order does, appends just those transactions to the journal. The cost of such a save does not grow with the
+ * length of the transaction history. When the transaction list is read, the journal is replayed onto the snapshot
+ * and then compacted into a new snapshot.
+ *
+ * The first line of the journal holds the number of transactions in the snapshot it extends, followed by one
+ * transaction per line. A journal that was already compacted into the snapshot is therefore never replayed twice.
+ * When a new snapshot is written, the journal moves with the previous snapshot to its backup, so that a damaged
+ * snapshot can be recovered from the backup and the two journals.
+ */
+public class JournalTransactionStorage implements TransactionStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTransactionStorage.class);
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+    private final JsonTransactionStorage snapshotStorage;
+
+    // The transactions known to be saved at filePath, only valid when isInSync is true
+    private boolean isInSync = false;
+    private int savedCount;
+    private TransactionRecord lastSaved;
+
+    /**
+     * Creates a {@code JournalTransactionStorage} with its snapshot at {@code filePath}.
+     */
+    public JournalTransactionStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournalTransactionStorage} with its snapshot at {@code filePath}, saved as compact JSON
+     * without any indentation if {@code isCompact} is true.
+     */
+    public JournalTransactionStorage(Path filePath, boolean isCompact) {
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonTransactionStorage(filePath, isCompact);
+    }
+
+    @Override
+    public Path getTransactionFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyTransactionList> readTransactionList() throws DataConversionException, IOException {
+        return readTransactionList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTransactionList> readTransactionList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        // The backup of a snapshot is read together with the journal that extended it, see writeSnapshot
+        Optional<JournaledSnapshot> read = FileUtil.readWithBackup(filePath, this::readSnapshotWithJournal);
+        if (read.isEmpty()) {
+            if (filePath.equals(this.filePath)) {
+                markSaved(List.of());
+            }
+            return Optional.empty();
+        }
+
+        JournaledSnapshot snapshot = read.get();
+        boolean isBackupRead = !snapshot.snapshotPath.equals(filePath);
+        if (isBackupRead) {
+            // The backup and its journal hold what the snapshot held when it was written, so the journal
+            // extending the snapshot may still apply on top of them
+            Path journalPath = getJournalPath(filePath);
+            try {
+                replayJournal(journalPath, snapshot.records);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Ignoring " + journalPath + ", which does not extend the backup of " + filePath
+                        + ": " + StringUtil.getDetails(e));
+            }
+        }
+
+        TransactionList transactionList = new TransactionList(snapshot.records);
+        if (!filePath.equals(this.filePath)) {
+            return Optional.of(transactionList);
+        }
+
+        // A snapshot read from its backup is written again, as is a replayed journal
+        if (snapshot.isJournalReplayed || isBackupRead) {
+            try {
+                writeSnapshot(transactionList, filePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact " + getJournalPath(filePath) + ": " + StringUtil.getDetails(ioe));
+                isInSync = false;
+            }
+        } else {
+            markSaved(snapshot.records);
+        }
+        return Optional.of(transactionList);
+    }
+
+    /**
+     * Reads the snapshot at {@code snapshotPath} and replays the journal that extends it, if there is one.
+     * A journal without a snapshot extends an empty transaction list.
+     */
+    private Optional<JournaledSnapshot> readSnapshotWithJournal(Path snapshotPath) throws DataConversionException {
+        Optional<ReadOnlyTransactionList> snapshot = snapshotStorage.readTransactionListFile(snapshotPath);
+        Path journalPath = getJournalPath(snapshotPath);
+        if (snapshot.isEmpty() && !FileUtil.isFileExists(journalPath)) {
+            return Optional.empty();
+        }
+
+        ArrayList<TransactionRecord> records = new ArrayList<>(snapshot.orElseGet(TransactionList::new)
+                .getTransactionRecordList());
+        try {
+            boolean isJournalReplayed = replayJournal(journalPath, records);
+            return Optional.of(new JournaledSnapshot(snapshotPath, records, isJournalReplayed));
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Adds the transactions in the journal at {@code journalPath} to {@code records}, the transactions read from
+     * the snapshot. An incomplete last line, left behind by a crash while appending, is ignored.
+     *
+     * A journal that does not extend exactly the transactions in {@code records} is stale, and is ignored.
+     *
+     * @return true if the journal exists and was replayed or ignored.
+     * @throws DataConversionException if the journal is damaged.
+     */
+    private static boolean replayJournal(Path journalPath, List<TransactionRecord> records)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return false;
+        }
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return true;
+        }
+
+        int baseCount;
+        try {
+            baseCount = Integer.parseInt(lines.get(0).trim());
+        } catch (NumberFormatException nfe) {
+            logger.info("Illegal journal header found in " + journalPath + ": " + lines.get(0));
+            throw new DataConversionException(nfe);
+        }
+
+        if (records.size() > baseCount) {
+            logger.info("Journal " + journalPath + " was already compacted, ignoring it");
+            return true;
+        }
+        if (records.size() < baseCount) {
+            // A crash after writing the snapshot of a reset transaction list, before the journal of the previous
+            // snapshot was moved to the backup, leaves that journal behind
+            logger.info("Journal " + journalPath + " extends " + baseCount + " transactions, but only "
+                    + records.size() + " were found, ignoring it as it extends an earlier snapshot");
+            return true;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                records.add(JsonUtil.fromJsonString(line, JsonAdaptedOrder.class).toModelType());
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    logger.info("Illegal values found in " + journalPath + ": " + ioe.getMessage());
+                    throw new DataConversionException(ioe);
+                }
+                logger.warning("Ignoring incomplete last line of " + journalPath);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void saveTransactionList(ReadOnlyTransactionList transactionList) throws IOException {
+        saveTransactionList(transactionList, filePath);
+    }
+
+    @Override
+    public void saveTransactionList(ReadOnlyTransactionList transactionList, Path filePath) throws IOException {
+        requireNonNull(transactionList);
+        requireNonNull(filePath);
+
+        List<TransactionRecord> records = transactionList.getTransactionRecordList();
+        if (!filePath.equals(this.filePath) || !isAppendedToSaved(records)) {
+            writeSnapshot(transactionList, filePath);
+            return;
+        }
+
+        try {
+            appendToJournal(records.subList(savedCount, records.size()));
+        } catch (IOException ioe) {
+            isInSync = false;
+            throw ioe;
+        }
+        markSaved(records);
+    }
+
+    /**
+     * Returns true if {@code records} consists of the saved transactions followed by zero or more new ones.
+     */
+    private boolean isAppendedToSaved(List<TransactionRecord> records) {
+        return isInSync
+                && records.size() >= savedCount
+                && (savedCount == 0 || records.get(savedCount - 1).equals(lastSaved));
+    }
+
+    private void appendToJournal(List<TransactionRecord> newRecords) throws IOException {
+        if (newRecords.isEmpty()) {
+            return;
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!FileUtil.isFileExists(journalPath)) {
+            FileUtil.createParentDirsOfFile(journalPath);
+            lines.append(savedCount).append(LINE_SEPARATOR);
+        }
+        for (TransactionRecord record : newRecords) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedOrder(record))).append(LINE_SEPARATOR);
+        }
+
+        FileUtil.appendToFile(journalPath, lines.toString());
+    }
+
+    /**
+     * Writes {@code transactionList} as a new snapshot at {@code filePath}. The journal extending the previous
+     * snapshot is moved along with it to its backup.
+     */
+    private void writeSnapshot(ReadOnlyTransactionList transactionList, Path filePath) throws IOException {
+        if (filePath.equals(this.filePath)) {
+            isInSync = false;
+        }
+        boolean isSnapshotReplaced = FileUtil.isFileExists(filePath);
+        snapshotStorage.saveTransactionList(transactionList, filePath);
+
+        // The journal extends the snapshot that has just become the backup, so it is kept alongside it
+        Path journalPath = getJournalPath(filePath);
+        Path backupJournalPath = getJournalPath(FileUtil.getBackupPath(filePath));
+        if (!isSnapshotReplaced) {
+            Files.deleteIfExists(journalPath);
+        } else if (FileUtil.isFileExists(journalPath)) {
+            Files.move(journalPath, backupJournalPath, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(backupJournalPath);
+        }
+        if (filePath.equals(this.filePath)) {
+            markSaved(transactionList.getTransactionRecordList());
+        }
+    }
+
+    private void markSaved(List<TransactionRecord> records) {
+        isInSync = true;
+        savedCount = records.size();
+        lastSaved = records.isEmpty() ? null : records.get(records.size() - 1);
+    }
+
+    /**
+     * The transactions read from a snapshot file and its journal.
+     */
+    private static class JournaledSnapshot {
+        private final Path snapshotPath;
+        private final ArrayList<TransactionRecord> records;
+        private final boolean isJournalReplayed;
+
+        private JournaledSnapshot(Path snapshotPath, ArrayList<TransactionRecord> records,
+                boolean isJournalReplayed) {
+            this.snapshotPath = snapshotPath;
+            this.records = records;
+            this.isJournalReplayed = isJournalReplayed;
+        }
+    }
+}
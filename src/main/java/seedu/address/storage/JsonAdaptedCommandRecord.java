@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.MoneyUtil;
+import seedu.address.model.BookKeeping;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.rollup.RecordedCost;
+
+/**
+ * Jackson-friendly version of {@link CommandRecord}.
+ */
+class JsonAdaptedCommandRecord {
+
+    private final List<JsonAdaptedItemListChange> inventoryChanges = new ArrayList<>();
+    private final boolean isTransactionListReset;
+    private final List<JsonAdaptedOrder> addedTransactions = new ArrayList<>();
+    private final JsonSerializableBookKeeping bookKeeping;
+    private final boolean isRollupReset;
+    private final List<JsonAdaptedRecordedCost> rollupCosts = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedCommandRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedCommandRecord(
+            @JsonProperty("inventoryChanges") List<JsonAdaptedItemListChange> inventoryChanges,
+            @JsonProperty("isTransactionListReset") boolean isTransactionListReset,
+            @JsonProperty("addedTransactions") List<JsonAdaptedOrder> addedTransactions,
+            @JsonProperty("bookKeeping") JsonSerializableBookKeeping bookKeeping,
+            @JsonProperty("isRollupReset") boolean isRollupReset,
+            @JsonProperty("rollupCosts") List<JsonAdaptedRecordedCost> rollupCosts) {
+        if (inventoryChanges != null) {
+            this.inventoryChanges.addAll(inventoryChanges);
+        }
+        this.isTransactionListReset = isTransactionListReset;
+        if (addedTransactions != null) {
+            this.addedTransactions.addAll(addedTransactions);
+        }
+        this.bookKeeping = bookKeeping;
+        this.isRollupReset = isRollupReset;
+        if (rollupCosts != null) {
+            this.rollupCosts.addAll(rollupCosts);
+        }
+    }
+
+    /**
+     * Converts a given {@code CommandRecord} into this class for Jackson use.
+     */
+    public JsonAdaptedCommandRecord(CommandRecord source) {
+        inventoryChanges.addAll(source.getInventoryChanges().stream()
+                .map(JsonAdaptedItemListChange::new)
+                .collect(Collectors.toList()));
+        isTransactionListReset = source.isTransactionListReset();
+        addedTransactions.addAll(source.getAddedTransactions().stream()
+                .map(JsonAdaptedOrder::new)
+                .collect(Collectors.toList()));
+        bookKeeping = source.getBookKeeping().map(JsonSerializableBookKeeping::new).orElse(null);
+        isRollupReset = source.isRollupReset();
+        rollupCosts.addAll(source.getRollupCosts().stream()
+                .map(JsonAdaptedRecordedCost::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted record object into the model's {@code CommandRecord} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted record.
+     */
+    public CommandRecord toModelType() throws IllegalValueException {
+        List<ItemListChange> modelInventoryChanges = new ArrayList<>();
+        for (JsonAdaptedItemListChange change : inventoryChanges) {
+            modelInventoryChanges.add(change.toModelType());
+        }
+
+        List<TransactionRecord> modelAddedTransactions = new ArrayList<>();
+        for (JsonAdaptedOrder order : addedTransactions) {
+            modelAddedTransactions.add(order.toModelType());
+        }
+
+        List<RecordedCost> modelRollupCosts = new ArrayList<>();
+        for (JsonAdaptedRecordedCost cost : rollupCosts) {
+            modelRollupCosts.add(cost.toModelType());
+        }
+
+        BookKeeping modelBookKeeping = bookKeeping == null ? null : bookKeeping.toModelType();
+        return new CommandRecord(modelInventoryChanges, isTransactionListReset, modelAddedTransactions,
+                modelBookKeeping, isRollupReset, modelRollupCosts);
+    }
+
+    /**
+     * Jackson-friendly version of {@link RecordedCost}.
+     */
+    static class JsonAdaptedRecordedCost {
+        private final Instant time;
+        private final BigDecimal cost;
+
+        @JsonCreator
+        public JsonAdaptedRecordedCost(@JsonProperty("time") Instant time, @JsonProperty("cost") BigDecimal cost) {
+            this.time = time;
+            this.cost = cost;
+        }
+
+        public JsonAdaptedRecordedCost(RecordedCost source) {
+            time = source.getTime();
+            cost = MoneyUtil.toDecimalDollars(source.getCostCents());
+        }
+
+        public RecordedCost toModelType() throws IllegalValueException {
+            if (time == null || cost == null) {
+                throw new IllegalValueException("Recorded cost is missing its time or cost");
+            }
+            return new RecordedCost(time, MoneyUtil.toCents(cost));
+        }
+    }
+}
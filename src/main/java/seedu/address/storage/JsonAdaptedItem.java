@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -9,7 +10,9 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.MoneyUtil;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.Name;
 import seedu.address.model.tag.Tag;
@@ -24,8 +27,8 @@ class JsonAdaptedItem {
     private final String name;
     private final Integer id;
     private final Integer count;
-    private final Double salesPrice;
-    private final Double costPrice;
+    private final BigDecimal salesPrice;
+    private final BigDecimal costPrice;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
@@ -41,8 +44,8 @@ class JsonAdaptedItem {
         this.name = name;
         this.id = Integer.parseInt(id);
         this.count = Integer.parseInt(count);
-        this.costPrice = Double.parseDouble(costPrice);
-        this.salesPrice = Double.parseDouble(salesPrice);
+        this.costPrice = new BigDecimal(costPrice);
+        this.salesPrice = new BigDecimal(salesPrice);
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
@@ -55,8 +58,8 @@ class JsonAdaptedItem {
         name = source.getName().fullName;
         id = source.getId();
         count = source.getCount();
-        salesPrice = source.getSalesPrice();
-        costPrice = source.getCostPrice();
+        salesPrice = MoneyUtil.toDecimalDollars(source.getSalesPriceCents());
+        costPrice = MoneyUtil.toDecimalDollars(source.getCostPriceCents());
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -79,10 +82,15 @@ class JsonAdaptedItem {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         final Set<Tag> modelTags = new HashSet<>(itemTags);
-        return new Item(modelName, id, count, modelTags, costPrice, salesPrice);
+        try {
+            return new Item(modelName, id, count, modelTags, MoneyUtil.toCents(costPrice),
+                    MoneyUtil.toCents(salesPrice));
+        } catch (ArithmeticException e) {
+            throw new IllegalValueException(Messages.MESSAGE_INVALID_PRICE_RANGE);
+        }
     }
 
 }
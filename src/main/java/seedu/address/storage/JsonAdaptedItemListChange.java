@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.item.Item;
+
+/**
+ * Jackson-friendly version of {@link ItemListChange}.
+ */
+class JsonAdaptedItemListChange {
+
+    private final int from;
+    private final int removedCount;
+    private final List<JsonAdaptedItem> addedItems = new ArrayList<>();
+    private final int[] permutation;
+
+    /**
+     * Constructs a {@code JsonAdaptedItemListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedItemListChange(@JsonProperty("from") int from,
+                                     @JsonProperty("removedCount") int removedCount,
+                                     @JsonProperty("addedItems") List<JsonAdaptedItem> addedItems,
+                                     @JsonProperty("permutation") int[] permutation) {
+        this.from = from;
+        this.removedCount = removedCount;
+        if (addedItems != null) {
+            this.addedItems.addAll(addedItems);
+        }
+        this.permutation = permutation;
+    }
+
+    /**
+     * Converts a given {@code ItemListChange} into this class for Jackson use.
+     */
+    public JsonAdaptedItemListChange(ItemListChange source) {
+        from = source.getFrom();
+        removedCount = source.getRemovedCount();
+        addedItems.addAll(source.getAddedItems().stream().map(JsonAdaptedItem::new).collect(Collectors.toList()));
+        permutation = source.isPermutation() ? source.getPermutation() : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code ItemListChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public ItemListChange toModelType() throws IllegalValueException {
+        if (from < 0 || removedCount < 0) {
+            throw new IllegalValueException("Item list change has a negative index");
+        }
+        if (permutation != null) {
+            return ItemListChange.permutation(from, permutation);
+        }
+
+        List<Item> items = new ArrayList<>();
+        for (JsonAdaptedItem item : addedItems) {
+            items.add(item.toModelType());
+        }
+        return ItemListChange.replacement(from, removedCount, items);
+    }
+}
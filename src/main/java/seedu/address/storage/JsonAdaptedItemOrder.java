@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.util.MoneyUtil;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.Name;
 
@@ -16,7 +18,7 @@ public class JsonAdaptedItemOrder {
     private final String name;
     private final Integer id;
     private final Integer count;
-    private final Double sp;
+    private final BigDecimal sp;
 
     /**
      * Constructor for JsonAdaptedItemOrder that supports json reading/writing
@@ -28,7 +30,7 @@ public class JsonAdaptedItemOrder {
     public JsonAdaptedItemOrder(@JsonProperty("name") String name,
                             @JsonProperty("id") String id,
                             @JsonProperty("count") String count,
-                            @JsonProperty("sp") Double sp) {
+                            @JsonProperty("sp") BigDecimal sp) {
         this.name = name;
         this.id = Integer.parseInt(id);
         this.count = Integer.parseInt(count);
@@ -43,10 +45,11 @@ public class JsonAdaptedItemOrder {
         this.name = source.getName().toString();
         this.id = source.getId();
         this.count = source.getCount();
-        this.sp = source.getSalesPrice();
+        this.sp = MoneyUtil.toDecimalDollars(source.getSalesPriceCents());
     }
 
     public Item toModelType() {
-        return new Item(new Name(name), id, count, Collections.emptySet(), -1.0, sp);
+        return new Item(Name.of(name), id, count, Collections.emptySet(), MoneyUtil.toCents(-1.0),
+                MoneyUtil.toCents(sp));
     }
 }
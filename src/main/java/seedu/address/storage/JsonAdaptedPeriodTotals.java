@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.MoneyUtil;
+import seedu.address.model.rollup.PeriodTotals;
+import seedu.address.model.rollup.PeriodTotals.ItemSales;
+
+/**
+ * Jackson-friendly version of {@link PeriodTotals}.
+ */
+class JsonAdaptedPeriodTotals {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Period totals' %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE = "Period start must be a date in the format YYYY-MM-DD";
+
+    private final String start;
+    private final BigDecimal revenue;
+    private final BigDecimal cost;
+    private final long unitsSold;
+    private final List<JsonAdaptedItemSales> items = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPeriodTotals} with the given period totals details.
+     */
+    @JsonCreator
+    public JsonAdaptedPeriodTotals(@JsonProperty("start") String start, @JsonProperty("revenue") BigDecimal revenue,
+                                   @JsonProperty("cost") BigDecimal cost, @JsonProperty("unitsSold") long unitsSold,
+                                   @JsonProperty("items") List<JsonAdaptedItemSales> items) {
+        this.start = start;
+        this.revenue = revenue;
+        this.cost = cost;
+        this.unitsSold = unitsSold;
+        if (items != null) {
+            this.items.addAll(items);
+        }
+    }
+
+    /**
+     * Converts a given {@code PeriodTotals} into this class for Jackson use.
+     */
+    public JsonAdaptedPeriodTotals(PeriodTotals source) {
+        start = source.getStart().toString();
+        revenue = MoneyUtil.toDecimalDollars(source.getRevenueCents());
+        cost = MoneyUtil.toDecimalDollars(source.getCostCents());
+        unitsSold = source.getUnitsSold();
+        items.addAll(source.getItemSales().stream().map(JsonAdaptedItemSales::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted period totals object into the model's {@code PeriodTotals} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted period totals.
+     */
+    public PeriodTotals toModelType() throws IllegalValueException {
+        if (start == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "start"));
+        }
+
+        LocalDate startDate;
+        try {
+            startDate = LocalDate.parse(start);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+
+        if (revenue == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "revenue"));
+        }
+        if (cost == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "cost"));
+        }
+
+        List<ItemSales> itemSales = new ArrayList<>();
+        for (JsonAdaptedItemSales item : items) {
+            itemSales.add(item.toModelType());
+        }
+        return new PeriodTotals(startDate, MoneyUtil.toCents(revenue), MoneyUtil.toCents(cost), unitsSold,
+                itemSales);
+    }
+
+    /**
+     * Jackson-friendly version of {@link ItemSales}.
+     */
+    static class JsonAdaptedItemSales {
+        private final int id;
+        private final String name;
+        private final BigDecimal revenue;
+        private final long unitsSold;
+
+        @JsonCreator
+        public JsonAdaptedItemSales(@JsonProperty("id") int id, @JsonProperty("name") String name,
+                                    @JsonProperty("revenue") BigDecimal revenue,
+                                    @JsonProperty("unitsSold") long unitsSold) {
+            this.id = id;
+            this.name = name;
+            this.revenue = revenue;
+            this.unitsSold = unitsSold;
+        }
+
+        public JsonAdaptedItemSales(ItemSales source) {
+            id = source.getId();
+            name = source.getName();
+            revenue = MoneyUtil.toDecimalDollars(source.getRevenueCents());
+            unitsSold = source.getUnitsSold();
+        }
+
+        public ItemSales toModelType() throws IllegalValueException {
+            if (name == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "item name"));
+            }
+            if (revenue == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "item revenue"));
+            }
+            return new ItemSales(id, name, MoneyUtil.toCents(revenue), unitsSold);
+        }
+    }
+}
@@ -18,9 +18,19 @@ import seedu.address.model.ReadOnlyBookKeeping;
 public class JsonBookKeepingStorage implements BookKeepingStorage {
 
     private Path filePath;
+    private boolean isCompact;
 
     public JsonBookKeepingStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonBookKeepingStorage} that saves to {@code filePath}, as compact JSON without any indentation
+     * if {@code isCompact} is true.
+     */
+    public JsonBookKeepingStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     @Override
@@ -36,7 +46,10 @@ public class JsonBookKeepingStorage implements BookKeepingStorage {
     @Override
     public Optional<ReadOnlyBookKeeping> readBookKeeping(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readBookKeepingFile);
+    }
 
+    private Optional<ReadOnlyBookKeeping> readBookKeepingFile(Path filePath) throws DataConversionException {
         Optional<JsonSerializableBookKeeping> jsonBookKeeping = JsonUtil.readJsonFile(
                 filePath, JsonSerializableBookKeeping.class);
 
@@ -59,7 +72,7 @@ public class JsonBookKeepingStorage implements BookKeepingStorage {
     @Override
     public void saveBookKeeping(ReadOnlyBookKeeping bookKeeping, Path filePath) throws IOException {
         requireNonNull(bookKeeping);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableBookKeeping(bookKeeping), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFileKeepingBackup(new JsonSerializableBookKeeping(bookKeeping), filePath, isCompact);
     }
 }
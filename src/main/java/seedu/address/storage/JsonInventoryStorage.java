@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Inventory;
 import seedu.address.model.ReadOnlyInventory;
 
 /**
@@ -22,9 +23,19 @@ public class JsonInventoryStorage implements InventoryStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonInventoryStorage.class);
 
     private Path filePath;
+    private boolean isCompact;
 
     public JsonInventoryStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonInventoryStorage} that saves to {@code filePath}, as compact JSON without any indentation
+     * if {@code isCompact} is true.
+     */
+    public JsonInventoryStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getInventoryFilePath() {
@@ -38,21 +49,24 @@ public class JsonInventoryStorage implements InventoryStorage {
 
     /**
      * Similar to {@link #readInventory()}.
+     * If the file is missing or damaged, the previous version kept when it was last saved is read instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readInventoryFile);
+    }
 
-        Optional<JsonSerializableInventory> jsonInventory = JsonUtil.readJsonFile(
-                filePath, JsonSerializableInventory.class);
-        if (!jsonInventory.isPresent()) {
-            return Optional.empty();
-        }
-
+    private Optional<ReadOnlyInventory> readInventoryFile(Path filePath) throws DataConversionException {
+        // Items are converted as they are read, without holding the whole file in memory
+        Inventory inventory = new Inventory();
         try {
-            return Optional.of(jsonInventory.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableInventory.ITEMS_FIELD,
+                    JsonAdaptedItem.class, jsonAdaptedItem -> JsonSerializableInventory.addToInventory(
+                            inventory, jsonAdaptedItem));
+            return isFound ? Optional.of(inventory) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +87,8 @@ public class JsonInventoryStorage implements InventoryStorage {
         requireNonNull(inventory);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInventory(inventory), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFileKeepingBackup(new JsonSerializableInventory(inventory), filePath, isCompact);
     }
 
 }
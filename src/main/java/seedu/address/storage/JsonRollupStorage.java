@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.rollup.SalesRollup;
+
+/**
+ * A class to access sales rollup data stored as a json file on the hard disk.
+ * Only the daily totals are stored, as the weekly and monthly totals are built from them when read.
+ */
+public class JsonRollupStorage implements RollupStorage {
+
+    private static final String ROLLUP_FILE_SUFFIX = "Rollups.json";
+
+    private Path filePath;
+    private boolean isCompact;
+
+    public JsonRollupStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonRollupStorage} that saves to {@code filePath}, as compact JSON without any indentation
+     * if {@code isCompact} is true.
+     */
+    public JsonRollupStorage(Path filePath, boolean isCompact) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the path of the sales rollup file kept alongside the bookkeeping file at {@code bookKeepingPath},
+     * whatever format the bookkeeping file is in.
+     */
+    public static Path getRollupFilePath(Path bookKeepingPath) {
+        String fileName = bookKeepingPath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return bookKeepingPath.resolveSibling(baseName + ROLLUP_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getRollupFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<SalesRollup> readRollup() throws DataConversionException, IOException {
+        return readRollup(filePath);
+    }
+
+    @Override
+    public Optional<SalesRollup> readRollup(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readRollupFile);
+    }
+
+    private Optional<SalesRollup> readRollupFile(Path filePath) throws DataConversionException {
+        Optional<JsonSerializableRollup> jsonRollup = JsonUtil.readJsonFile(filePath, JsonSerializableRollup.class);
+
+        if (!jsonRollup.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonRollup.get().toModelType());
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveRollup(SalesRollup salesRollup) throws IOException {
+        saveRollup(salesRollup, filePath);
+    }
+
+    @Override
+    public void saveRollup(SalesRollup salesRollup, Path filePath) throws IOException {
+        requireNonNull(salesRollup);
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFileKeepingBackup(new JsonSerializableRollup(salesRollup), filePath, isCompact);
+    }
+}
@@ -1,20 +1,27 @@
 package seedu.address.storage;
 
+import java.math.BigDecimal;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.MoneyUtil;
 import seedu.address.model.BookKeeping;
 import seedu.address.model.ReadOnlyBookKeeping;
 
 /**
  * An Immutable BookKeeping that is serializable to JSON format.
+ * Totals are written as exact decimal numbers of dollars. Totals written by older versions, which kept them as
+ * {@code double}s, may be off by a fraction of a cent and are rounded to the nearest cent when read.
  */
 @JsonRootName(value = "bookKeeping")
 public class JsonSerializableBookKeeping {
-    private Double revenue;
-    private Double cost;
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "BookKeeping's %s field is missing!";
+
+    private BigDecimal revenue;
+    private BigDecimal cost;
 
     /**
      * Constructor that supports json.
@@ -23,8 +30,8 @@ public class JsonSerializableBookKeeping {
      * @param cost current cost.
      */
     @JsonCreator
-    public JsonSerializableBookKeeping(@JsonProperty("revenue") Double revenue,
-                                       @JsonProperty("cost") Double cost) {
+    public JsonSerializableBookKeeping(@JsonProperty("revenue") BigDecimal revenue,
+                                       @JsonProperty("cost") BigDecimal cost) {
         this.revenue = revenue;
         this.cost = cost;
     }
@@ -35,11 +42,27 @@ public class JsonSerializableBookKeeping {
      * @param bookKeeping current bookKeeping.
      */
     public JsonSerializableBookKeeping(ReadOnlyBookKeeping bookKeeping) {
-        this.revenue = bookKeeping.getRevenue();
-        this.cost = bookKeeping.getCost();
+        this.revenue = MoneyUtil.toDecimalDollars(bookKeeping.getRevenueCents());
+        this.cost = MoneyUtil.toDecimalDollars(bookKeeping.getCostCents());
     }
 
+    /**
+     * Converts this bookKeeping into the model's {@code BookKeeping} object.
+     *
+     * @throws IllegalValueException if a total is missing or out of range.
+     */
     public BookKeeping toModelType() throws IllegalValueException {
-        return new BookKeeping(revenue, cost);
+        if (revenue == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "revenue"));
+        }
+        if (cost == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "cost"));
+        }
+
+        try {
+            return BookKeeping.fromCents(MoneyUtil.toCents(revenue), MoneyUtil.toCents(cost));
+        } catch (ArithmeticException e) {
+            throw new IllegalValueException("BookKeeping's totals are out of range");
+        }
     }
 }
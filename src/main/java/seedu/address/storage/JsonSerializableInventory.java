@@ -20,6 +20,7 @@ import seedu.address.model.item.Item;
 class JsonSerializableInventory {
 
     public static final String MESSAGE_DUPLICATE_ITEM = "Item list contains duplicate item(s).";
+    public static final String ITEMS_FIELD = "items";
 
     private final List<JsonAdaptedItem> items = new ArrayList<>();
 
@@ -48,13 +49,22 @@ class JsonSerializableInventory {
     public Inventory toModelType() throws IllegalValueException {
         Inventory inventory = new Inventory();
         for (JsonAdaptedItem jsonAdaptedItem : items) {
-            Item item = jsonAdaptedItem.toModelType();
-            if (inventory.hasItem(item)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
-            }
-            inventory.addItem(item);
+            addToInventory(inventory, jsonAdaptedItem);
         }
         return inventory;
     }
 
+    /**
+     * Converts {@code jsonAdaptedItem} into the model's {@code Item} object and adds it to {@code inventory}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToInventory(Inventory inventory, JsonAdaptedItem jsonAdaptedItem) throws IllegalValueException {
+        Item item = jsonAdaptedItem.toModelType();
+        if (inventory.hasItem(item)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
+        }
+        inventory.addItem(item);
+    }
+
 }
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.rollup.Period;
+import seedu.address.model.rollup.PeriodTotals;
+import seedu.address.model.rollup.SalesRollup;
+
+/**
+ * An Immutable SalesRollup that is serializable to JSON format.
+ */
+@JsonRootName(value = "rollup")
+class JsonSerializableRollup {
+
+    public static final String MESSAGE_INVALID_TRANSACTION_COUNT = "Transaction count must not be negative";
+    public static final String MESSAGE_DUPLICATE_DAY = "Daily totals contain the same day more than once";
+
+    private final int transactionCount;
+    private final List<JsonAdaptedPeriodTotals> days = new ArrayList<>();
+
+    @JsonCreator
+    public JsonSerializableRollup(@JsonProperty("transactionCount") int transactionCount,
+                                  @JsonProperty("days") List<JsonAdaptedPeriodTotals> days) {
+        this.transactionCount = transactionCount;
+        if (days != null) {
+            this.days.addAll(days);
+        }
+    }
+
+    /**
+     * Converts a given {@code SalesRollup} into this class for Jackson use.
+     */
+    public JsonSerializableRollup(SalesRollup source) {
+        transactionCount = source.getTransactionCount();
+        days.addAll(source.getTotals(Period.DAY).stream().map(JsonAdaptedPeriodTotals::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this rollup into the model's {@code SalesRollup} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public SalesRollup toModelType() throws IllegalValueException {
+        if (transactionCount < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_TRANSACTION_COUNT);
+        }
+
+        List<PeriodTotals> dailyTotals = new ArrayList<>();
+        for (JsonAdaptedPeriodTotals day : days) {
+            dailyTotals.add(day.toModelType());
+        }
+        if (dailyTotals.stream().map(PeriodTotals::getStart).distinct().count() != dailyTotals.size()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DAY);
+        }
+        return new SalesRollup(dailyTotals, transactionCount);
+    }
+}
@@ -18,6 +18,8 @@ import seedu.address.model.order.TransactionRecord;
 @JsonRootName(value = "transaction")
 class JsonSerializableTransactionList {
 
+    public static final String ORDERS_FIELD = "orders";
+
     private final ArrayList<JsonAdaptedOrder> orders = new ArrayList<>();
 
     @JsonCreator
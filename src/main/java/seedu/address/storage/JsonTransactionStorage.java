@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,6 +14,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.TransactionList;
+import seedu.address.model.order.TransactionRecord;
 
 /**
  * An Immutable TransactionList that is serializable to JSON format.
@@ -22,9 +25,19 @@ public class JsonTransactionStorage implements TransactionStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonTransactionStorage.class);
 
     private Path filePath;
+    private boolean isCompact;
 
     public JsonTransactionStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonTransactionStorage} that saves to {@code filePath}, as compact JSON without any indentation
+     * if {@code isCompact} is true.
+     */
+    public JsonTransactionStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     @Override
@@ -40,15 +53,19 @@ public class JsonTransactionStorage implements TransactionStorage {
     @Override
     public Optional<ReadOnlyTransactionList> readTransactionList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
+        return FileUtil.readWithBackup(filePath, this::readTransactionListFile);
+    }
 
-        Optional<JsonSerializableTransactionList> jsonTransaction = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTransactionList.class);
-        if (!jsonTransaction.isPresent()) {
-            return Optional.empty();
-        }
-
+    /**
+     * Reads the transaction list at {@code filePath}, without falling back to its backup.
+     */
+    Optional<ReadOnlyTransactionList> readTransactionListFile(Path filePath) throws DataConversionException {
+        // Transactions are converted as they are read, without holding the whole file in memory
+        ArrayList<TransactionRecord> transactionRecords = new ArrayList<>();
         try {
-            return Optional.of(jsonTransaction.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableTransactionList.ORDERS_FIELD,
+                    JsonAdaptedOrder.class, jsonAdaptedOrder -> transactionRecords.add(jsonAdaptedOrder.toModelType()));
+            return isFound ? Optional.of(new TransactionList(transactionRecords)) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -65,8 +82,9 @@ public class JsonTransactionStorage implements TransactionStorage {
         requireNonNull(transactionList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTransactionList(transactionList.getTransactionRecordList().stream()),
-                filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFileKeepingBackup(
+                new JsonSerializableTransactionList(transactionList.getTransactionRecordList().stream()),
+                filePath, isCompact);
     }
 }
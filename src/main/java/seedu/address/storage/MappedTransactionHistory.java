@@ -0,0 +1,460 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TransactionHistory;
+import seedu.address.model.order.TransactionRecord;
+
+/**
+ * The transactions in a binary transaction file, decoded from the memory-mapped file only when they are needed.
+ * Only the position, length, checksum, timestamp and a hash of the id of each transaction are held in memory,
+ * together with a hash table of the transactions by the hash of their ids so that a transaction can be found by id
+ * without scanning the file.
+ *
+ * These are read from an index file saved next to the transaction file where possible, so that opening the file
+ * does not read every record. Each record is then checked against its checksum when it is decoded. Records after
+ * the end of the index, such as those appended when the index could not be, are read and checked when the file is
+ * opened.
+ *
+ * @see BinaryTransactionStorage
+ */
+class MappedTransactionHistory extends TransactionHistory {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedTransactionHistory.class);
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY_SLOT = -1;
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+
+    static final byte INDEX_KIND = 'X';
+    /** Size of the entry of each record in an index file: its offset, length, checksum, id hash and timestamp. */
+    static final int INDEX_ENTRY_SIZE = Long.BYTES + Integer.BYTES * 3 + Long.BYTES + Integer.BYTES;
+
+    // The file is mapped in chunks, each starting at a record and holding whole records, since a single mapping
+    // cannot be larger than 2 GB
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long[] chunkStarts = new long[1];
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] checksums = new int[INITIAL_CAPACITY];
+    private int[] idHashes = new int[INITIAL_CAPACITY];
+    private long[] epochSeconds = new long[INITIAL_CAPACITY];
+    private int[] nanos = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int indexedSize = 0;
+    private long validLength = 0;
+
+    // Open-addressed hash table of transaction indexes, with linear probing from the slot of their id hash
+    private int[] slots;
+
+    private MappedTransactionHistory() {}
+
+    /**
+     * Returns the history of the transactions in the binary transaction file opened by {@code channel}, which
+     * is mapped into memory. The mapping stays valid after the channel is closed.
+     * Each record is checked against its checksum, but only its id and timestamp are decoded. An incomplete last
+     * record, left behind by a crash while appending, is ignored.
+     *
+     * @throws IllegalValueException if the file is not a binary transaction file, or a record is damaged.
+     */
+    static MappedTransactionHistory index(FileChannel channel) throws IOException, IllegalValueException {
+        return index(channel, ByteBuffer.allocate(0), MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Similar to {@link #index(FileChannel)}, but maps the file in chunks of at most {@code maxChunkSize} bytes.
+     */
+    static MappedTransactionHistory index(FileChannel channel, int maxChunkSize)
+            throws IOException, IllegalValueException {
+        return index(channel, ByteBuffer.allocate(0), maxChunkSize);
+    }
+
+    /**
+     * Similar to {@link #index(FileChannel)}, but takes the records listed in {@code savedIndex}, the contents of
+     * an index file written by {@link #writeIndex}, from it instead of reading them. Entries that do not match the
+     * file are ignored, as is an index that is not an index file.
+     */
+    static MappedTransactionHistory index(FileChannel channel, ByteBuffer savedIndex)
+            throws IOException, IllegalValueException {
+        return index(channel, savedIndex, MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Similar to {@link #index(FileChannel, ByteBuffer)}, but maps the file in chunks of at most
+     * {@code maxChunkSize} bytes.
+     */
+    static MappedTransactionHistory index(FileChannel channel, ByteBuffer savedIndex, int maxChunkSize)
+            throws IOException, IllegalValueException {
+        requireNonNull(channel);
+        requireNonNull(savedIndex);
+
+        MappedTransactionHistory history = new MappedTransactionHistory();
+        history.indexRecords(channel, savedIndex, maxChunkSize);
+        history.buildIdTable();
+        return history;
+    }
+
+    private void indexRecords(FileChannel channel, ByteBuffer savedIndex, int maxChunkSize)
+            throws IOException, IllegalValueException {
+        long fileSize = channel.size();
+        ByteBuffer chunk = mapChunk(channel, 0, fileSize, maxChunkSize);
+        BinaryDataInput input = new BinaryDataInput(chunk);
+        if (input.readHeader(BinaryTransactionStorage.KIND) < BinaryTransactionStorage.FIRST_RECORDS_VERSION) {
+            throw new IllegalValueException("Binary transaction file does not hold separate records");
+        }
+
+        validLength = chunk.position();
+        readSavedIndex(channel, savedIndex, fileSize);
+        indexedSize = size;
+        if (size > 0) {
+            chunk = mapIndexedChunks(channel, fileSize, maxChunkSize);
+            chunk.position((int) (validLength - chunkStarts[chunks.size() - 1]));
+            input = new BinaryDataInput(chunk);
+        }
+
+        while (validLength < fileSize) {
+            long chunkStart = chunkStarts[chunks.size() - 1];
+            boolean isLastChunk = chunkStart + chunk.limit() == fileSize;
+            int length;
+            int checksum;
+            try {
+                length = input.readCount();
+                checksum = input.readInt();
+            } catch (EOFException e) {
+                if (!isLastChunk) {
+                    chunk = mapNextChunk(channel, fileSize, maxChunkSize);
+                    input = new BinaryDataInput(chunk);
+                    continue;
+                }
+                logger.warning("Ignoring incomplete last transaction record");
+                break;
+            }
+
+            int offset = chunk.position();
+            if (length > chunk.remaining() && !isLastChunk) {
+                // The record goes past the end of this chunk, so the next chunk starts with it
+                chunk = mapNextChunk(channel, fileSize, maxChunkSize);
+                input = new BinaryDataInput(chunk);
+                continue;
+            }
+
+            boolean isLastRecord = length >= chunk.remaining();
+            if (length > chunk.remaining() || checksumOf(chunk, offset, length) != checksum) {
+                if (!isLastRecord) {
+                    throw new IllegalValueException("Transaction record " + size + " is damaged");
+                }
+                logger.warning("Ignoring incomplete last transaction record");
+                break;
+            }
+
+            addRecord(chunkStart + offset, length, checksum);
+            chunk.position(offset + length);
+            validLength = chunkStart + chunk.position();
+        }
+    }
+
+    /**
+     * Maps a new chunk of the file that starts at {@code validLength}, the start of the next record.
+     *
+     * @throws IllegalValueException if the record does not fit in a chunk of its own.
+     */
+    private ByteBuffer mapNextChunk(FileChannel channel, long fileSize, int maxChunkSize)
+            throws IOException, IllegalValueException {
+        if (validLength == chunkStarts[chunks.size() - 1]) {
+            throw new IllegalValueException("Transaction record " + size + " is damaged");
+        }
+        return mapChunk(channel, validLength, fileSize, maxChunkSize);
+    }
+
+    private ByteBuffer mapChunk(FileChannel channel, long start, long fileSize, int maxChunkSize) throws IOException {
+        long chunkSize = Math.min(maxChunkSize, fileSize - start);
+        ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, chunkSize);
+        if (chunks.size() == chunkStarts.length) {
+            chunkStarts = Arrays.copyOf(chunkStarts, chunkStarts.length * 2);
+        }
+        chunkStarts[chunks.size()] = start;
+        chunks.add(chunk);
+        return chunk;
+    }
+
+    /**
+     * Adds the records listed in {@code savedIndex}, up to the first entry that does not follow on from the one
+     * before it or that ends past the end of the file. If the checksum of the last record added is not the one in
+     * the file, the index belongs to another version of the file, and no records are added.
+     */
+    private void readSavedIndex(FileChannel channel, ByteBuffer savedIndex, long fileSize) throws IOException {
+        if (!savedIndex.hasRemaining()) {
+            return;
+        }
+        try {
+            new BinaryDataInput(savedIndex).readHeader(INDEX_KIND);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Ignoring transaction index that cannot be read: " + e.getMessage());
+            return;
+        }
+
+        long recordsStart = validLength;
+        while (savedIndex.remaining() >= INDEX_ENTRY_SIZE) {
+            long offset = savedIndex.getLong();
+            int length = savedIndex.getInt();
+            int checksum = savedIndex.getInt();
+            int idHash = savedIndex.getInt();
+            long epochSecond = savedIndex.getLong();
+            int nano = savedIndex.getInt();
+            if (length < 0 || offset != validLength + recordPrefixSize(length) || offset + length > fileSize) {
+                break;
+            }
+            addEntry(offset, length, checksum, idHash, epochSecond, nano);
+            validLength = offset + length;
+        }
+
+        if (size > 0 && storedChecksumOf(channel, offsets[size - 1]) != checksums[size - 1]) {
+            logger.warning("Ignoring transaction index that does not match the transaction file");
+            size = 0;
+            validLength = recordsStart;
+        }
+    }
+
+    /**
+     * Returns the size of the length and checksum that precede a record of {@code length} bytes.
+     */
+    static int recordPrefixSize(int length) {
+        return BinaryDataOutput.varLongSize(length) + Integer.BYTES;
+    }
+
+    private static int storedChecksumOf(FileChannel channel, long offset) throws IOException {
+        ByteBuffer checksum = ByteBuffer.allocate(Integer.BYTES);
+        while (checksum.hasRemaining()) {
+            if (channel.read(checksum, offset - Integer.BYTES + checksum.position()) < 0) {
+                throw new EOFException("Unexpected end of binary data file");
+            }
+        }
+        return checksum.getInt(0);
+    }
+
+    /**
+     * Maps the chunks of the file that hold the records added from a saved index, and returns the last one.
+     * Records from the first one that does not fit in a chunk of its own are left to be read from the file.
+     */
+    private ByteBuffer mapIndexedChunks(FileChannel channel, long fileSize, int maxChunkSize) throws IOException {
+        ByteBuffer chunk = chunks.get(0);
+        long recordStart = offsets[0] - recordPrefixSize(lengths[0]);
+        for (int i = 0; i < size; i++) {
+            long recordEnd = offsets[i] + lengths[i];
+            if (recordEnd > chunkStarts[chunks.size() - 1] + chunk.limit()) {
+                chunk = mapChunk(channel, recordStart, fileSize, maxChunkSize);
+                if (recordEnd > recordStart + chunk.limit()) {
+                    size = i;
+                    indexedSize = i;
+                    validLength = recordStart;
+                    break;
+                }
+            }
+            recordStart = recordEnd;
+        }
+        return chunk;
+    }
+
+    private static int checksumOf(ByteBuffer chunk, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(slice(chunk, offset, length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Adds the record at {@code offset} in the file, reading the id and timestamp it starts with.
+     */
+    private void addRecord(long offset, int length, int checksum) throws IOException, IllegalValueException {
+        BinaryDataInput input = new BinaryDataInput(recordBuffer(offset, length));
+        int idHash = hashOfId(input.readString());
+        Instant timestamp = BinaryTransactionStorage.readTimestamp(input);
+        addEntry(offset, length, checksum, idHash, timestamp.getEpochSecond(), timestamp.getNano());
+    }
+
+    private void addEntry(long offset, int length, int checksum, int idHash, long epochSecond, int nano) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+            checksums = Arrays.copyOf(checksums, size * 2);
+            idHashes = Arrays.copyOf(idHashes, size * 2);
+            epochSeconds = Arrays.copyOf(epochSeconds, size * 2);
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+
+        offsets[size] = offset;
+        lengths[size] = length;
+        checksums[size] = checksum;
+        idHashes[size] = idHash;
+        epochSeconds[size] = epochSecond;
+        nanos[size] = nano;
+        size++;
+    }
+
+    /**
+     * Writes the entry of the record of {@code record} at {@code offset} in the file to an index file.
+     */
+    static void writeIndexEntry(ByteBuffer entry, long offset, int length, int checksum, TransactionRecord record) {
+        entry.putLong(offset);
+        entry.putInt(length);
+        entry.putInt(checksum);
+        entry.putInt(hashOfId(record.getId()));
+        entry.putLong(record.getTimestamp().getEpochSecond());
+        entry.putInt(record.getTimestamp().getNano());
+    }
+
+    /**
+     * Writes an index file of the records in this history to {@code outputStream}.
+     */
+    void writeIndex(OutputStream outputStream) throws IOException {
+        BinaryDataOutput header = new BinaryDataOutput(outputStream);
+        header.writeHeader(INDEX_KIND);
+        header.flush();
+
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        for (int i = 0; i < size; i++) {
+            entry.clear();
+            entry.putLong(offsets[i]);
+            entry.putInt(lengths[i]);
+            entry.putInt(checksums[i]);
+            entry.putInt(idHashes[i]);
+            entry.putLong(epochSeconds[i]);
+            entry.putInt(nanos[i]);
+            outputStream.write(entry.array());
+        }
+    }
+
+    /**
+     * Returns true if every record was listed in the saved index this history was read with.
+     */
+    boolean isFullyIndexed() {
+        return indexedSize == size;
+    }
+
+    private void buildIdTable() {
+        slots = new int[Integer.highestOneBit(Math.max(size, 1)) * 4];
+        Arrays.fill(slots, EMPTY_SLOT);
+        for (int i = 0; i < size; i++) {
+            int slot = firstSlotOf(idHashes[i]);
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = nextSlot(slot);
+            }
+            slots[slot] = i;
+        }
+    }
+
+    private int firstSlotOf(int idHash) {
+        // Spread the high bits of the hash into the low bits used for the slot
+        return (idHash ^ (idHash >>> 16)) & (slots.length - 1);
+    }
+
+    private int nextSlot(int slot) {
+        return (slot + 1) & (slots.length - 1);
+    }
+
+    /**
+     * Returns the bytes of the record at {@code offset} in the file, from the last chunk that starts at or before it.
+     * Chunks are mapped in order and each starts after the records of the chunk before it, so that chunk holds the
+     * whole record.
+     */
+    private ByteBuffer recordBuffer(long offset, int length) {
+        int chunkIndex = Arrays.binarySearch(chunkStarts, 0, chunks.size(), offset);
+        if (chunkIndex < 0) {
+            chunkIndex = -chunkIndex - 2;
+        }
+        return slice(chunks.get(chunkIndex), (int) (offset - chunkStarts[chunkIndex]), length);
+    }
+
+    private static ByteBuffer slice(ByteBuffer chunk, int offset, int length) {
+        ByteBuffer record = chunk.duplicate();
+        record.limit(offset + length);
+        record.position(offset);
+        return record;
+    }
+
+    static int hashOfId(String id) {
+        return Arrays.hashCode(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the length of the file up to the end of the last complete record.
+     */
+    long getValidLength() {
+        return validLength;
+    }
+
+    /**
+     * Checks and decodes the transaction at {@code index}.
+     *
+     * @throws IllegalStateException if the transaction does not match its checksum or cannot be decoded.
+     */
+    @Override
+    public TransactionRecord get(int index) {
+        checkIndex(index);
+        ByteBuffer record = recordBuffer(offsets[index], lengths[index]);
+        if (checksumOf(record, record.position(), lengths[index]) != checksums[index]) {
+            throw new IllegalStateException("Transaction record " + index + " is damaged");
+        }
+        try {
+            return BinaryTransactionStorage.readTransaction(new BinaryDataInput(record));
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException("Transaction record " + index + " could not be read", e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the timestamp of the transaction at {@code index}, without decoding the transaction.
+     */
+    @Override
+    public Instant getTimestamp(int index) {
+        checkIndex(index);
+        return Instant.ofEpochSecond(epochSeconds[index], nanos[index]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * Returns the first transaction with the given {@code id}, if there is one.
+     * Only the transactions whose id has the same hash are decoded.
+     */
+    @Override
+    public Optional<TransactionRecord> findById(String id) {
+        requireNonNull(id);
+
+        // Transactions with the same hash were added in order, so the first found is the earliest
+        int idHash = hashOfId(id);
+        for (int slot = firstSlotOf(idHash); slots[slot] != EMPTY_SLOT; slot = nextSlot(slot)) {
+            int index = slots[slot];
+            if (idHashes[index] == idHash) {
+                TransactionRecord record = get(index);
+                if (record.getId().equals(id)) {
+                    return Optional.of(record);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
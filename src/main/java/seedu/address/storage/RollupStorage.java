@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.rollup.SalesRollup;
+
+/**
+ * Represents a storage for {@link SalesRollup}.
+ */
+public interface RollupStorage {
+
+    /**
+     * Returns the file path of the sales rollup file.
+     */
+    Path getRollupFilePath();
+
+    /**
+     * Returns the sales rollup data as a {@link SalesRollup}.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<SalesRollup> readRollup() throws DataConversionException, IOException;
+
+    /**
+     * @see #getRollupFilePath()
+     */
+    Optional<SalesRollup> readRollup(Path filePath) throws DataConversionException, IOException;
+
+    /**
+     * Saves the given {@link SalesRollup} to the storage.
+     * @param salesRollup cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveRollup(SalesRollup salesRollup) throws IOException;
+
+    /**
+     * @see #saveRollup(SalesRollup)
+     */
+    void saveRollup(SalesRollup salesRollup, Path filePath) throws IOException;
+}
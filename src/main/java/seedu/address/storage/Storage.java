@@ -12,7 +12,8 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends InventoryStorage, UserPrefsStorage, TransactionStorage, BookKeepingStorage {
+public interface Storage extends InventoryStorage, UserPrefsStorage, TransactionStorage, BookKeepingStorage,
+        RollupStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -12,6 +12,7 @@ import seedu.address.model.ReadOnlyInventory;
 import seedu.address.model.ReadOnlyTransactionList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.rollup.SalesRollup;
 
 /**
  * Manages storage of Inventory data in local storage.
@@ -23,17 +24,30 @@ public class StorageManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
     private TransactionStorage transactionStorage;
     private BookKeepingStorage bookKeepingStorage;
+    private RollupStorage rollupStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code InventoryStorage} and {@code UserPrefStorage}.
+     * Sales rollups are kept in a JSON file alongside the bookkeeping file.
      */
     public StorageManager(InventoryStorage inventoryStorage, UserPrefsStorage userPrefsStorage,
                           TransactionStorage transactionStorage, BookKeepingStorage bookKeepingStorage) {
+        this(inventoryStorage, userPrefsStorage, transactionStorage, bookKeepingStorage,
+                new JsonRollupStorage(JsonRollupStorage.getRollupFilePath(bookKeepingStorage.getBookKeepingPath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given storages.
+     */
+    public StorageManager(InventoryStorage inventoryStorage, UserPrefsStorage userPrefsStorage,
+                          TransactionStorage transactionStorage, BookKeepingStorage bookKeepingStorage,
+                          RollupStorage rollupStorage) {
         super();
         this.inventoryStorage = inventoryStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.transactionStorage = transactionStorage;
         this.bookKeepingStorage = bookKeepingStorage;
+        this.rollupStorage = rollupStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -137,4 +151,31 @@ public class StorageManager implements Storage {
     public void saveBookKeeping(ReadOnlyBookKeeping bookKeeping, Path filePath) throws IOException {
         bookKeepingStorage.saveBookKeeping(bookKeeping, filePath);
     }
+
+    // ================ Sales rollup methods ==============================
+
+    @Override
+    public Path getRollupFilePath() {
+        return rollupStorage.getRollupFilePath();
+    }
+
+    @Override
+    public Optional<SalesRollup> readRollup() throws DataConversionException, IOException {
+        return readRollup(rollupStorage.getRollupFilePath());
+    }
+
+    @Override
+    public Optional<SalesRollup> readRollup(Path filePath) throws DataConversionException, IOException {
+        return rollupStorage.readRollup(filePath);
+    }
+
+    @Override
+    public void saveRollup(SalesRollup salesRollup) throws IOException {
+        saveRollup(salesRollup, rollupStorage.getRollupFilePath());
+    }
+
+    @Override
+    public void saveRollup(SalesRollup salesRollup, Path filePath) throws IOException {
+        rollupStorage.saveRollup(salesRollup, filePath);
+    }
 }
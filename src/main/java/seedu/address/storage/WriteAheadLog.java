@@ -0,0 +1,296 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.BookKeeping;
+import seedu.address.model.Inventory;
+import seedu.address.model.ReadOnlyBookKeeping;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.TransactionList;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.exceptions.DuplicateItemException;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.model.rollup.Period;
+import seedu.address.model.rollup.PeriodTotals;
+import seedu.address.model.rollup.RecordedCost;
+import seedu.address.model.rollup.SalesRollup;
+
+/**
+ * A write-ahead log of the changes made by each command since the last checkpoint, that is, since the inventory,
+ * transaction list, bookkeeping and sales rollups were last written to their own files.
+ *
+ * The first line of the log holds fingerprints of the inventory, transaction list and sales rollups as of the last
+ * checkpoint, followed by one {@link CommandRecord} per line. While a checkpoint is being written, some of those
+ * files may already hold the latest data while others do not. When recovering, the logged changes are only
+ * replayed onto the data whose fingerprint shows that it is from the last checkpoint. Logs written before sales
+ * rollups were logged only hold the first two fingerprints, so nothing is replayed onto the sales rollups.
+ */
+public class WriteAheadLog {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteAheadLog.class);
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String HEADER_SEPARATOR = " ";
+
+    private final Path filePath;
+
+    public WriteAheadLog(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Appends {@code record} to the log. The record has been written to the storage device when this returns.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void append(CommandRecord record) throws IOException {
+        requireNonNull(record);
+
+        FileUtil.appendToFile(filePath,
+                JsonUtil.toCompactJsonString(new JsonAdaptedCommandRecord(record)) + LINE_SEPARATOR);
+    }
+
+    /**
+     * Empties the log, after {@code inventory}, {@code transactions} and {@code salesRollup} have been written to
+     * their own files.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void checkpoint(ReadOnlyInventory inventory, ReadOnlyTransactionList transactions,
+                           SalesRollup salesRollup) throws IOException {
+        requireAllNonNull(inventory, transactions, salesRollup);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, fingerprintOf(inventory) + HEADER_SEPARATOR + fingerprintOf(transactions)
+                + HEADER_SEPARATOR + fingerprintOf(salesRollup) + LINE_SEPARATOR);
+    }
+
+    /**
+     * Replays the changes logged since the last checkpoint onto the data read from the inventory, transaction list,
+     * bookkeeping and sales rollup files. Data that was written after the last checkpoint is left as it is.
+     * The sales of replayed transactions are not added to the sales rollups.
+     *
+     * @throws DataConversionException if the log is not in the expected format.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    public Recovery recover(ReadOnlyInventory inventory, ReadOnlyTransactionList transactions,
+                            ReadOnlyBookKeeping bookKeeping, SalesRollup salesRollup)
+            throws DataConversionException, IOException {
+        requireAllNonNull(inventory, transactions, bookKeeping, salesRollup);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Write-ahead log " + filePath + " not found");
+            return new Recovery(inventory, transactions, bookKeeping, salesRollup, 0);
+        }
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return new Recovery(inventory, transactions, bookKeeping, salesRollup, 0);
+        }
+
+        int[] fingerprints = parseHeader(lines.get(0));
+        List<CommandRecord> records = parseRecords(lines.subList(1, lines.size()));
+        boolean isInventoryReplayed = fingerprints[0] == fingerprintOf(inventory);
+        boolean isTransactionListReplayed = fingerprints[1] == fingerprintOf(transactions);
+        boolean isRollupReplayed = fingerprints.length > 2 && fingerprints[2] == fingerprintOf(salesRollup);
+
+        List<Item> items = new ArrayList<>(inventory.getItemList());
+        // Transactions read on demand from storage are not all read just to add the logged transactions
+        TransactionList recoveredTransactions = new TransactionList(transactions);
+        ReadOnlyBookKeeping recoveredBookKeeping = bookKeeping;
+        SalesRollup recoveredRollup = isRollupReplayed ? new SalesRollup(salesRollup) : salesRollup;
+        try {
+            for (CommandRecord record : records) {
+                if (isInventoryReplayed) {
+                    for (ItemListChange change : record.getInventoryChanges()) {
+                        change.applyTo(items);
+                    }
+                }
+                if (isTransactionListReplayed) {
+                    if (record.isTransactionListReset()) {
+                        recoveredTransactions = new TransactionList();
+                    }
+                    for (TransactionRecord transaction : record.getAddedTransactions()) {
+                        recoveredTransactions.add(transaction);
+                    }
+                }
+                recoveredBookKeeping = record.getBookKeeping().orElse(recoveredBookKeeping);
+                if (isRollupReplayed) {
+                    if (record.isRollupReset()) {
+                        recoveredRollup.clear();
+                    }
+                    for (RecordedCost cost : record.getRollupCosts()) {
+                        recoveredRollup.recordCost(cost.getTime(), cost.getCostCents());
+                    }
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            logger.info("Write-ahead log " + filePath + " does not match the inventory: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        ReadOnlyInventory recoveredInventory = inventory;
+        if (isInventoryReplayed) {
+            Inventory replayedInventory = new Inventory();
+            try {
+                replayedInventory.setItems(items);
+            } catch (DuplicateItemException e) {
+                logger.info("Write-ahead log " + filePath + " results in duplicate items: " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+            recoveredInventory = replayedInventory;
+        }
+
+        return new Recovery(recoveredInventory, isTransactionListReplayed ? recoveredTransactions : transactions,
+                new BookKeeping(recoveredBookKeeping), recoveredRollup, records.size());
+    }
+
+    private int[] parseHeader(String header) throws DataConversionException {
+        String[] fingerprints = header.trim().split(HEADER_SEPARATOR);
+        try {
+            if (fingerprints.length != 2 && fingerprints.length != 3) {
+                throw new IllegalValueException("Expected 2 or 3 fingerprints but found " + fingerprints.length);
+            }
+            int[] parsed = new int[fingerprints.length];
+            for (int i = 0; i < fingerprints.length; i++) {
+                parsed[i] = Integer.parseInt(fingerprints[i]);
+            }
+            return parsed;
+        } catch (IllegalValueException | NumberFormatException e) {
+            logger.info("Illegal header found in " + filePath + ": " + header);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the records in {@code lines}. An incomplete last line, left behind by a crash while appending,
+     * is ignored.
+     */
+    private List<CommandRecord> parseRecords(List<String> lines) throws DataConversionException {
+        List<CommandRecord> records = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                records.add(JsonUtil.fromJsonString(line, JsonAdaptedCommandRecord.class).toModelType());
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Ignoring incomplete last line of " + filePath);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns a fingerprint of every detail of the items in {@code inventory}.
+     */
+    static int fingerprintOf(ReadOnlyInventory inventory) {
+        int fingerprint = 1;
+        for (Item item : inventory.getItemList()) {
+            fingerprint = 31 * fingerprint + Objects.hash(item.getName(), item.getId(), item.getCount(),
+                    item.getCostPrice(), item.getSalesPrice(), item.getTags());
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns a fingerprint of {@code transactions}. As transactions are only ever added to the end of the list,
+     * only its size and last transaction are considered.
+     */
+    static int fingerprintOf(ReadOnlyTransactionList transactions) {
+        List<TransactionRecord> records = transactions.getTransactionRecordList();
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        TransactionRecord last = records.get(records.size() - 1);
+        return Objects.hash(records.size(), last.getId(), last.getTimestamp());
+    }
+
+    /**
+     * Returns a fingerprint of the daily totals of {@code salesRollup} and the number of transactions they cover.
+     * The weekly and monthly totals are made from the daily totals, so they are not considered.
+     */
+    static int fingerprintOf(SalesRollup salesRollup) {
+        int fingerprint = salesRollup.getTransactionCount();
+        for (PeriodTotals day : salesRollup.getTotals(Period.DAY)) {
+            fingerprint = 31 * fingerprint + Objects.hash(day.getStart(), day.getRevenueCents(), day.getCostCents(),
+                    day.getUnitsSold());
+        }
+        return fingerprint;
+    }
+
+    /**
+     * The data recovered by replaying the write-ahead log.
+     */
+    public static class Recovery {
+        private final ReadOnlyInventory inventory;
+        private final ReadOnlyTransactionList transactions;
+        private final ReadOnlyBookKeeping bookKeeping;
+        private final SalesRollup salesRollup;
+        private final int replayedCount;
+
+        private Recovery(ReadOnlyInventory inventory, ReadOnlyTransactionList transactions,
+                         ReadOnlyBookKeeping bookKeeping, SalesRollup salesRollup, int replayedCount) {
+            this.inventory = inventory;
+            this.transactions = transactions;
+            this.bookKeeping = bookKeeping;
+            this.salesRollup = salesRollup;
+            this.replayedCount = replayedCount;
+        }
+
+        public ReadOnlyInventory getInventory() {
+            return inventory;
+        }
+
+        public ReadOnlyTransactionList getTransactions() {
+            return transactions;
+        }
+
+        public ReadOnlyBookKeeping getBookKeeping() {
+            return bookKeeping;
+        }
+
+        /**
+         * Returns the sales rollups with the logged costs recorded, but not yet the sales of replayed transactions.
+         */
+        public SalesRollup getSalesRollup() {
+            return salesRollup;
+        }
+
+        /**
+         * Returns the number of logged commands that were replayed.
+         */
+        public int getReplayedCount() {
+            return replayedCount;
+        }
+    }
+}
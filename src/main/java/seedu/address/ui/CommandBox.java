@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,12 +41,18 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+        // Cleared straight away so that the command is not submitted twice while it waits to be executed
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error == null) {
+                return;
+            }
+            // Gives the failed command back to be corrected, unless another one is being typed
+            if (commandTextField.getText().equals("")) {
+                commandTextField.setText(commandText);
+            }
             setStyleToIndicateCommandFailure();
-        }
+        });
     }
 
     /**
@@ -75,11 +81,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed, and returns a future that is completed with the result on the JavaFX
+         * application thread, or exceptionally if the command fails.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -31,9 +31,12 @@ public class DisplayListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Displayable}.
+     * Each cell keeps its card and shows the next displayable in it, so that scrolling does not load new cards.
      */
     class DisplayListViewCell extends ListCell<Displayable> {
 
+        private UiPart<Region> card;
+
         @Override
         protected void updateItem(Displayable displayable, boolean empty) {
             super.updateItem(displayable, empty);
@@ -41,9 +44,15 @@ public class DisplayListPanel extends UiPart<Region> {
             if (empty || displayable == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(displayable.asDisplayCard(getIndex() + 1).getRoot());
+                return;
+            }
+
+            int displayedIndex = getIndex() + 1;
+            if (card == null || !displayable.showInDisplayCard(card, displayedIndex)) {
+                // First use of this cell, or a different kind of displayable
+                card = displayable.asDisplayCard(displayedIndex);
             }
+            setGraphic(card.getRoot());
         }
 
     }
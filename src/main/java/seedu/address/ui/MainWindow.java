@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +14,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.display.MirroredList;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -110,7 +114,8 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        displayListPanel = new DisplayListPanel(logic.getFilteredDisplayList());
+        // Commands change the displayed list on the command executor thread, the copy shown only changes on this one
+        displayListPanel = new DisplayListPanel(new MirroredList<>(logic.getFilteredDisplayList(), Platform::runLater));
         displayListPanelPlaceholder.getChildren().add(displayListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -168,25 +173,29 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to be executed, and shows its result on the JavaFX application thread once it has been
+     * executed.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.submit(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error instanceof CommandException || error instanceof ParseException) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            } else if (error != null) {
+                logger.warning("Command failed: " + commandText + " " + StringUtil.getDetails(error));
+                resultDisplay.setFeedbackToUser(error.toString());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
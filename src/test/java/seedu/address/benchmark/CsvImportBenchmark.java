@@ -0,0 +1,63 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.CsvDataFile;
+
+/**
+ * Measures how long it takes to import a CSV file of items into an empty inventory, and to export it again.
+ * Run with {@code gradlew benchmark -Pbenchmark=CsvImportBenchmark}.
+ */
+public class CsvImportBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    /**
+     * Prints the time taken by the {@code import} and {@code export} commands for each number of rows in
+     * {@code SIZES}.
+     */
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("csv-benchmark");
+        Path importPath = folder.resolve("import.csv");
+        Path exportPath = folder.resolve("export.csv");
+
+        System.out.println(String.format("%10s %15s %15s", "rows", "import (ms)", "export (ms)"));
+        for (int size : SIZES) {
+            CsvDataFile.writeItems(importPath, generateItems(size));
+            ModelManager model = new ModelManager();
+
+            long start = System.nanoTime();
+            new ImportCommand(importPath).execute(model);
+            long importNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            new ExportCommand(ExportCommand.Data.INVENTORY, exportPath).execute(model);
+            long exportNanos = System.nanoTime() - start;
+
+            System.out.println(String.format("%10d %15.2f %15.2f", size, importNanos / 1e6, exportNanos / 1e6));
+        }
+
+        Files.deleteIfExists(importPath);
+        Files.deleteIfExists(exportPath);
+        Files.deleteIfExists(folder);
+    }
+
+    private static List<Item> generateItems(int size) {
+        Set<Tag> tags = Set.of(Tag.of("baked"), Tag.of("popular"));
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(Name.of("Item " + i), i, 10, i % 2 == 0 ? tags : Set.of(), 100L, 250L));
+        }
+        return items;
+    }
+}
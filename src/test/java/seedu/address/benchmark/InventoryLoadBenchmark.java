@@ -0,0 +1,61 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.Inventory;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+
+/**
+ * Measures how long it takes to load items into an {@code Inventory} as the inventory grows.
+ * Run with {@code gradlew benchmark -Pbenchmark=InventoryLoadBenchmark}.
+ */
+public class InventoryLoadBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000, 200_000};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    /**
+     * Prints the median time taken by {@code Inventory#setItems} and by copying an {@code Inventory}
+     * for each inventory size in {@code SIZES}.
+     */
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %15s %15s", "items", "setItems (ms)", "copy (ms)"));
+        for (int size : SIZES) {
+            List<Item> items = generateItems(size);
+            Inventory loaded = new Inventory();
+            loaded.setItems(items);
+
+            long setItemsNanos = median(() -> new Inventory().setItems(items));
+            long copyNanos = median(() -> new Inventory(loaded));
+
+            System.out.println(String.format("%10d %15.2f %15.2f", size, setItemsNanos / 1e6, copyNanos / 1e6));
+        }
+    }
+
+    private static List<Item> generateItems(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(new Name("Item " + i), i, 10, Collections.emptySet(), 1.0, 2.0));
+        }
+        return items;
+    }
+
+    private static long median(Runnable task) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            task.run();
+        }
+
+        List<Long> timings = new ArrayList<>(MEASURED_RUNS);
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            timings.add(System.nanoTime() - start);
+        }
+        Collections.sort(timings);
+        return timings.get(MEASURED_RUNS / 2);
+    }
+}
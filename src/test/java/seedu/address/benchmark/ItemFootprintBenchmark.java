@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how much heap items take, and how much more updating the count of each of them takes.
+ * Run with {@code gradlew benchmark -Pbenchmark=ItemFootprintBenchmark}.
+ *
+ * The heap in use is read after collecting garbage, so the numbers are estimates; use the same JVM and heap size
+ * when comparing two versions.
+ */
+public class ItemFootprintBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 500_000};
+    private static final int MEASURED_RUNS = 3;
+    private static final List<Set<Tag>> TAG_SETS = List.of(Set.of(), Set.of(new Tag("baked")),
+            Set.of(new Tag("baked"), new Tag("sweet")), Set.of(new Tag("frozen")));
+
+    /**
+     * Prints the heap taken by each item, and by the copy made when its count is updated, for each number of
+     * items in {@code SIZES}.
+     */
+    public static void main(String[] args) {
+        System.out.println(String.format("%10s %18s %18s", "items", "per item (B)", "per update (B)"));
+        for (int size : SIZES) {
+            long itemBytes = Long.MAX_VALUE;
+            long updateBytes = Long.MAX_VALUE;
+            for (int run = 0; run < MEASURED_RUNS; run++) {
+                long start = usedHeap();
+                List<Item> items = generateItems(size);
+                long loaded = usedHeap();
+                List<Item> updated = updateCounts(items);
+                long afterUpdate = usedHeap();
+                // The items must not be collected before the heap is measured
+                Reference.reachabilityFence(items);
+                Reference.reachabilityFence(updated);
+
+                itemBytes = Math.min(itemBytes, (loaded - start) / size);
+                updateBytes = Math.min(updateBytes, (afterUpdate - loaded) / size);
+            }
+            System.out.println(String.format("%10d %18d %18d", size, itemBytes, updateBytes));
+        }
+    }
+
+    private static List<Item> generateItems(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Items read from a file each have their own copy of their tags
+            Set<Tag> tags = Set.copyOf(TAG_SETS.get(i % TAG_SETS.size()));
+            items.add(new Item(new Name("Item " + i), i, 10, tags, 100L, 250L));
+        }
+        return items;
+    }
+
+    private static List<Item> updateCounts(List<Item> items) {
+        List<Item> updated = new ArrayList<>(items.size());
+        for (Item item : items) {
+            updated.add(item.updateCount(item.getCount() + 1));
+        }
+        return updated;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
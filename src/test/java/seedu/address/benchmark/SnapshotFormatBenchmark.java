@@ -0,0 +1,95 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Inventory;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.BinaryInventoryStorage;
+import seedu.address.storage.InventoryStorage;
+import seedu.address.storage.JsonInventoryStorage;
+
+/**
+ * Measures how long it takes to save and load an inventory in each data file format, and how large the files are.
+ * Run with {@code gradlew benchmark -Pbenchmark=SnapshotFormatBenchmark}.
+ */
+public class SnapshotFormatBenchmark {
+
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+    private static final Set<Tag> TAGS = Set.of(new Tag("baked"), new Tag("sweet"));
+
+    /**
+     * Prints the median save and load times and the file size of each format for each inventory size in
+     * {@code SIZES}.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("snapshot-benchmark");
+        System.out.println(String.format("%10s %-12s %12s %12s %12s", "items", "format", "save (ms)", "load (ms)",
+                "size (KB)"));
+        for (int size : SIZES) {
+            Inventory inventory = generateInventory(size);
+            run(size, "json", new JsonInventoryStorage(folder.resolve("inventory.json")), inventory);
+            run(size, "json-compact", new JsonInventoryStorage(folder.resolve("compact.json"), true), inventory);
+            run(size, "binary", new BinaryInventoryStorage(folder.resolve("inventory.bin")), inventory);
+        }
+    }
+
+    private static void run(int size, String format, InventoryStorage storage, Inventory inventory)
+            throws IOException {
+        long saveNanos = median(() -> {
+            try {
+                storage.saveInventory(inventory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        long loadNanos = median(() -> {
+            try {
+                storage.readInventory();
+            } catch (DataConversionException | IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long fileSize = Files.size(storage.getInventoryFilePath());
+
+        System.out.println(String.format("%10d %-12s %12.0f %12.0f %12d", size, format, saveNanos / 1e6,
+                loadNanos / 1e6, fileSize / 1024));
+    }
+
+    private static Inventory generateInventory(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Set<Tag> tags = i % 2 == 0 ? TAGS : Collections.emptySet();
+            items.add(new Item(new Name("Item " + i), i, i % 100, tags, 1.5, 2.25));
+        }
+        Inventory inventory = new Inventory();
+        inventory.setItems(items);
+        return inventory;
+    }
+
+    private static long median(Runnable task) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            task.run();
+        }
+
+        List<Long> timings = new ArrayList<>(MEASURED_RUNS);
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            timings.add(System.nanoTime() - start);
+        }
+        Collections.sort(timings);
+        return timings.get(MEASURED_RUNS / 2);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitRow_plainFields_split() throws Exception {
+        assertEquals(List.of("Apple Pie", "222222", "5", ""), CsvUtil.splitRow("Apple Pie,222222,5,"));
+        assertEquals(List.of(""), CsvUtil.splitRow(""));
+    }
+
+    @Test
+    public void splitRow_quotedFields_quotesRemoved() throws Exception {
+        assertEquals(List.of("a,b", "say \"hi\"", ""), CsvUtil.splitRow("\"a,b\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void splitRow_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitRow("\"a,b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitRow("\"a\"b,c"));
+    }
+
+    @Test
+    public void appendRow_specialCharacters_quotedAndSplitBack() throws Exception {
+        StringBuilder row = new StringBuilder();
+        CsvUtil.appendRow(row, "Apple Pie", "a,b", "say \"hi\"");
+        assertEquals("Apple Pie,\"a,b\",\"say \"\"hi\"\"\"" + System.lineSeparator(), row.toString());
+        assertEquals(List.of("Apple Pie", "a,b", "say \"hi\""), CsvUtil.splitRow(row.toString().trim()));
+    }
+}
@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,50 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, outputStream -> {
+            outputStream.write("partial".getBytes());
+            throw new IOException("crash");
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles());
+    }
+
+    @Test
+    public void writeToFileKeepingBackup_existingFile_previousVersionKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileKeepingBackup(file, outputStream -> outputStream.write("first".getBytes()));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeToFileKeepingBackup(file, outputStream -> outputStream.write("second".getBytes()));
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void moveAside_existingFiles_keptUnderUnusedNames() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        assertEquals(Optional.empty(), FileUtil.moveAside(file));
+
+        FileUtil.writeToFile(file, "first");
+        assertEquals(Optional.of(testFolder.resolve("file.txt.corrupt")), FileUtil.moveAside(file));
+        FileUtil.writeToFile(file, "second");
+        assertEquals(Optional.of(testFolder.resolve("file.txt.corrupt1")), FileUtil.moveAside(file));
+
+        assertFalse(FileUtil.isFileExists(file));
+        assertEquals("first", FileUtil.readFromFile(testFolder.resolve("file.txt.corrupt")));
+        assertEquals("second", FileUtil.readFromFile(testFolder.resolve("file.txt.corrupt1")));
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
 }
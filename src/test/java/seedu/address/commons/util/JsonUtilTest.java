@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,43 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_validFile_elementsReadInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        List<LocalDateTime> elements = new ArrayList<>();
+
+        boolean isFound = JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "listOfLocalDateTimes",
+                LocalDateTime.class, elements::add);
+
+        assertTrue(isFound);
+        assertEquals(SerializableTestClass.getListTestValues(), elements);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(TestUtil.getFilePathInSandboxFolder("missing.json"),
+                "listOfLocalDateTimes", LocalDateTime.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayFile_truncatedFile_throwsDataConversionException() throws Exception {
+        String json = SerializableTestClass.JSON_STRING_REPRESENTATION;
+        FileUtil.writeToFile(SERIALIZATION_FILE, json.substring(0, json.indexOf("\"0001")));
+
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE,
+                "listOfLocalDateTimes", LocalDateTime.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayFile_elementRejected_throwsIllegalValueException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE,
+                "listOfLocalDateTimes", LocalDateTime.class, element -> {
+                    throw new IllegalValueException("rejected");
+                }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
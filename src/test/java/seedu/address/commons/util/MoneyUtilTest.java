@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyUtilTest {
+
+    @Test
+    public void toCents_double_roundedToNearestCent() {
+        assertEquals(30, MoneyUtil.toCents(0.1 + 0.2));
+        assertEquals(33, MoneyUtil.toCents(1.0 / 3));
+        assertEquals(-100, MoneyUtil.toCents(-1.0));
+        assertEquals(99999999999L, MoneyUtil.toCents(999999999.99));
+    }
+
+    @Test
+    public void toCents_decimal_roundedHalfUp() {
+        assertEquals(1235, MoneyUtil.toCents(new BigDecimal("12.345")));
+        assertEquals(500, MoneyUtil.toCents(new BigDecimal("5")));
+        assertEquals(-5, MoneyUtil.toCents(new BigDecimal("-0.05")));
+    }
+
+    @Test
+    public void toCents_decimalOutOfRange_throwsArithmeticException() {
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.toCents(new BigDecimal("1e30")));
+    }
+
+    @Test
+    public void toDecimalDollars_roundTrip_exact() {
+        assertEquals(new BigDecimal("123.40"), MoneyUtil.toDecimalDollars(12340));
+        assertEquals(12340, MoneyUtil.toCents(MoneyUtil.toDecimalDollars(12340)));
+    }
+
+    @Test
+    public void format() {
+        assertEquals("$0.00", MoneyUtil.format(0));
+        assertEquals("$12.30", MoneyUtil.format(1230));
+        assertEquals("-$0.05", MoneyUtil.format(-5));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.COSTPRICE_DESC_BAGEL;
+import static seedu.address.logic.commands.CommandTestUtil.COUNT_DESC_BAGEL;
+import static seedu.address.logic.commands.CommandTestUtil.ID_DESC_BAGEL;
+import static seedu.address.logic.commands.CommandTestUtil.SALESPRICE_DESC_BAGEL;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BAGEL;
+import static seedu.address.testutil.TypicalItems.BAGEL;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.item.Item;
+import seedu.address.testutil.ItemBuilder;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_BAGEL = AddCommand.COMMAND_WORD + " " + VALID_NAME_BAGEL + ID_DESC_BAGEL
+            + COUNT_DESC_BAGEL + COSTPRICE_DESC_BAGEL + SALESPRICE_DESC_BAGEL;
+    private static final String RESTOCK_BAGEL = AddCommand.COMMAND_WORD + " " + VALID_NAME_BAGEL + COUNT_DESC_BAGEL;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    public void run_validCommands_allExecuted() throws Exception {
+        BatchRunner.Summary summary = run("# delivery\n" + ADD_BAGEL + "\n\n" + RESTOCK_BAGEL + "\n");
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(0, summary.getFailureCount());
+        assertEquals(10, model.getInventory().getItemList().get(0).getCount());
+
+        String[] lines = getOutputLines();
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("2: "));
+        assertTrue(lines[1].startsWith("4: "));
+    }
+
+    @Test
+    public void run_invalidCommand_reportedAndScriptContinued() throws Exception {
+        BatchRunner.Summary summary = run("uicfhmowqewca\n" + ADD_BAGEL);
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(1, summary.getFailureCount());
+        assertTrue(model.hasItem(new ItemBuilder(BAGEL).withTags().build()));
+        assertEquals(String.format(BatchRunner.MESSAGE_FAILURE, 1, MESSAGE_UNKNOWN_COMMAND), getOutputLines()[0]);
+    }
+
+    @Test
+    public void run_commandThrowsUnexpectedException_reportedAndScriptContinued() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addItem(Item item) {
+                throw new IllegalArgumentException("Unexpected");
+            }
+        };
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        String script = ADD_BAGEL + "\n" + ListCommand.COMMAND_WORD;
+        BatchRunner.Summary summary = new BatchRunner(failingModel).run(new BufferedReader(new StringReader(script)),
+                out);
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(1, summary.getFailureCount());
+        String[] lines = getOutputLines();
+        assertEquals(String.format(BatchRunner.MESSAGE_FAILURE, 1, new IllegalArgumentException("Unexpected")),
+                lines[0]);
+        assertTrue(lines[1].startsWith("2: "));
+    }
+
+    @Test
+    public void run_exitCommand_scriptEnded() throws Exception {
+        BatchRunner.Summary summary = run(ExitCommand.COMMAND_WORD + "\n" + ADD_BAGEL);
+
+        assertEquals(1, summary.getCommandCount());
+        assertEquals(0, model.getInventory().getItemList().size());
+    }
+
+    private BatchRunner.Summary run(String script) throws Exception {
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        return new BatchRunner(model).run(new BufferedReader(new StringReader(script)), out);
+    }
+
+    private String[] getOutputLines() {
+        return output.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+    }
+}
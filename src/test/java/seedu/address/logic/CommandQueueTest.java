@@ -0,0 +1,125 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandQueueTest {
+
+    @Test
+    public void submit_commands_executedInOrderOnOneThread() throws Exception {
+        List<String> executed = new ArrayList<>();
+        List<String> threadNames = new ArrayList<>();
+        CommandQueue commandQueue = new CommandQueue(commandText -> {
+            executed.add(commandText);
+            threadNames.add(Thread.currentThread().getName());
+            return new CommandResult(commandText);
+        });
+
+        commandQueue.submit("first");
+        commandQueue.submit("second");
+        CommandResult result = commandQueue.submit("third").get();
+        commandQueue.close();
+
+        assertEquals(new CommandResult("third"), result);
+        assertEquals(List.of("first", "second", "third"), executed);
+        assertEquals(List.of("command-executor", "command-executor", "command-executor"), threadNames);
+    }
+
+    @Test
+    public void submit_commandFails_futureCompletedWithException() {
+        CommandQueue commandQueue = new CommandQueue(commandText -> {
+            throw new ParseException("invalid " + commandText);
+        });
+
+        CompletableFuture<CommandResult> future = commandQueue.submit("command");
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertTrue(exception.getCause() instanceof ParseException);
+        assertEquals("invalid command", exception.getCause().getMessage());
+        commandQueue.close();
+    }
+
+    @Test
+    public void submit_queueFull_futureCompletedWithCommandException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CommandQueue commandQueue = new CommandQueue(commandText -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new CommandResult(commandText);
+        }, 1);
+
+        CompletableFuture<CommandResult> running = commandQueue.submit("running");
+        started.await();
+        CompletableFuture<CommandResult> waiting = commandQueue.submit("waiting");
+        CompletableFuture<CommandResult> rejected = commandQueue.submit("rejected");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertTrue(exception.getCause() instanceof CommandException);
+        assertEquals(CommandQueue.MESSAGE_QUEUE_FULL, exception.getCause().getMessage());
+
+        release.countDown();
+        assertEquals(new CommandResult("running"), running.get());
+        assertEquals(new CommandResult("waiting"), waiting.get());
+        commandQueue.close();
+    }
+
+    @Test
+    public void close_commandsWaiting_commandsExecuted() {
+        List<String> executed = new ArrayList<>();
+        CommandQueue commandQueue = new CommandQueue(commandText -> {
+            executed.add(commandText);
+            return new CommandResult(commandText);
+        });
+
+        CompletableFuture<CommandResult> first = commandQueue.submit("first");
+        CompletableFuture<CommandResult> second = commandQueue.submit("second");
+        assertTrue(commandQueue.close());
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertEquals(List.of("first", "second"), executed);
+    }
+
+    @Test
+    public void close_commandStillRunning_returnsFalse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CommandQueue commandQueue = new CommandQueue(commandText -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new CommandResult(commandText);
+        });
+
+        CompletableFuture<CommandResult> running = commandQueue.submit("running");
+        started.await();
+        assertFalse(commandQueue.close(10, TimeUnit.MILLISECONDS));
+        assertFalse(running.isDone());
+
+        release.countDown();
+        assertTrue(commandQueue.close());
+        assertEquals(new CommandResult("running"), running.get());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.COSTPRICE_DESC_BAGEL;
 import static seedu.address.logic.commands.CommandTestUtil.COUNT_DESC_BAGEL;
@@ -102,6 +103,21 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListInventoryCommand.MESSAGE_SUCCESS_INVENTORY, model);
     }
 
+    @Test
+    public void submit_validCommand_futureCompletedWithResult() throws Exception {
+        CommandResult result = logic.submit(ListInventoryCommand.COMMAND_WORD).get();
+        assertEquals(ListInventoryCommand.MESSAGE_SUCCESS_INVENTORY, result.getFeedbackToUser());
+        logic.close();
+    }
+
+    @Test
+    public void submit_invalidCommandFormat_futureCompletedWithParseException() throws Exception {
+        Throwable error = logic.submit("uicfhmowqewca").handle((result, exception) -> exception).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+        logic.close();
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -122,7 +138,7 @@ public class LogicManagerTest {
                 + COSTPRICE_DESC_BAGEL + SALESPRICE_DESC_BAGEL;
         Item expectedItem = new ItemBuilder(BAGEL).withTags().build();
         BookKeeping bookKeeping = new BookKeeping();
-        bookKeeping.addCost(BAGEL.getCostPrice(), 5);
+        bookKeeping.addCost(BAGEL.getCostPriceCents(), 5);
         ModelManager expectedModel = new ModelManager(new Inventory(), new UserPrefs(),
                 new TransactionList(), bookKeeping);
         expectedModel.addItem(expectedItem);
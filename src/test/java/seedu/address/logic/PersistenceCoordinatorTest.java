@@ -0,0 +1,163 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalItems.APPLE_PIE;
+import static seedu.address.testutil.TypicalItems.BAGEL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyBookKeeping;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.rollup.Period;
+import seedu.address.storage.JsonBookKeepingStorage;
+import seedu.address.storage.JsonInventoryStorage;
+import seedu.address.storage.JsonTransactionStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteAheadLog;
+
+public class PersistenceCoordinatorTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private SaveCountingStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new SaveCountingStorage(temporaryFolder);
+    }
+
+    @Test
+    public void commandExecuted_firstCommand_savesEverything() throws Exception {
+        PersistenceCoordinator coordinator = new PersistenceCoordinator(model, storage);
+        coordinator.commandExecuted();
+        assertSaveCounts(1, 1, 1);
+    }
+
+    @Test
+    public void commandExecuted_nothingChanged_savesNothing() throws Exception {
+        PersistenceCoordinator coordinator = new PersistenceCoordinator(model, storage);
+        coordinator.commandExecuted();
+        coordinator.commandExecuted();
+        coordinator.commandExecuted();
+        assertSaveCounts(1, 1, 1);
+    }
+
+    @Test
+    public void commandExecuted_inventoryChanged_savesOnlyInventory() throws Exception {
+        PersistenceCoordinator coordinator = new PersistenceCoordinator(model, storage);
+        coordinator.commandExecuted();
+
+        model.addItem(BAGEL);
+        coordinator.commandExecuted();
+        assertSaveCounts(2, 1, 1);
+    }
+
+    @Test
+    public void commandExecuted_bookKeepingChanged_savesOnlyBookKeeping() throws Exception {
+        PersistenceCoordinator coordinator = new PersistenceCoordinator(model, storage);
+        coordinator.commandExecuted();
+
+        model.addCostBookKeeping(100, 2);
+        coordinator.commandExecuted();
+        assertSaveCounts(1, 1, 2);
+    }
+
+    @Test
+    public void commandExecuted_writeAheadLog_logsInsteadOfSaving() throws Exception {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(temporaryFolder.resolve("commands.wal"));
+        PersistenceCoordinator coordinator = new PersistenceCoordinator(model, storage, writeAheadLog, 100);
+        coordinator.checkpoint();
+        assertSaveCounts(1, 1, 1);
+
+        model.addItem(BAGEL);
+        coordinator.commandExecuted();
+        model.addItem(APPLE_PIE);
+        coordinator.commandExecuted();
+        model.sortItems(Comparator.comparing(item -> item.getName().fullName));
+        coordinator.commandExecuted();
+        model.addCostBookKeeping(100, 2);
+        coordinator.commandExecuted();
+        assertSaveCounts(1, 1, 1);
+
+        // Recover from the saved data, as after a crash
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(storage.readInventory().get(),
+                storage.readTransactionList().get(), storage.readBookKeeping().get(), storage.readRollup().get());
+        assertEquals(model.getInventory().getItemList(), recovery.getInventory().getItemList());
+        assertEquals(model.getBookKeeping(), recovery.getBookKeeping());
+        assertEquals(model.getSalesRollup().getTotals(Period.DAY), recovery.getSalesRollup().getTotals(Period.DAY));
+        assertEquals(4, recovery.getReplayedCount());
+    }
+
+    @Test
+    public void commandExecuted_checkpointDue_savesChangesAndEmptiesLog() throws Exception {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(temporaryFolder.resolve("commands.wal"));
+        PersistenceCoordinator coordinator = new PersistenceCoordinator(model, storage, writeAheadLog, 2);
+        coordinator.checkpoint();
+
+        model.addItem(BAGEL);
+        coordinator.commandExecuted();
+        coordinator.commandExecuted();
+        assertSaveCounts(1, 1, 1);
+
+        model.addItem(APPLE_PIE);
+        coordinator.commandExecuted();
+        assertSaveCounts(2, 1, 1);
+
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(storage.readInventory().get(),
+                storage.readTransactionList().get(), storage.readBookKeeping().get(), storage.readRollup().get());
+        assertEquals(model.getInventory().getItemList(), recovery.getInventory().getItemList());
+        assertEquals(0, recovery.getReplayedCount());
+    }
+
+    private void assertSaveCounts(int inventorySaves, int transactionSaves, int bookKeepingSaves) {
+        assertEquals(inventorySaves, storage.inventorySaves);
+        assertEquals(transactionSaves, storage.transactionSaves);
+        assertEquals(bookKeepingSaves, storage.bookKeepingSaves);
+    }
+
+    /**
+     * A {@code StorageManager} that counts how many times each file is saved.
+     */
+    private static class SaveCountingStorage extends StorageManager {
+        private int inventorySaves = 0;
+        private int transactionSaves = 0;
+        private int bookKeepingSaves = 0;
+
+        private SaveCountingStorage(Path folder) {
+            super(new JsonInventoryStorage(folder.resolve("inventory.json")),
+                    new JsonUserPrefsStorage(folder.resolve("userPrefs.json")),
+                    new JsonTransactionStorage(folder.resolve("transactions.json")),
+                    new JsonBookKeepingStorage(folder.resolve("bookKeeping.json")));
+        }
+
+        @Override
+        public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+            inventorySaves++;
+            super.saveInventory(inventory);
+        }
+
+        @Override
+        public void saveTransactionList(ReadOnlyTransactionList transactionList) throws IOException {
+            transactionSaves++;
+            super.saveTransactionList(transactionList);
+        }
+
+        @Override
+        public void saveBookKeeping(ReadOnlyBookKeeping bookKeeping) throws IOException {
+            bookKeepingSaves++;
+            super.saveBookKeeping(bookKeeping);
+        }
+    }
+}
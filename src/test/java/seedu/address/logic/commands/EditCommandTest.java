@@ -43,7 +43,7 @@ public class EditCommandTest {
 
     @Test
     public void execute_allFieldsSpecifiedUnfilteredList_success() {
-        Item editedItem = new ItemBuilder().withCount(getTypicalItems().get(0).getCount().toString()).build();
+        Item editedItem = new ItemBuilder().withCount(Integer.toString(getTypicalItems().get(0).getCount())).build();
         ItemDescriptor descriptor = new ItemDescriptorBuilder(editedItem).build();
         EditCommand editCommand = new EditCommand(INDEX_FIRST_ITEM, descriptor);
 
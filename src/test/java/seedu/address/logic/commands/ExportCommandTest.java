@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalItems.getTypicalInventory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.BookKeeping;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CsvDataFile;
+import seedu.address.testutil.TypicalTransactions;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalInventory(), new UserPrefs(),
+            TypicalTransactions.getTypicalTransactionList(), new BookKeeping());
+
+    @Test
+    public void execute_inventory_allItemsWritten() throws Exception {
+        Path filePath = testFolder.resolve("inventory.csv");
+
+        CommandResult result = new ExportCommand(ExportCommand.Data.INVENTORY, filePath).execute(model);
+
+        int itemCount = model.getInventory().getItemList().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS_INVENTORY, itemCount, filePath),
+                result.getFeedbackToUser());
+        assertEquals(model.getInventory().getItemList(), CsvDataFile.readItems(filePath));
+    }
+
+    @Test
+    public void execute_transactions_oneRowPerTransactedItem() throws Exception {
+        Path filePath = testFolder.resolve("transactions.csv");
+
+        CommandResult result = new ExportCommand(ExportCommand.Data.TRANSACTIONS, filePath).execute(model);
+
+        int transactionCount = model.getTransactions().getTransactionRecordList().size();
+        long itemCount = model.getTransactions().getTransactionRecordList().stream()
+                .mapToLong(transaction -> transaction.getOrderItems().size()).sum();
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS_TRANSACTIONS, transactionCount, filePath),
+                result.getFeedbackToUser());
+        assertEquals(itemCount + 1, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(ExportCommand.Data.INVENTORY, Paths.get("a.csv"));
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(ExportCommand.Data.INVENTORY, Paths.get("a.csv"))));
+        assertFalse(exportCommand.equals(new ExportCommand(ExportCommand.Data.TRANSACTIONS, Paths.get("a.csv"))));
+        assertFalse(exportCommand.equals(new ExportCommand(ExportCommand.Data.INVENTORY, Paths.get("b.csv"))));
+        assertFalse(exportCommand.equals(null));
+    }
+}
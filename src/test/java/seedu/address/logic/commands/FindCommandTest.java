@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_ITEMS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -20,6 +21,7 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.BookKeeping;
+import seedu.address.model.Inventory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.TransactionList;
@@ -28,7 +30,9 @@ import seedu.address.model.display.DisplayMode;
 import seedu.address.model.item.IdContainsNumberPredicate;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.NameContainsKeywordsPredicate;
+import seedu.address.model.item.NameSimilarToPredicate;
 import seedu.address.model.item.TagContainsKeywordsPredicate;
+import seedu.address.testutil.ItemBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -95,6 +99,17 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_nameThenRestockAndRemove_updatedItemStillListed() throws Exception {
+        new FindCommand(List.of(pieNamePredicate)).execute(model);
+        model.restockItem(APPLE_PIE, 5);
+        Item restockedPie = APPLE_PIE.updateCount(APPLE_PIE.getCount() + 5);
+        assertEquals(List.of(restockedPie), model.getFilteredDisplayList());
+
+        model.removeItem(restockedPie, 2);
+        assertEquals(List.of(restockedPie.updateCount(restockedPie.getCount() - 2)), model.getFilteredDisplayList());
+    }
+
     @Test
     public void execute_existentId_itemFound() {
         String expectedMessage = String.format(MESSAGE_ITEMS_LISTED_OVERVIEW, 1);
@@ -111,6 +126,66 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_allOfTags_itemsWithEveryTagFound() {
+        String expectedMessage = String.format(MESSAGE_ITEMS_LISTED_OVERVIEW, 1);
+        TagContainsKeywordsPredicate predicate = TagContainsKeywordsPredicate.anyGroupOf(
+                List.of(BANANA_MUFFIN.getTags()));
+        FindCommand command = new FindCommand(List.of(predicate));
+        expectedModel.updateFilteredItemList(DISPLAY_INVENTORY, predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(BANANA_MUFFIN), model.getFilteredDisplayList());
+    }
+
+    @Test
+    public void execute_tagThenRestock_restockedItemStillListed() throws Exception {
+        new FindCommand(List.of(pieTagPredicate)).execute(model);
+        model.restockItem(APPLE_PIE, 5);
+
+        Item restockedPie = APPLE_PIE.updateCount(APPLE_PIE.getCount() + 5);
+        assertEquals(3, model.getFilteredDisplayList().size());
+        assertTrue(model.getFilteredDisplayList().contains(restockedPie));
+    }
+
+    @Test
+    public void execute_similarName_itemFound() {
+        String expectedMessage = String.format(MESSAGE_ITEMS_LISTED_OVERVIEW, 1);
+        NameSimilarToPredicate predicate = new NameSimilarToPredicate("banan mufin", FindCommand.MAX_SIMILAR_ITEMS);
+        FindCommand command = new FindCommand(List.of(predicate));
+        expectedModel.updateFilteredItemList(DISPLAY_INVENTORY, predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(BANANA_MUFFIN), model.getFilteredDisplayList());
+    }
+
+    @Test
+    public void execute_similarNameWithTooManyCandidates_truncationReported() throws Exception {
+        // More items than are looked at, all equally similar to the query
+        String letters = "cdeghjklopqrs";
+        Inventory inventory = new Inventory();
+        for (int i = 0; i < letters.length() * letters.length() * letters.length(); i++) {
+            String word = "" + letters.charAt(i / letters.length() / letters.length())
+                    + letters.charAt(i / letters.length() % letters.length()) + letters.charAt(i % letters.length());
+            inventory.addItem(new ItemBuilder().withName("Banana Muffin " + word)
+                    .withId(String.format("%06d", i)).build());
+        }
+        Model largeModel = new ModelManager(inventory, new UserPrefs(), new TransactionList(), new BookKeeping());
+
+        NameSimilarToPredicate predicate = new NameSimilarToPredicate("banana muffin", FindCommand.MAX_SIMILAR_ITEMS);
+        CommandResult result = new FindCommand(List.of(predicate)).execute(largeModel);
+        assertEquals(String.format(MESSAGE_ITEMS_LISTED_OVERVIEW, FindCommand.MAX_SIMILAR_ITEMS) + "\n"
+                + String.format(FindCommand.MESSAGE_SIMILAR_TRUNCATED, "\"banana muffin\""),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_similarNameThenRestock_restockedItemStillListed() throws Exception {
+        NameSimilarToPredicate predicate = new NameSimilarToPredicate("banan mufin", FindCommand.MAX_SIMILAR_ITEMS);
+        new FindCommand(List.of(predicate)).execute(model);
+        model.restockItem(BANANA_MUFFIN, 5);
+
+        assertEquals(List.of(BANANA_MUFFIN.updateCount(BANANA_MUFFIN.getCount() + 5)), model.getFilteredDisplayList());
+    }
+
     @Test
     public void execute_multiplePredicates_itemsFound() {
         String expectedMessage = String.format(MESSAGE_ITEMS_LISTED_OVERVIEW, 2);
@@ -0,0 +1,164 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.APPLE_PIE;
+import static seedu.address.testutil.TypicalItems.BANANA_MUFFIN;
+import static seedu.address.testutil.TypicalItems.getTypicalInventory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.BookKeeping;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TransactionList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.item.Item;
+import seedu.address.storage.CsvDataFile;
+import seedu.address.testutil.ItemBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalInventory(), new UserPrefs(), new TransactionList(),
+            new BookKeeping());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_newAndExistingItems_addedAndRestocked() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Bagel,94021,5,1.00,2.00,baked",
+                "apple pie,222222,2,9.99,9.99,",
+                "Bagel,94021,3,1.00,2.00,",
+                "Apple Pie,222222,1,3.00,5.00,");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 4, 1, 1), result.getFeedbackToUser());
+        Item bagel = new ItemBuilder().withName("Bagel").withId("94021").withCount("8").withCostPrice("1.00")
+                .withSalesPrice("2.00").withTags("baked").build();
+        assertTrue(model.getInventory().getItemList().contains(bagel));
+        assertTrue(model.getInventory().getItemList().contains(APPLE_PIE.updateCount(APPLE_PIE.getCount() + 3)));
+        // Restocked items cost their existing cost price, not the one in the file
+        assertEquals(8 * 100 + 3 * APPLE_PIE.getCostPriceCents(), model.getBookKeeping().getCostCents());
+    }
+
+    @Test
+    public void execute_rowConflictsWithExistingItem_nothingImported() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Bagel,94021,5,1.00,2.00,",
+                "Apple Pie,333333,1,3.00,5.00,");
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_CONFLICT, 2, APPLE_PIE.getName(), APPLE_PIE);
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+        assertEquals(0, model.getBookKeeping().getCostCents());
+        assertFalse(model.hasName(new ItemBuilder().withName("Bagel").build()));
+    }
+
+    @Test
+    public void execute_rowsConflictWithinFile_nothingImported() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Bagel,94021,5,1.00,2.00,",
+                "Bagel,94022,5,1.00,2.00,");
+
+        Item bagel = new ItemBuilder().withName("Bagel").withId("94021").withCount("5").withCostPrice("1.00")
+                .withSalesPrice("2.00").withTags().build();
+        String expectedMessage = String.format(ImportCommand.MESSAGE_CONFLICT, 2, bagel.getName(), bagel);
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_newItemRowsWithDifferentPrices_nothingImported() throws Exception {
+        Item bagel = new ItemBuilder().withName("Bagel").withId("94021").withCount("5").withCostPrice("1.00")
+                .withSalesPrice("2.00").withTags().build();
+        String expectedMessage = String.format(ImportCommand.MESSAGE_CONFLICT, 2, bagel.getName(), bagel);
+
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Bagel,94021,5,1.00,2.00,",
+                "Bagel,94021,5,1.50,2.00,");
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+
+        filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Bagel,94021,5,1.00,2.00,",
+                "Bagel,94021,5,1.00,2.50,");
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+        assertFalse(model.hasName(bagel));
+    }
+
+    @Test
+    public void execute_newItemRowsOverCountLimit_nothingImported() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Bagel,94021,999999,1.00,2.00,",
+                "Bagel,94021,1,1.00,2.00,");
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_COUNT_TOO_LARGE, 2, "Bagel");
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+        assertFalse(model.hasName(new ItemBuilder().withName("Bagel").build()));
+    }
+
+    @Test
+    public void execute_restockRowsOverCountLimit_nothingImported() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Apple Pie,222222,500000,3.00,5.00,",
+                "Apple Pie,222222,499995,3.00,5.00,");
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_COUNT_TOO_LARGE, 2, APPLE_PIE.getName());
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+        assertEquals(APPLE_PIE.getCount(), model.getInventory().getItemList().get(0).getCount());
+        assertEquals(0, model.getBookKeeping().getCostCents());
+    }
+
+    @Test
+    public void execute_invalidFile_nothingImported() throws Exception {
+        Path filePath = writeFile("not,a,header");
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_INVALID_FILE,
+                String.format(CsvDataFile.MESSAGE_INVALID_HEADER, CsvDataFile.ITEM_HEADER));
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_exportedInventory_reimportedAsRestock() throws Exception {
+        Path filePath = testFolder.resolve("inventory.csv");
+        new ExportCommand(ExportCommand.Data.INVENTORY, filePath).execute(model);
+
+        new ImportCommand(filePath).execute(model);
+
+        assertEquals(2 * APPLE_PIE.getCount(), model.getInventory().getItemList().get(0).getCount());
+        assertEquals(2 * BANANA_MUFFIN.getCount(), model.getInventory().getItemList().get(1).getCount());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"))));
+        assertFalse(importCommand.equals(null));
+    }
+
+    private Path writeFile(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("import.csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
@@ -9,6 +9,11 @@ import static seedu.address.model.display.DisplayMode.DISPLAY_INVENTORY;
 import static seedu.address.model.display.DisplayMode.DISPLAY_TRANSACTION_LIST;
 import static seedu.address.testutil.TypicalItems.getTypicalInventory;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -86,4 +91,16 @@ public class ListTransactionCommandTest {
         assertCommandFailure(noIdCommand, model, expectedMessageFail);
     }
 
+    @Test
+    public void execute_period_displaysTransactionsInPeriod() {
+        LocalDate date = LocalDate.ofInstant(TypicalTransactions.TRANSACTION_TIME_BAGEL, ZoneId.systemDefault());
+        Instant from = date.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Instant to = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        expectedModel.openTransactionsBetween(from, to);
+
+        String expectedMessage = String.format(ListTransactionCommand.MESSAGE_SUCCESS_PERIOD, 1, date, date);
+        assertCommandSuccess(new ListTransactionCommand(Optional.of(date), Optional.of(date)), model,
+                expectedMessage, expectedModel);
+        assertEquals(1, model.getFilteredDisplayList().size());
+    }
 }
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.getTypicalInventory;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.BookKeeping;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TransactionList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.rollup.Period;
+import seedu.address.testutil.TypicalTransactions;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ReportCommand}.
+ */
+public class ReportCommandTest {
+
+    private static final String OCTOBER = "2021-10-01: costs $0.00, revenue $30.00, profit $30.00, 5 units sold";
+    private static final String NOVEMBER = "2021-11-01: costs $0.00, revenue $35.00, profit $35.00, 5 units sold";
+    private static final String OCTOBER_BAGEL = "Bagel (id: 094021): revenue $30.00, 5 units sold";
+    private static final String NOVEMBER_DONUT = "Donut (id: 789013): revenue $35.00, 5 units sold";
+
+    private Model model = new ModelManager(getTypicalInventory(), new UserPrefs(),
+            TypicalTransactions.getTypicalTransactionList(), new BookKeeping());
+    private Model expectedModel = new ModelManager(getTypicalInventory(), new UserPrefs(),
+            TypicalTransactions.getTypicalTransactionList(), new BookKeeping());
+
+    @Test
+    public void constructor_nullPeriod_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReportCommand(null, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void execute_allMonths_reportsEachMonth() {
+        String expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, "month", OCTOBER + "\n" + NOVEMBER);
+        assertCommandSuccess(new ReportCommand(Period.MONTH, Optional.empty(), Optional.empty()), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_dateRange_reportsOverlappingMonths() {
+        String expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, "month", NOVEMBER);
+        assertCommandSuccess(new ReportCommand(Period.MONTH, Optional.of(LocalDate.of(2021, 11, 20)),
+                Optional.empty()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_byItem_reportsSalesOfEachItem() {
+        String expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, "month",
+                OCTOBER + "\n" + ReportCommand.ITEM_INDENT + OCTOBER_BAGEL + "\n"
+                + NOVEMBER + "\n" + ReportCommand.ITEM_INDENT + NOVEMBER_DONUT);
+        assertCommandSuccess(new ReportCommand(Period.MONTH, Optional.empty(), Optional.empty(), true), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_nothingInRange_reportsNothingRecorded() {
+        String expectedMessage = String.format(ReportCommand.MESSAGE_SUCCESS, "day",
+                ReportCommand.MESSAGE_NOTHING_RECORDED);
+        assertCommandSuccess(new ReportCommand(Period.DAY, Optional.empty(), Optional.of(LocalDate.of(2021, 1, 1))),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand reportDays = new ReportCommand(Period.DAY, Optional.empty(), Optional.empty());
+        ReportCommand reportMonths = new ReportCommand(Period.MONTH, Optional.empty(), Optional.empty());
+
+        assertTrue(reportDays.equals(reportDays));
+        assertTrue(reportDays.equals(new ReportCommand(Period.DAY, Optional.empty(), Optional.empty())));
+        assertFalse(reportDays.equals(reportMonths));
+        assertFalse(reportDays.equals(new ReportCommand(Period.DAY, Optional.empty(), Optional.empty(), true)));
+        assertFalse(reportDays.equals(new ReportCommand(Period.DAY, Optional.of(LocalDate.of(2021, 1, 1)),
+                Optional.empty())));
+        assertFalse(reportDays.equals(null));
+        assertFalse(reportDays.equals(1));
+    }
+}
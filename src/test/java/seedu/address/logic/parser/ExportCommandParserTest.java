@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " inventory data/stock.csv",
+                new ExportCommand(ExportCommand.Data.INVENTORY, Paths.get("data/stock.csv")));
+        assertParseSuccess(parser, " TRANSACTIONS  my sales.csv ",
+                new ExportCommand(ExportCommand.Data.TRANSACTIONS, Paths.get("my sales.csv")));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, " inventory", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownData_throwsParseException() {
+        assertParseFailure(parser, " orders data/orders.csv", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -10,21 +10,25 @@ import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BAGEL;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_DONUT;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_BAKED;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_POPULAR;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BAGEL;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_DONUT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BAKED;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_POPULAR;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalItems.BAGEL;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.item.IdContainsNumberPredicate;
 import seedu.address.model.item.NameContainsKeywordsPredicate;
+import seedu.address.model.item.NameSimilarToPredicate;
 import seedu.address.model.item.TagContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -91,6 +95,41 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, NAME_DESC_BAGEL + "   " + ID_DESC_BAGEL, expectedFindCommand);
     }
 
+    @Test
+    public void parse_tagGroups_returnsFindCommand() {
+        Tag baked = new Tag(VALID_TAG_BAKED);
+        Tag popular = new Tag(VALID_TAG_POPULAR);
+
+        // tags joined by + must all be present
+        FindCommand expectedFindCommand = new FindCommand(List.of(
+                TagContainsKeywordsPredicate.anyGroupOf(List.of(Set.of(baked, popular)))));
+        assertParseSuccess(parser, TAG_DESC_BAKED + "+" + VALID_TAG_POPULAR, expectedFindCommand);
+
+        // separate tags, any of which may be present
+        expectedFindCommand = new FindCommand(List.of(new TagContainsKeywordsPredicate(List.of(baked, popular))));
+        assertParseSuccess(parser, TAG_DESC_BAKED + TAG_DESC_POPULAR, expectedFindCommand);
+    }
+
+    @Test
+    public void parse_emptyTagInGroup_throwsParseException() {
+        assertParseFailure(parser, TAG_DESC_BAKED + "+", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, TAG_DESC_BAKED + "++" + VALID_TAG_POPULAR, Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_similarNames_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(List.of(
+                new NameSimilarToPredicate("bagle", FindCommand.MAX_SIMILAR_ITEMS),
+                new NameSimilarToPredicate("donnut", FindCommand.MAX_SIMILAR_ITEMS)));
+        assertParseSuccess(parser, " like/bagle  like/ donnut ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_blankSimilarName_throwsParseException() {
+        assertParseFailure(parser, " like/  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_negativeIdArgs_throwsParseException() {
         assertParseFailure(parser, INVALID_ID_NEGATIVE_NUMBER, String.format(
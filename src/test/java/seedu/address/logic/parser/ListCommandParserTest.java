@@ -4,8 +4,12 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.ListInventoryCommand;
 import seedu.address.logic.commands.ListTransactionCommand;
 import seedu.address.model.display.DisplayMode;
@@ -50,6 +54,25 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, ListTransactionCommand.TRANSACTIONS_KEYWORD + " " + testId, expectedListCommand);
     }
 
+    @Test
+    public void parse_transactionKeywordWithDates_returnsListCommand() {
+        LocalDate from = LocalDate.of(2021, 10, 1);
+        LocalDate to = LocalDate.of(2021, 10, 31);
+
+        assertParseSuccess(parser, ListTransactionCommand.TRANSACTIONS_KEYWORD + " from/2021-10-01 to/2021-10-31",
+                new ListTransactionCommand(Optional.of(from), Optional.of(to)));
+        assertParseSuccess(parser, ListTransactionCommand.TRANSACTIONS_KEYWORD + " to/2021-10-31",
+                new ListTransactionCommand(Optional.empty(), Optional.of(to)));
+    }
+
+    @Test
+    public void parse_transactionKeywordWithInvalidDates_failure() {
+        assertParseFailure(parser, ListTransactionCommand.TRANSACTIONS_KEYWORD + " from/2021-11-01 to/2021-10-31",
+                ListCommandParser.MESSAGE_INVALID_PERIOD);
+        assertParseFailure(parser, ListTransactionCommand.TRANSACTIONS_KEYWORD + " from/01-10-2021",
+                Messages.MESSAGE_INVALID_DATE_FORMAT);
+    }
+
     @Test
     public void parse_otherArgs_failure() {
         // asking help for list command
@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.model.rollup.Period;
+
+public class ReportCommandParserTest {
+
+    private ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPeriod_throwsParseException() {
+        assertParseFailure(parser, " year", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_periodOnly_success() {
+        assertParseSuccess(parser, " week", new ReportCommand(Period.WEEK, Optional.empty(), Optional.empty()));
+        assertParseSuccess(parser, " MONTH ", new ReportCommand(Period.MONTH, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_periodAndDates_success() {
+        assertParseSuccess(parser, " day from/2021-10-01 to/2021-10-07", new ReportCommand(Period.DAY,
+                Optional.of(LocalDate.of(2021, 10, 1)), Optional.of(LocalDate.of(2021, 10, 7))));
+        assertParseSuccess(parser, " day to/2021-10-07", new ReportCommand(Period.DAY,
+                Optional.empty(), Optional.of(LocalDate.of(2021, 10, 7))));
+    }
+
+    @Test
+    public void parse_byItem_success() {
+        assertParseSuccess(parser, " week items", new ReportCommand(Period.WEEK, Optional.empty(), Optional.empty(),
+                true));
+        assertParseSuccess(parser, " day  ITEMS to/2021-10-07", new ReportCommand(Period.DAY, Optional.empty(),
+                Optional.of(LocalDate.of(2021, 10, 7)), true));
+    }
+
+    @Test
+    public void parse_unknownKeyword_throwsParseException() {
+        assertParseFailure(parser, " week all", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ReportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " week items items", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ReportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " items", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ReportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, " day from/2021-13-01", MESSAGE_INVALID_DATE_FORMAT);
+    }
+
+    @Test
+    public void parse_fromAfterTo_throwsParseException() {
+        assertParseFailure(parser, " day from/2021-10-07 to/2021-10-01", ListCommandParser.MESSAGE_INVALID_PERIOD);
+    }
+}
@@ -12,27 +12,114 @@ public class BookKeepingTest {
 
     @Test
     public void addCost_overflow_costKeptAtLimit() {
-        bookKeeping.addCost(BookKeeping.LIMIT, 2);
+        bookKeeping.addCost(BookKeeping.LIMIT_CENTS, 2);
 
         assertEquals(bookKeeping.getCost(), BookKeeping.LIMIT);
     }
 
     @Test
     public void addRevenue_overflow_costKeptAtLimit() {
-        bookKeeping.addRevenue(BookKeeping.LIMIT, 2);
+        bookKeeping.addRevenue(BookKeeping.LIMIT_CENTS, 2);
 
         assertEquals(bookKeeping.getRevenue(), BookKeeping.LIMIT);
     }
 
     @Test
     public void getProfit() {
-        bookKeeping.addCost(5.0, 5);
-        bookKeeping.addRevenue(10.0, 5);
+        bookKeeping.addCost(500, 5);
+        bookKeeping.addRevenue(1000, 5);
 
         // Profit = (10 * 5) - (5 * 5) = 25
         assertEquals(bookKeeping.getProfit(), 25);
     }
 
+    @Test
+    public void addRevenue_manySmallAmounts_exact() {
+        for (int i = 0; i < 100000; i++) {
+            bookKeeping.addRevenue(10, 1);
+        }
+
+        // Adding up $0.10 as doubles would drift away from $10,000
+        assertEquals(1000000, bookKeeping.getRevenueCents());
+        assertEquals(10000.0, bookKeeping.getRevenue());
+    }
+
+    @Test
+    public void addRevenue_concurrentThreads_noUpdatesLost() throws Exception {
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    bookKeeping.addRevenue(150, 2);
+                    bookKeeping.addCost(100, 1);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4 * 10000 * 300, bookKeeping.getRevenueCents());
+        assertEquals(4 * 10000 * 100, bookKeeping.getCostCents());
+    }
+
+    @Test
+    public void getRevenueCents_concurrentReadsAfterOverflow_keptAtLimit() throws Exception {
+        bookKeeping.addRevenue(BookKeeping.LIMIT_CENTS, 2);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    bookKeeping.getRevenueCents();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        bookKeeping.addRevenue(-100, 1);
+        assertEquals(BookKeeping.LIMIT_CENTS - 100, bookKeeping.getRevenueCents());
+    }
+
+    @Test
+    public void snapshot_afterOverflow_profitAgreesWithCappedTotals() {
+        bookKeeping.addRevenue(BookKeeping.LIMIT_CENTS, 3);
+        bookKeeping.addCost(100, 1);
+
+        BookKeeping.Snapshot snapshot = bookKeeping.snapshot();
+        assertEquals(BookKeeping.LIMIT_CENTS, snapshot.getRevenueCents());
+        assertEquals(BookKeeping.LIMIT_CENTS - 100, snapshot.getProfitCents());
+        assertEquals(snapshot.toString(), bookKeeping.toString());
+    }
+
+    @Test
+    public void addCost_negativeCostAfterOverflow_sameAsAfterSaving() {
+        bookKeeping.addCost(BookKeeping.LIMIT_CENTS, 2);
+        BookKeeping readBack = BookKeeping.fromCents(bookKeeping.getRevenueCents(), bookKeeping.getCostCents());
+
+        bookKeeping.addCost(-100, 1);
+        readBack.addCost(-100, 1);
+
+        assertEquals(BookKeeping.LIMIT_CENTS - 100, bookKeeping.getCostCents());
+        assertEquals(readBack, bookKeeping);
+    }
+
+    @Test
+    public void constructor_dollars_roundedToCents() {
+        BookKeeping fromDollars = new BookKeeping(0.1 + 0.2, 0.3);
+        assertEquals(30, fromDollars.getRevenueCents());
+        assertEquals(fromDollars.getRevenueCents(), fromDollars.getCostCents());
+    }
+
+    @Test
+    public void toString_negativeProfit_formattedWithSign() {
+        bookKeeping.addCost(1005, 1);
+        assertEquals("Total costs: $10.05, Total revenue: $0.00, Total profit: -$10.05", bookKeeping.toString());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -49,7 +136,7 @@ public class BookKeepingTest {
         assertFalse(bookKeeping.equals(5));
 
         // different values -> returns false
-        bookKeepingCopy.addCost(5.0, 2);
+        bookKeepingCopy.addCost(500, 2);
         assertFalse(bookKeeping.equals(bookKeepingCopy));
     }
 
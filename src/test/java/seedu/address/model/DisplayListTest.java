@@ -5,12 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalItems.APPLE_PIE;
 import static seedu.address.testutil.TypicalItems.BAGEL;
+import static seedu.address.testutil.TypicalItems.DONUT;
 import static seedu.address.testutil.TypicalItems.getTypicalInventory;
 import static seedu.address.testutil.TypicalItems.getTypicalItems;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +22,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.model.display.DisplayList;
 import seedu.address.model.display.Displayable;
 import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemNameComparator;
 
 public class DisplayListTest {
 
@@ -84,6 +87,36 @@ public class DisplayListTest {
         assertEquals(filteredList, expectedList);
     }
 
+    @Test
+    public void sourceChanged_removeReplaceAndSort_propagated() {
+        ObservableList<Item> itemSource = FXCollections.observableArrayList(getTypicalItems());
+        displayList.setItems(itemSource);
+
+        itemSource.remove(APPLE_PIE);
+        assertEquals(itemSource, filteredList);
+
+        itemSource.set(1, BAGEL);
+        assertEquals(itemSource, filteredList);
+
+        itemSource.sort(new ItemNameComparator());
+        assertEquals(itemSource, filteredList);
+
+        itemSource.setAll(List.of(DONUT, BAGEL));
+        assertEquals(itemSource, filteredList);
+    }
+
+    @Test
+    public void sourceChanged_withPredicate_filterApplied() {
+        ObservableList<Item> itemSource = FXCollections.observableArrayList(getTypicalItems());
+        displayList.setItems(itemSource);
+        displayList.setPredicate(x -> ((Item) x).getTags().size() > 1);
+
+        itemSource.add(0, DONUT);
+        itemSource.sort(new ItemNameComparator().reversed());
+        assertEquals(itemSource.stream().filter(item -> item.getTags().size() > 1).collect(Collectors.toList()),
+                filteredList);
+    }
+
     @Test
     public void equalsTest() {
         assertTrue(displayList.equals(displayList));
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalItems.APPLE_PIE;
+import static seedu.address.testutil.TypicalItems.BAGEL;
+import static seedu.address.testutil.TypicalItems.DONUT;
+import static seedu.address.testutil.TypicalItems.getTypicalItems;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.display.MirroredList;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemNameComparator;
+
+public class MirroredListTest {
+
+    private final List<Runnable> pending = new ArrayList<>();
+    private final ObservableList<Item> source = FXCollections.observableArrayList(getTypicalItems());
+    private final MirroredList<Item> mirror = new MirroredList<>(source, pending::add);
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void sourceChanged_changesAppliedOnlyThroughExecutor() {
+        List<Item> before = new ArrayList<>(source);
+        source.remove(APPLE_PIE);
+        source.add(0, DONUT);
+        source.set(1, BAGEL);
+        source.sort(new ItemNameComparator());
+        assertEquals(before, mirror);
+
+        // The recorded changes still apply correctly after the source has moved on
+        List<Item> expected = new ArrayList<>(source);
+        source.setAll(List.of());
+        runPending(4);
+        assertEquals(expected, mirror);
+
+        runPending(1);
+        assertEquals(List.of(), mirror);
+    }
+
+    @Test
+    public void sourceChanged_listenersNotified() {
+        List<Item> seenByListener = new ArrayList<>();
+        mirror.addListener((ListChangeListener<Item>) change ->
+                seenByListener.addAll(change.getList()));
+        source.add(DONUT);
+        runPending(1);
+        assertEquals(source, seenByListener);
+    }
+
+    @Test
+    public void setSource_newSourceCopiedAndFollowed() {
+        ObservableList<Item> newSource = FXCollections.observableArrayList(List.of(BAGEL));
+        mirror.setSource(newSource);
+        source.add(DONUT);
+        newSource.add(APPLE_PIE);
+        runPending(2);
+        assertEquals(List.of(BAGEL, APPLE_PIE), mirror);
+    }
+
+    /**
+     * Runs the first {@code count} pending tasks, in order.
+     */
+    private void runPending(int count) {
+        for (int i = 0; i < count; i++) {
+            pending.remove(0).run();
+        }
+    }
+}
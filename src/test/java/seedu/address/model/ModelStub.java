@@ -1,8 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -11,7 +15,10 @@ import seedu.address.model.display.DisplayMode;
 import seedu.address.model.display.Displayable;
 import seedu.address.model.item.Item;
 import seedu.address.model.item.ItemDescriptor;
+import seedu.address.model.item.SimilarItems;
 import seedu.address.model.order.Order;
+import seedu.address.model.rollup.SalesRollup;
+import seedu.address.model.tag.Tag;
 
 /**
  * A default model stub that have all of its methods failing.
@@ -53,6 +60,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addItems(List<Item> items) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setInventory(ReadOnlyInventory newData) {
         throw new AssertionError("This method should not be called.");
@@ -83,6 +95,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Item> getItemsWithTags(Collection<Tag> tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Item> getItemsWithNameStartingWith(String query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public SimilarItems getItemsWithNameSimilarTo(String query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setItem(Item target, Item editedItem) {
         throw new AssertionError("This method should not be called.");
@@ -98,6 +125,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void restockItems(Map<Item, Integer> amounts) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void removeItem(Item target, int amount) {
         throw new AssertionError("This method should not be called.");
@@ -128,6 +160,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int openTransactionsBetween(Instant from, Instant to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public DisplayMode getDisplayMode() {
         throw new AssertionError("This method should not be called.");
@@ -174,7 +211,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void addCostBookKeeping(Double cost, int amount) {
+    public void addCostBookKeeping(long costCents, int amount) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -189,7 +226,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void addRevenueBookKeeping(Double revenue, int amount) {
+    public void addRevenueBookKeeping(long revenueCents, int amount) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -202,4 +239,9 @@ public class ModelStub implements Model {
     public void initialiseBookKeeping() {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public SalesRollup getSalesRollup() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
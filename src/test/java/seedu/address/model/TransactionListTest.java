@@ -1,13 +1,28 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_ID_APPLE_PIE;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_ID_BAGEL;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_TIME_APPLE_PIE;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_TIME_BAGEL;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_TIME_DONUT;
 import static seedu.address.testutil.TypicalTransactions.getTypicalTransactionList;
 import static seedu.address.testutil.TypicalTransactions.getTypicalTransactionList2;
 import static seedu.address.testutil.TypicalTransactions.getTypicalTransactionList3;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.testutil.TypicalItems;
+
 public class TransactionListTest {
 
     private TransactionList transactionList1 = getTypicalTransactionList();
@@ -50,4 +65,64 @@ public class TransactionListTest {
         assertTrue(transactionList1.equalTestsTransactionLists(transactionList1Copy));
     }
 
+    @Test
+    public void findById_addedTransaction_found() {
+        TransactionRecord record = transactionList1.getTransactionRecordList().get(0);
+        assertEquals(Optional.of(record), transactionList1.findById(TRANSACTION_ID_BAGEL));
+        assertEquals(Optional.empty(), transactionList1.findById(TRANSACTION_ID_APPLE_PIE));
+    }
+
+    @Test
+    public void findById_historyTransaction_found() {
+        TransactionList transactionList = new TransactionList(
+                TransactionHistory.of(transactionList1.getTransactionRecordList()));
+        TransactionRecord applePie = new TransactionRecord(List.of(TypicalItems.APPLE_PIE), TRANSACTION_ID_APPLE_PIE,
+                TRANSACTION_TIME_APPLE_PIE);
+        transactionList.add(applePie);
+
+        assertEquals(transactionList1.findById(TRANSACTION_ID_BAGEL), transactionList.findById(TRANSACTION_ID_BAGEL));
+        assertEquals(Optional.of(applePie), transactionList.findById(TRANSACTION_ID_APPLE_PIE));
+    }
+
+    @Test
+    public void findById_duplicateId_firstFound() {
+        TransactionRecord first = transactionList1.getTransactionRecordList().get(0);
+        transactionList1.add(new TransactionRecord(List.of(TypicalItems.APPLE_PIE), TRANSACTION_ID_BAGEL,
+                TRANSACTION_TIME_APPLE_PIE));
+        assertSame(first, transactionList1.findById(TRANSACTION_ID_BAGEL).get());
+    }
+
+    @Test
+    public void getTransactionRecordList_transactionAdded_sameViewUpdated() {
+        TransactionList transactionList = new TransactionList(
+                TransactionHistory.of(transactionList1.getTransactionRecordList()));
+        ObservableList<TransactionRecord> view = transactionList.getTransactionRecordList();
+        TransactionRecord applePie = new TransactionRecord(List.of(TypicalItems.APPLE_PIE), TRANSACTION_ID_APPLE_PIE,
+                TRANSACTION_TIME_APPLE_PIE);
+        transactionList.add(applePie);
+
+        assertSame(view, transactionList.getTransactionRecordList());
+        assertEquals(3, view.size());
+        assertEquals(applePie, view.get(2));
+    }
+
+    @Test
+    public void findBetween_unorderedTransactions_inTimestampOrder() {
+        List<TransactionRecord> records = transactionList3.getTransactionRecordList();
+        assertEquals(List.of(records.get(2), records.get(0), records.get(1)),
+                transactionList3.findBetween(Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    public void findBetween_historyAndAdded_mergedInTimestampOrder() {
+        List<TransactionRecord> records = transactionList3.getTransactionRecordList();
+        TransactionList transactionList = new TransactionList(TransactionHistory.of(records.subList(0, 2)));
+        transactionList.add(records.get(2));
+
+        assertEquals(List.of(records.get(2), records.get(0)),
+                transactionList.findBetween(TRANSACTION_TIME_APPLE_PIE, TRANSACTION_TIME_DONUT));
+        assertEquals(List.of(records.get(0), records.get(1)),
+                transactionList.findBetween(TRANSACTION_TIME_BAGEL, Instant.MAX));
+        assertEquals(List.of(), transactionList.findBetween(TRANSACTION_TIME_DONUT.plusSeconds(1), Instant.MAX));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.item;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_BAGEL;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BAGEL;
@@ -24,6 +26,32 @@ public class ItemTest {
         assertTrue(item.equals(APPLE_PIE));
     }
 
+    @Test
+    public void updateCount_sharesTagsAndName() {
+        Item item = BAGEL.updateCount(BAGEL.getCount() + 3);
+
+        assertEquals(BAGEL.getCount() + 3, item.getCount());
+        assertSame(BAGEL.getTags(), item.getTags());
+        assertSame(BAGEL.getName(), item.getName());
+        assertSame(BAGEL.getLowerCaseName(), item.getLowerCaseName());
+    }
+
+    @Test
+    public void constructor_sameTags_tagSetShared() {
+        Item item = new ItemBuilder(BAGEL).withName("Plain Bagel").withId("314159").build();
+
+        assertSame(BAGEL.getTags(), item.getTags());
+    }
+
+    @Test
+    public void hashCode_nameInDifferentCase_sameHashCode() {
+        Item item = new ItemBuilder(BAGEL).withName(VALID_NAME_BAGEL.toUpperCase()).build();
+
+        assertTrue(item.equals(BAGEL));
+        assertEquals(BAGEL.hashCode(), item.hashCode());
+        assertEquals(VALID_NAME_BAGEL.toLowerCase(), item.getLowerCaseName());
+    }
+
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
         Item item = new ItemBuilder().build();
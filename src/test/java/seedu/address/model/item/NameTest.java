@@ -1,9 +1,13 @@
 package seedu.address.model.item;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.util.StringUtil;
@@ -21,6 +25,31 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void of_equalNames_sameInstance() {
+        Name name = Name.of("Lemon Tart");
+        assertSame(name, Name.of(new String("Lemon Tart")));
+        assertEquals("lemon tart", name.getLowerCaseName());
+    }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new Name("Lemon Tart"), new Name("LEMON tart"));
+        assertEquals(new Name("Lemon Tart").hashCode(), new Name("LEMON tart").hashCode());
+    }
+
+    @Test
+    public void equals_turkishDefaultLocale_caseIgnored() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals(new Name("ICE TEA"), new Name("ice tea"));
+            assertEquals(new Name("ICE TEA").hashCode(), new Name("ice tea").hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_BAGEL;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_DONUT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BAGEL;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BAKED;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_POPULAR;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalItems.APPLE_PIE;
@@ -14,14 +15,19 @@ import static seedu.address.testutil.TypicalItems.BANANA_MUFFIN;
 import static seedu.address.testutil.TypicalItems.CHOCOCHIP;
 import static seedu.address.testutil.TypicalItems.DONUT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.item.exceptions.DuplicateItemException;
 import seedu.address.model.item.exceptions.ItemNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.ItemBuilder;
 import seedu.address.testutil.ItemDescriptorBuilder;
 
@@ -72,6 +78,33 @@ public class UniqueItemListTest {
         assertThrows(DuplicateItemException.class, () -> uniqueItemList.add(APPLE_PIE));
     }
 
+    @Test
+    public void addAll_newItems_addedInOrder() {
+        uniqueItemList.add(APPLE_PIE);
+        uniqueItemList.addAll(Arrays.asList(BANANA_MUFFIN, BAGEL));
+        assertEquals(Arrays.asList(APPLE_PIE, BANANA_MUFFIN, BAGEL), uniqueItemList.asUnmodifiableObservableList());
+        assertEquals(List.of(BAGEL), uniqueItemList.get(new ItemDescriptorBuilder(BAGEL).build()));
+    }
+
+    @Test
+    public void addAll_nullItem_throwsNullPointerException() {
+        uniqueItemList.add(APPLE_PIE);
+        assertThrows(NullPointerException.class, () -> uniqueItemList.addAll(Arrays.asList(BAGEL, null)));
+        assertEquals(List.of(APPLE_PIE), uniqueItemList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateItem_nothingAdded() {
+        uniqueItemList.add(APPLE_PIE);
+        assertThrows(DuplicateItemException.class, () -> uniqueItemList.addAll(Arrays.asList(BAGEL, APPLE_PIE)));
+        assertThrows(DuplicateItemException.class, () -> uniqueItemList.addAll(Arrays.asList(BAGEL, BAGEL)));
+
+        assertEquals(List.of(APPLE_PIE), uniqueItemList.asUnmodifiableObservableList());
+        assertTrue(uniqueItemList.get(new ItemDescriptorBuilder(BAGEL).build()).isEmpty());
+        // BAGEL was not left behind in the index
+        uniqueItemList.add(BAGEL);
+    }
+
     @Test
     public void setItem_nullTargetItem_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueItemList.setItem(null, APPLE_PIE));
@@ -169,6 +202,248 @@ public class UniqueItemListTest {
     }
 
 
+    @Test
+    public void getItem_nameDifferentCase_returnsItem() {
+        uniqueItemList.add(BAGEL);
+
+        ItemDescriptor descriptor = new ItemDescriptorBuilder().withName(VALID_NAME_BAGEL.toUpperCase()).build();
+        assertEquals(uniqueItemList.get(descriptor), List.of(BAGEL));
+    }
+
+    @Test
+    public void getItem_afterSetItem_returnsEditedItem() {
+        uniqueItemList.add(BAGEL);
+        uniqueItemList.setItem(BAGEL, DONUT);
+
+        // Old identity no longer indexed
+        ItemDescriptor descriptor = new ItemDescriptorBuilder().withName(VALID_NAME_BAGEL).build();
+        assertEquals(uniqueItemList.get(descriptor), List.of());
+        assertFalse(uniqueItemList.contains(BAGEL));
+
+        // New identity indexed
+        descriptor = new ItemDescriptorBuilder().withId(VALID_ID_DONUT).build();
+        assertEquals(uniqueItemList.get(descriptor), List.of(DONUT));
+        assertTrue(uniqueItemList.containsID(DONUT));
+        assertTrue(uniqueItemList.containsName(DONUT));
+    }
+
+    @Test
+    public void getItem_afterRemove_returnEmptyList() {
+        uniqueItemList.add(BAGEL);
+        uniqueItemList.remove(BAGEL);
+
+        ItemDescriptor descriptor = new ItemDescriptorBuilder()
+                .withName(VALID_NAME_BAGEL).withId(VALID_ID_BAGEL).build();
+        assertEquals(uniqueItemList.get(descriptor), List.of());
+        assertFalse(uniqueItemList.containsID(BAGEL));
+        assertFalse(uniqueItemList.containsName(BAGEL));
+    }
+
+    @Test
+    public void getItem_multipleMatchesAfterSort_returnInListOrder() {
+        uniqueItemList.add(DONUT);
+        uniqueItemList.add(BAGEL);
+        uniqueItemList.sortItems(new ItemNameComparator());
+
+        ItemDescriptor descriptor = new ItemDescriptorBuilder()
+                .withName(VALID_NAME_BAGEL).withId(VALID_ID_DONUT).build();
+        assertEquals(uniqueItemList.get(descriptor), List.of(BAGEL, DONUT));
+    }
+
+    @Test
+    public void getWithTags_oneTag_returnsItemsWithTag() {
+        uniqueItemList.setItems(List.of(APPLE_PIE, BANANA_MUFFIN, DONUT));
+
+        assertEquals(Set.of(APPLE_PIE, BANANA_MUFFIN, DONUT), uniqueItemList.getWithTags(Set.of(baked())));
+        assertEquals(Set.of(DONUT), uniqueItemList.getWithTags(Set.of(popular())));
+        assertEquals(Set.of(), uniqueItemList.getWithTags(Set.of(Tag.of("frozen"))));
+    }
+
+    @Test
+    public void getWithTags_severalTags_returnsItemsWithAllTags() {
+        uniqueItemList.setItems(List.of(APPLE_PIE, BANANA_MUFFIN, DONUT));
+
+        assertEquals(Set.of(DONUT), uniqueItemList.getWithTags(Set.of(baked(), popular())));
+        assertEquals(Set.of(), uniqueItemList.getWithTags(Set.of(popular(), Tag.of("bestseller"))));
+    }
+
+    @Test
+    public void getWithTags_afterSetItemAndRemove_indexUpdated() {
+        uniqueItemList.add(APPLE_PIE);
+        uniqueItemList.add(BAGEL);
+        Item editedPie = new ItemBuilder(APPLE_PIE).withTags(VALID_TAG_POPULAR).build();
+        uniqueItemList.setItem(APPLE_PIE, editedPie);
+        uniqueItemList.remove(BAGEL);
+
+        assertEquals(Set.of(), uniqueItemList.getWithTags(Set.of(baked())));
+        assertEquals(Set.of(editedPie), uniqueItemList.getWithTags(Set.of(popular())));
+    }
+
+    @Test
+    public void getWithNameStartingWith_wordPrefixes_returnsMatchingItems() {
+        uniqueItemList.setItems(List.of(APPLE_PIE, BANANA_MUFFIN, CHOCOCHIP));
+
+        assertEquals(Set.of(BANANA_MUFFIN), uniqueItemList.getWithNameStartingWith("ban"));
+        assertEquals(Set.of(BANANA_MUFFIN), uniqueItemList.getWithNameStartingWith("  MUF "));
+        assertEquals(Set.of(CHOCOCHIP), uniqueItemList.getWithNameStartingWith("chip coo"));
+        assertEquals(Set.of(), uniqueItemList.getWithNameStartingWith("pple"));
+        assertThrows(IllegalArgumentException.class, () -> uniqueItemList.getWithNameStartingWith(" "));
+    }
+
+    @Test
+    public void getWithNameStartingWith_sameAsCheckingEachName() {
+        List<Item> items = List.of(APPLE_PIE, BANANA_MUFFIN, CHOCOCHIP, BAGEL, DONUT,
+                new ItemBuilder().withName("Pie A").withId("555555").build());
+        uniqueItemList.setItems(items);
+
+        for (String query : List.of("a", "p", "pie", "pie a", "chocolate chip", "ch", "bagel", "e", "nut")) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(query));
+            Set<Item> expected = new HashSet<>();
+            items.stream().filter(predicate).forEach(expected::add);
+            assertEquals(expected, uniqueItemList.getWithNameStartingWith(query), query);
+        }
+    }
+
+    @Test
+    public void getWithNameStartingWith_afterSetItemAndRemove_indexUpdated() {
+        uniqueItemList.add(APPLE_PIE);
+        uniqueItemList.add(BAGEL);
+        Item editedPie = new ItemBuilder(APPLE_PIE).withName("Cherry Pie").build();
+        uniqueItemList.setItem(APPLE_PIE, editedPie);
+        uniqueItemList.remove(BAGEL);
+
+        assertEquals(Set.of(), uniqueItemList.getWithNameStartingWith("apple"));
+        assertEquals(Set.of(), uniqueItemList.getWithNameStartingWith("bagel"));
+        assertEquals(Set.of(editedPie), uniqueItemList.getWithNameStartingWith("pie"));
+    }
+
+    @Test
+    public void getWithNameStartingWith_afterAddAllAndRemove_indexUpdated() {
+        Item pieA = new ItemBuilder().withName("Pie A").withId("555555").build();
+        Item pieB = new ItemBuilder().withName("Pie B").withId("666666").build();
+        uniqueItemList.add(APPLE_PIE);
+        assertEquals(List.of(APPLE_PIE), uniqueItemList.getWithNameSimilarTo("apple pie", 10).getItems());
+        uniqueItemList.addAll(List.of(pieA, BAGEL, pieB));
+
+        assertEquals(Set.of(APPLE_PIE, pieA, pieB), uniqueItemList.getWithNameStartingWith("pie"));
+        assertEquals(Set.of(pieA), uniqueItemList.getWithNameStartingWith("pie a"));
+        assertEquals(List.of(BAGEL), uniqueItemList.getWithNameSimilarTo("bagle", 10).getItems());
+
+        uniqueItemList.remove(pieA);
+        uniqueItemList.remove(APPLE_PIE);
+        assertEquals(Set.of(pieB), uniqueItemList.getWithNameStartingWith("pie"));
+    }
+
+    @Test
+    public void getWithNameSimilarTo_typos_returnsMostSimilarFirst() {
+        uniqueItemList.setItems(List.of(APPLE_PIE, BANANA_MUFFIN, CHOCOCHIP, BAGEL, DONUT));
+
+        assertEquals(List.of(BANANA_MUFFIN), uniqueItemList.getWithNameSimilarTo("banan mufin", 10).getItems());
+        assertEquals(List.of(CHOCOCHIP), uniqueItemList.getWithNameSimilarTo("choclate", 10).getItems());
+        assertEquals(List.of(BAGEL), uniqueItemList.getWithNameSimilarTo("BAGLE", 10).getItems());
+        assertEquals(List.of(), uniqueItemList.getWithNameSimilarTo("zzz", 10).getItems());
+    }
+
+    @Test
+    public void getWithNameSimilarTo_limit_keepsMostSimilar() {
+        Item applePieSlice = new ItemBuilder().withName("Apple Pie Slice").withId("555555").build();
+        uniqueItemList.setItems(List.of(applePieSlice, APPLE_PIE, BANANA_MUFFIN));
+
+        assertEquals(List.of(APPLE_PIE, applePieSlice),
+                uniqueItemList.getWithNameSimilarTo("aple pie", 10).getItems());
+        assertEquals(List.of(APPLE_PIE), uniqueItemList.getWithNameSimilarTo("aple pie", 1).getItems());
+        assertThrows(IllegalArgumentException.class, () -> uniqueItemList.getWithNameSimilarTo("aple", 0));
+        assertThrows(IllegalArgumentException.class, () -> uniqueItemList.getWithNameSimilarTo(" ", 1));
+    }
+
+    @Test
+    public void getWithNameSimilarTo_moreCandidatesThanLooked_rarestMatchFound() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < NameTrigramIndex.MAX_CANDIDATES * 2; i++) {
+            items.add(new ItemBuilder().withName("Banana Muffin " + i).withId(String.format("%06d", i)).build());
+        }
+        Item muffins = new ItemBuilder().withName("Banana Muffins").withId("999999").build();
+        items.add(muffins);
+        uniqueItemList.setItems(items);
+
+        List<Item> matches = uniqueItemList.getWithNameSimilarTo("banan mufins", 10).getItems();
+        assertEquals(10, matches.size());
+        assertEquals(muffins, matches.get(0));
+    }
+
+    @Test
+    public void getWithNameSimilarTo_itemsChangedAfterSearch_indexUpdated() {
+        uniqueItemList.add(APPLE_PIE);
+        assertEquals(List.of(), uniqueItemList.getWithNameSimilarTo("bagle", 10).getItems());
+
+        uniqueItemList.add(BAGEL);
+        uniqueItemList.remove(APPLE_PIE);
+        assertEquals(List.of(BAGEL), uniqueItemList.getWithNameSimilarTo("bagle", 10).getItems());
+        assertEquals(List.of(), uniqueItemList.getWithNameSimilarTo("aple", 10).getItems());
+
+        uniqueItemList.setItems(List.of(APPLE_PIE));
+        assertEquals(List.of(APPLE_PIE), uniqueItemList.getWithNameSimilarTo("aple", 10).getItems());
+    }
+
+    @Test
+    public void getWithNameSimilarTo_exactNameAmongManyLonger_exactNameFoundWhateverTheOrder() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < NameTrigramIndex.MAX_CANDIDATES * 2; i++) {
+            items.add(new ItemBuilder().withName("Banana Muffin " + i).withId(String.format("%06d", i)).build());
+        }
+        Item muffin = new ItemBuilder().withName("Banana Muffin").withId("999999").build();
+        items.add(muffin);
+        uniqueItemList.setItems(items);
+        SimilarItems matches = uniqueItemList.getWithNameSimilarTo("banana muffin", 10);
+        assertEquals(muffin, matches.getItems().get(0));
+        // The items left unscored have longer names than those found, so they could not be more similar
+        assertFalse(matches.isTruncated());
+
+        Collections.reverse(items);
+        UniqueItemList reversedList = new UniqueItemList();
+        reversedList.setItems(items);
+        assertEquals(matches, reversedList.getWithNameSimilarTo("banana muffin", 10));
+    }
+
+    @Test
+    public void getWithNameSimilarTo_manyEquallySimilar_truncated() {
+        uniqueItemList.setItems(manyEquallySimilarItems());
+
+        SimilarItems matches = uniqueItemList.getWithNameSimilarTo("banana muffin", 10);
+        assertEquals(10, matches.getItems().size());
+        assertTrue(matches.isTruncated());
+        assertFalse(uniqueItemList.getWithNameSimilarTo("bagle", 10).isTruncated());
+    }
+
+    /**
+     * Returns more than {@link NameTrigramIndex#MAX_CANDIDATES} items whose names are all equally similar to
+     * "banana muffin".
+     */
+    private static List<Item> manyEquallySimilarItems() {
+        // Words of three of these letters break into pieces that are not in "banana muffin", four per word
+        String letters = "cdeghjklopqrs";
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < letters.length() * letters.length() * letters.length(); i++) {
+            String word = "" + letters.charAt(i / letters.length() / letters.length())
+                    + letters.charAt(i / letters.length() % letters.length()) + letters.charAt(i % letters.length());
+            items.add(new ItemBuilder().withName("Banana Muffin " + word).withId(String.format("%06d", i)).build());
+        }
+        return items;
+    }
+
+    @Test
+    public void getWithNameSimilarTo_afterSetItemAndRemove_indexUpdated() {
+        uniqueItemList.add(APPLE_PIE);
+        uniqueItemList.add(BAGEL);
+        Item editedPie = new ItemBuilder(APPLE_PIE).withName("Cherry Pie").build();
+        uniqueItemList.setItem(APPLE_PIE, editedPie);
+        uniqueItemList.remove(BAGEL);
+
+        assertEquals(List.of(), uniqueItemList.getWithNameSimilarTo("aple", 10).getItems());
+        assertEquals(List.of(), uniqueItemList.getWithNameSimilarTo("bagle", 10).getItems());
+        assertEquals(List.of(editedPie), uniqueItemList.getWithNameSimilarTo("chery", 10).getItems());
+    }
+
     @Test
     public void remove_nullItem_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueItemList.remove(null));
@@ -222,6 +497,50 @@ public class UniqueItemListTest {
         assertThrows(DuplicateItemException.class, () -> uniqueItemList.setItems(listWithDuplicateItems));
     }
 
+    @Test
+    public void setItems_listWithSameIdItems_throwsDuplicateItemException() {
+        Item sameIdAsApplePie = new ItemBuilder(BANANA_MUFFIN).withId("222222").build();
+        List<Item> listWithDuplicateIds = Arrays.asList(APPLE_PIE, BAGEL, sameIdAsApplePie);
+        String expectedMessage = new DuplicateItemException(APPLE_PIE, sameIdAsApplePie).getMessage();
+        assertThrows(DuplicateItemException.class, expectedMessage, ()
+            -> uniqueItemList.setItems(listWithDuplicateIds));
+    }
+
+    @Test
+    public void setItems_listWithSameNameItems_throwsDuplicateItemException() {
+        Item sameNameAsBagel = new ItemBuilder(DONUT).withName(VALID_NAME_BAGEL.toLowerCase()).build();
+        List<Item> listWithDuplicateNames = Arrays.asList(BAGEL, sameNameAsBagel);
+        assertThrows(DuplicateItemException.class, () -> uniqueItemList.setItems(listWithDuplicateNames));
+
+        // List is left unchanged
+        assertEquals(new UniqueItemList(), uniqueItemList);
+    }
+
+    @Test
+    public void setItems_map_replacesEachKey() {
+        uniqueItemList.setItems(Arrays.asList(APPLE_PIE, BANANA_MUFFIN, BAGEL));
+        Item restockedBagel = BAGEL.updateCount(BAGEL.getCount() + 1);
+        Item restockedApplePie = APPLE_PIE.updateCount(APPLE_PIE.getCount() + 2);
+        uniqueItemList.setItems(Map.of(BAGEL, restockedBagel, APPLE_PIE, restockedApplePie));
+
+        assertEquals(Arrays.asList(restockedApplePie, BANANA_MUFFIN, restockedBagel),
+                uniqueItemList.asUnmodifiableObservableList());
+        assertEquals(List.of(restockedBagel), uniqueItemList.get(new ItemDescriptorBuilder(BAGEL).build()));
+    }
+
+    @Test
+    public void setItems_mapKeyNotInList_throwsItemNotFoundException() {
+        uniqueItemList.setItems(Arrays.asList(APPLE_PIE, BANANA_MUFFIN));
+        assertThrows(ItemNotFoundException.class, () -> uniqueItemList.setItems(Map.of(BAGEL, BAGEL)));
+    }
+
+    @Test
+    public void setItems_mapValueNotUnique_throwsDuplicateItemException() {
+        uniqueItemList.setItems(Arrays.asList(APPLE_PIE, BANANA_MUFFIN));
+        assertThrows(DuplicateItemException.class, () -> uniqueItemList.setItems(Map.of(APPLE_PIE, BANANA_MUFFIN)));
+        assertEquals(Arrays.asList(APPLE_PIE, BANANA_MUFFIN), uniqueItemList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setItems_sortItems_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueItemList.sortItems(null));
@@ -246,4 +565,12 @@ public class UniqueItemListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueItemList.asUnmodifiableObservableList().remove(0));
     }
+
+    private static Tag baked() {
+        return Tag.of(VALID_TAG_BAKED);
+    }
+
+    private static Tag popular() {
+        return Tag.of(VALID_TAG_POPULAR);
+    }
 }
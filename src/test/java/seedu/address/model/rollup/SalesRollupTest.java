@@ -0,0 +1,148 @@
+package seedu.address.model.rollup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_TIME_BAGEL;
+import static seedu.address.testutil.TypicalTransactions.getTypicalTransactionList;
+import static seedu.address.testutil.TypicalTransactions.getTypicalTransactionList3;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.TransactionRecord;
+
+public class SalesRollupTest {
+
+    private static final LocalDate DATE_BAGEL = LocalDate.of(2021, 10, 28);
+    private static final LocalDate DATE_DONUT = LocalDate.of(2021, 11, 28);
+
+    private final SalesRollup salesRollup = new SalesRollup(ZoneOffset.UTC);
+
+    @Test
+    public void recordTransaction_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> salesRollup.recordTransaction(null));
+    }
+
+    @Test
+    public void catchUp_typicalTransactions_totalledForEachPeriod() {
+        salesRollup.catchUp(getTypicalTransactionList().getTransactionRecordList());
+
+        List<PeriodTotals> days = salesRollup.getTotals(Period.DAY);
+        assertEquals(2, days.size());
+        assertEquals(DATE_BAGEL, days.get(0).getStart());
+        assertEquals(30.0, days.get(0).getRevenue());
+        assertEquals(5, days.get(0).getUnitsSold());
+        assertEquals(DATE_DONUT, days.get(1).getStart());
+        assertEquals(35.0, days.get(1).getRevenue());
+
+        List<PeriodTotals> weeks = salesRollup.getTotals(Period.WEEK);
+        assertEquals(LocalDate.of(2021, 10, 25), weeks.get(0).getStart());
+        assertEquals(LocalDate.of(2021, 11, 22), weeks.get(1).getStart());
+
+        List<PeriodTotals> months = salesRollup.getTotals(Period.MONTH);
+        assertEquals(LocalDate.of(2021, 10, 1), months.get(0).getStart());
+        assertEquals(LocalDate.of(2021, 11, 1), months.get(1).getStart());
+        assertEquals(2, salesRollup.getTransactionCount());
+    }
+
+    @Test
+    public void catchUp_moreTransactions_onlyNewTransactionsRecorded() {
+        List<TransactionRecord> records = getTypicalTransactionList3().getTransactionRecordList();
+        salesRollup.catchUp(records.subList(0, 2));
+        long version = salesRollup.getVersion();
+
+        salesRollup.catchUp(records);
+        assertEquals(3, salesRollup.getTransactionCount());
+        assertEquals(3, salesRollup.getTotals(Period.MONTH).size());
+        assertNotEquals(version, salesRollup.getVersion());
+
+        SalesRollup expected = new SalesRollup(ZoneOffset.UTC);
+        expected.catchUp(records);
+        assertEquals(expected, salesRollup);
+    }
+
+    @Test
+    public void catchUp_fewerTransactions_rebuilt() {
+        salesRollup.catchUp(getTypicalTransactionList3().getTransactionRecordList());
+        salesRollup.recordCost(TRANSACTION_TIME_BAGEL, 1000);
+
+        List<TransactionRecord> records = getTypicalTransactionList().getTransactionRecordList();
+        salesRollup.catchUp(records.subList(0, 1));
+
+        assertEquals(1, salesRollup.getTransactionCount());
+        assertEquals(1, salesRollup.getTotals(Period.DAY).size());
+        assertEquals(0.0, salesRollup.getTotals(Period.DAY).get(0).getCost());
+    }
+
+    @Test
+    public void recordCost_sameDayAsSale_addedToSameTotals() {
+        salesRollup.catchUp(getTypicalTransactionList().getTransactionRecordList());
+        salesRollup.recordCost(TRANSACTION_TIME_BAGEL, 1250);
+
+        PeriodTotals month = salesRollup.getTotals(Period.MONTH).get(0);
+        assertEquals(12.5, month.getCost());
+        assertEquals(17.5, month.getProfit());
+    }
+
+    @Test
+    public void getTotals_range_includesPeriodsOverlappingRange() {
+        salesRollup.catchUp(getTypicalTransactionList().getTransactionRecordList());
+
+        // The month of the first date starts before it
+        assertEquals(2, salesRollup.getTotals(Period.MONTH, LocalDate.of(2021, 10, 28),
+                LocalDate.of(2021, 11, 1)).size());
+        assertEquals(1, salesRollup.getTotals(Period.WEEK, LocalDate.of(2021, 10, 31),
+                LocalDate.of(2021, 11, 21)).size());
+        assertEquals(1, salesRollup.getTotals(Period.DAY, LocalDate.MIN, DATE_BAGEL).size());
+        assertEquals(2, salesRollup.getTotals(Period.DAY, LocalDate.MIN, LocalDate.MAX).size());
+        assertTrue(salesRollup.getTotals(Period.DAY, DATE_DONUT, DATE_BAGEL).isEmpty());
+    }
+
+    @Test
+    public void constructor_dailyTotals_weeksAndMonthsRebuilt() {
+        salesRollup.catchUp(getTypicalTransactionList3().getTransactionRecordList());
+        salesRollup.recordCost(TRANSACTION_TIME_BAGEL, 300);
+
+        SalesRollup rebuilt = new SalesRollup(salesRollup.getTotals(Period.DAY), salesRollup.getTransactionCount());
+        assertEquals(salesRollup, rebuilt);
+    }
+
+    @Test
+    public void copyConstructor_copyChanged_originalUnchanged() {
+        salesRollup.catchUp(getTypicalTransactionList().getTransactionRecordList());
+        SalesRollup copy = new SalesRollup(salesRollup);
+        assertEquals(salesRollup, copy);
+
+        copy.recordCost(TRANSACTION_TIME_BAGEL, 100);
+        assertNotEquals(salesRollup, copy);
+        assertEquals(0.0, salesRollup.getTotals(Period.DAY).get(0).getCost());
+    }
+
+    @Test
+    public void addListener_costRecordedAndCleared_listenerTold() {
+        List<String> events = new ArrayList<>();
+        salesRollup.addListener(new SalesRollup.CostListener() {
+            @Override
+            public void costRecorded(RecordedCost cost) {
+                events.add(cost.toString());
+            }
+
+            @Override
+            public void cleared() {
+                events.add("cleared");
+            }
+        });
+
+        salesRollup.recordCost(TRANSACTION_TIME_BAGEL, 150);
+        salesRollup.catchUp(getTypicalTransactionList().getTransactionRecordList());
+        salesRollup.clear();
+
+        assertEquals(List.of(new RecordedCost(TRANSACTION_TIME_BAGEL, 150).toString(), "cleared"), events);
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -17,6 +21,34 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalTagNames_sameInstance() {
+        Tag tag = Tag.of("frozen");
+        assertSame(tag, Tag.of(new String("frozen")));
+        assertSame(tag, Tag.of("Frozen"));
+        assertEquals(new Tag("frozen"), tag);
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+        // The Kelvin sign lower-cases to a valid "k", but is not a valid tag name itself
+        Tag.of("k");
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("\u212A"));
+    }
+
+    @Test
+    public void constructor_turkishLocale_lowerCasedWithRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("iced", new Tag("ICED").tagName);
+            assertEquals(Tag.of("iced"), new Tag("ICED"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
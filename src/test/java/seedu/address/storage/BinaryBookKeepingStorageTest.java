@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalBookkeeping.getTypicalBookkeeping;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.BookKeeping;
+
+public class BinaryBookKeepingStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryBookKeepingStorage(testFolder.resolve("NonExistentFile.bin")).readBookKeeping()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveBookKeeping_allInOrder_success() throws Exception {
+        BinaryBookKeepingStorage binaryBookKeepingStorage =
+                new BinaryBookKeepingStorage(testFolder.resolve("TempBookKeeping.bin"));
+
+        BookKeeping original = getTypicalBookkeeping();
+        binaryBookKeepingStorage.saveBookKeeping(original);
+        assertEquals(original, binaryBookKeepingStorage.readBookKeeping().get());
+
+        original.addRevenue(10, 3);
+        original.addCost(33, 7);
+        binaryBookKeepingStorage.saveBookKeeping(original);
+        assertEquals(original, binaryBookKeepingStorage.readBookKeeping().get());
+    }
+
+    @Test
+    public void readBookKeeping_totalsSavedAsDoubles_roundedToCents() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeping.bin");
+        try (OutputStream outputStream = Files.newOutputStream(filePath)) {
+            // Totals written as doubles, as older versions did when they were not a whole number of cents
+            BinaryDataOutput output = new BinaryDataOutput(outputStream);
+            output.writeHeader(BinaryBookKeepingStorage.KIND);
+            output.writeVarLong(1);
+            output.writeLong(Double.doubleToLongBits(0.1 + 0.2));
+            output.writeVarLong(1);
+            output.writeLong(Double.doubleToLongBits(1.0 / 3));
+            output.flush();
+        }
+
+        assertEquals(BookKeeping.fromCents(30, 33), new BinaryBookKeepingStorage(filePath).readBookKeeping().get());
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.APPLE_PIE;
+import static seedu.address.testutil.TypicalItems.HONEY_CAKE;
+import static seedu.address.testutil.TypicalItems.getTypicalInventory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.BookKeeping;
+import seedu.address.model.Inventory;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.tag.Tag;
+
+public class BinaryInventoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readInventory_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryInventoryStorage(null).readInventory(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryInventoryStorage(testFolder.resolve("NonExistentFile.bin")).readInventory()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveInventory_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInventory.bin");
+        Inventory original = getTypicalInventory();
+        BinaryInventoryStorage binaryInventoryStorage = new BinaryInventoryStorage(filePath);
+
+        // Save in new file and read back
+        binaryInventoryStorage.saveInventory(original);
+        assertEquals(original, new Inventory(binaryInventoryStorage.readInventory().get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addItem(HONEY_CAKE);
+        original.removeItem(APPLE_PIE, 1);
+        binaryInventoryStorage.saveInventory(original);
+        assertEquals(original, new Inventory(binaryInventoryStorage.readInventory().get()));
+    }
+
+    @Test
+    public void readAndSaveInventory_unusualPrices_readBackExactly() throws Exception {
+        Path filePath = testFolder.resolve("TempInventory.bin");
+        Inventory original = new Inventory();
+        original.setItems(Arrays.asList(
+                new Item(new Name("Muffin"), 1, 3, Set.of(new Tag("baked")), 0.1 + 0.2, 1.0 / 3),
+                new Item(new Name("Cookie"), 123456, 0, Set.of(new Tag("baked"), new Tag("sweet")),
+                        999999999.99, -1.0)));
+        BinaryInventoryStorage binaryInventoryStorage = new BinaryInventoryStorage(filePath);
+
+        binaryInventoryStorage.saveInventory(original);
+        assertEquals(original, new Inventory(binaryInventoryStorage.readInventory().get()));
+    }
+
+    @Test
+    public void saveInventory_typicalInventory_smallerThanCompactJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempInventory.bin");
+        Path jsonFilePath = testFolder.resolve("TempInventory.json");
+
+        new BinaryInventoryStorage(binaryFilePath).saveInventory(getTypicalInventory());
+        new JsonInventoryStorage(jsonFilePath, true).saveInventory(getTypicalInventory());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath) / 2);
+    }
+
+    @Test
+    public void readInventory_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempInventory.bin");
+        new BinaryInventoryStorage(filePath).saveInventory(getTypicalInventory());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> new BinaryInventoryStorage(filePath).readInventory());
+    }
+
+    @Test
+    public void readInventory_otherKindOfFile_throwsDataConversionException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempInventory.json");
+        new JsonInventoryStorage(jsonFilePath).saveInventory(getTypicalInventory());
+        assertThrows(DataConversionException.class, () -> new BinaryInventoryStorage(jsonFilePath).readInventory());
+
+        Path bookKeepingFilePath = testFolder.resolve("TempBookKeeping.bin");
+        new BinaryBookKeepingStorage(bookKeepingFilePath).saveBookKeeping(new BookKeeping());
+        assertThrows(DataConversionException.class, () -> new BinaryInventoryStorage(bookKeepingFilePath)
+                .readInventory());
+    }
+
+    @Test
+    public void saveInventory_nullInventory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryInventoryStorage(testFolder.resolve("Some.bin"))
+                .saveInventory(null));
+    }
+}
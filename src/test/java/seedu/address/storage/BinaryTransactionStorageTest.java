@@ -0,0 +1,345 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrders.getTypicalTransaction;
+import static seedu.address.testutil.TypicalOrders.getTypicalTransactionList;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.TransactionList;
+import seedu.address.model.item.Item;
+import seedu.address.model.order.TransactionRecord;
+
+public class BinaryTransactionStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTransactionStorage(testFolder.resolve("NonExistentFile.bin")).readTransactionList()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveTransactionList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        TransactionList original = getTypicalTransactionList();
+        BinaryTransactionStorage binaryTransactionStorage = new BinaryTransactionStorage(filePath);
+
+        // Save in new file and read back
+        binaryTransactionStorage.saveTransactionList(original);
+        ReadOnlyTransactionList readBack = binaryTransactionStorage.readTransactionList().get();
+        assertTrue(original.equalTestsTransactionLists(new TransactionList(readBack)));
+
+        // Modify data, overwrite exiting file, and read back
+        original.add(getTypicalTransaction());
+        binaryTransactionStorage.saveTransactionList(original);
+        readBack = binaryTransactionStorage.readTransactionList().get();
+        assertTrue(original.equalTestsTransactionLists(new TransactionList(readBack)));
+        assertEquals(original.getTransactionRecordList().get(0).getTimestamp(),
+                readBack.getTransactionRecordList().get(0).getTimestamp());
+    }
+
+    @Test
+    public void saveTransactionList_transactionsAdded_appendedToFile() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        BinaryTransactionStorage binaryTransactionStorage = new BinaryTransactionStorage(filePath);
+        binaryTransactionStorage.saveTransactionList(getTypicalTransactionList());
+        byte[] savedBytes = Files.readAllBytes(filePath);
+
+        TransactionList transactionList = new TransactionList(binaryTransactionStorage.readTransactionList().get());
+        transactionList.add(transactionWithId("second"));
+        binaryTransactionStorage.saveTransactionList(transactionList);
+
+        // The saved transactions are left as they were, with no backup made
+        byte[] appendedBytes = Files.readAllBytes(filePath);
+        assertTrue(appendedBytes.length > savedBytes.length);
+        assertTrue(Arrays.equals(savedBytes, Arrays.copyOf(appendedBytes, savedBytes.length)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath)));
+
+        ReadOnlyTransactionList readBack = new BinaryTransactionStorage(filePath).readTransactionList().get();
+        assertEquals(transactionList.getTransactionRecordList(), readBack.getTransactionRecordList());
+    }
+
+    @Test
+    public void readTransactionList_findById_findsTransaction() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        TransactionList original = new TransactionList();
+        for (int i = 0; i < 100; i++) {
+            original.add(transactionWithId("id" + i));
+        }
+        new BinaryTransactionStorage(filePath).saveTransactionList(original);
+
+        TransactionList readBack = new TransactionList(new BinaryTransactionStorage(filePath).readTransactionList()
+                .get());
+        assertEquals(Optional.of(transactionWithId("id42")), readBack.findById("id42"));
+        assertEquals(Optional.empty(), readBack.findById("id100"));
+    }
+
+    @Test
+    public void index_fileMappedInChunks_allTransactionsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        TransactionList original = new TransactionList();
+        for (int i = 0; i < 100; i++) {
+            original.add(transactionWithId("id" + i));
+        }
+        new BinaryTransactionStorage(filePath).saveTransactionList(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        List<TransactionRecord> completeRecords = original.getTransactionRecordList().subList(0, 99);
+        Path completeFilePath = testFolder.resolve("CompleteTransactions.bin");
+        new BinaryTransactionStorage(completeFilePath).saveTransactionList(
+                new TransactionList(new ArrayList<>(completeRecords)));
+
+        // Each chunk only holds a few records
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedTransactionHistory history = MappedTransactionHistory.index(channel, 256);
+            assertEquals(completeRecords, history);
+            assertEquals(Optional.of(transactionWithId("id42")), history.findById("id42"));
+            assertEquals(Files.size(completeFilePath), history.getValidLength());
+        }
+    }
+
+    @Test
+    public void readTransactionList_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        TransactionList original = new TransactionList();
+        original.add(transactionWithId("first"));
+        original.add(transactionWithId("second"));
+        new BinaryTransactionStorage(filePath).saveTransactionList(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        BinaryTransactionStorage binaryTransactionStorage = new BinaryTransactionStorage(filePath);
+        TransactionList readBack = new TransactionList(binaryTransactionStorage.readTransactionList().get());
+        assertEquals(List.of(transactionWithId("first")), readBack.getTransactionRecordList());
+
+        // The incomplete record is replaced by the next transaction saved
+        readBack.add(transactionWithId("third"));
+        binaryTransactionStorage.saveTransactionList(readBack);
+        assertEquals(readBack.getTransactionRecordList(), new BinaryTransactionStorage(filePath)
+                .readTransactionList().get().getTransactionRecordList());
+    }
+
+    @Test
+    public void saveTransactionList_rewrittenTwice_backupReplaced() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        BinaryTransactionStorage binaryTransactionStorage = new BinaryTransactionStorage(filePath);
+        binaryTransactionStorage.saveTransactionList(getTypicalTransactionList());
+        ReadOnlyTransactionList firstSaved = binaryTransactionStorage.readTransactionList().get();
+
+        binaryTransactionStorage.saveTransactionList(
+                new TransactionList(new ArrayList<>(List.of(transactionWithId("first")))));
+        binaryTransactionStorage.saveTransactionList(new TransactionList());
+
+        assertEquals(List.of(transactionWithId("first")), new BinaryTransactionStorage(FileUtil.getBackupPath(filePath))
+                .readTransactionList().get().getTransactionRecordList());
+        // The history read before is still readable
+        assertTrue(getTypicalTransactionList().equalTestsTransactionLists(new TransactionList(firstSaved)));
+    }
+
+    @Test
+    public void readTransactionList_retiredBackupPresent_retiredBackupRemoved() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        new BinaryTransactionStorage(filePath).saveTransactionList(getTypicalTransactionList());
+        Path retiredPath = testFolder.resolve("TempTransactions.bin.bak.12345.old");
+        Files.writeString(retiredPath, "retired");
+
+        new BinaryTransactionStorage(filePath).readTransactionList();
+        assertFalse(Files.exists(retiredPath));
+    }
+
+    @Test
+    public void readTransactionList_damagedRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        TransactionList original = new TransactionList();
+        original.add(transactionWithId("first"));
+        original.add(transactionWithId("second"));
+        new BinaryTransactionStorage(filePath).saveTransactionList(original);
+        Files.deleteIfExists(FileUtil.getBackupPath(filePath));
+        Files.delete(BinaryTransactionStorage.getIndexPath(filePath));
+
+        // Change a byte of the id of the first transaction
+        byte[] bytes = Files.readAllBytes(filePath);
+        int index = new String(bytes, StandardCharsets.ISO_8859_1).indexOf("first");
+        bytes[index] = 'F';
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryTransactionStorage(filePath)
+                .readTransactionList());
+    }
+
+    @Test
+    public void readTransactionList_damagedRecordWithIndex_throwsWhenUsed() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        TransactionList original = new TransactionList();
+        original.add(transactionWithId("first"));
+        original.add(transactionWithId("second"));
+        new BinaryTransactionStorage(filePath).saveTransactionList(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        int index = new String(bytes, StandardCharsets.ISO_8859_1).indexOf("first");
+        bytes[index] = 'F';
+        Files.write(filePath, bytes);
+
+        // The records are not read when the file is opened, but each is checked when it is used
+        List<TransactionRecord> readBack = new BinaryTransactionStorage(filePath).readTransactionList().get()
+                .getTransactionRecordList();
+        assertEquals(2, readBack.size());
+        assertEquals(transactionWithId("second"), readBack.get(1));
+        assertThrows(IllegalStateException.class, () -> readBack.get(0));
+    }
+
+    @Test
+    public void readTransactionList_indexMissingEntries_restReadAndIndexRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        Path indexPath = BinaryTransactionStorage.getIndexPath(filePath);
+        TransactionList original = new TransactionList();
+        for (int i = 0; i < 10; i++) {
+            original.add(transactionWithId("id" + i));
+        }
+        BinaryTransactionStorage binaryTransactionStorage = new BinaryTransactionStorage(filePath);
+        binaryTransactionStorage.saveTransactionList(original);
+        long indexSize = Files.size(indexPath);
+        assertEquals(BinaryDataOutput.headerSize() + 10 * MappedTransactionHistory.INDEX_ENTRY_SIZE, indexSize);
+
+        // Transactions appended to the file are appended to the index
+        original.add(transactionWithId("id10"));
+        binaryTransactionStorage.saveTransactionList(original);
+        assertEquals(indexSize + MappedTransactionHistory.INDEX_ENTRY_SIZE, Files.size(indexPath));
+
+        // Entries lost from the index, such as by a crash while appending to it, are read from the file
+        byte[] indexBytes = Files.readAllBytes(indexPath);
+        Files.write(indexPath, Arrays.copyOf(indexBytes, (int) indexSize - 5));
+        TransactionList readBack = new TransactionList(new BinaryTransactionStorage(filePath).readTransactionList()
+                .get());
+        assertEquals(original.getTransactionRecordList(), readBack.getTransactionRecordList());
+        assertEquals(Optional.of(transactionWithId("id10")), readBack.findById("id10"));
+        assertTrue(Arrays.equals(indexBytes, Files.readAllBytes(indexPath)));
+    }
+
+    @Test
+    public void readTransactionList_indexOfOtherFile_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        Path otherFilePath = testFolder.resolve("OtherTransactions.bin");
+        TransactionList original = new TransactionList();
+        original.add(transactionWithId("first"));
+        TransactionList other = new TransactionList();
+        other.add(transactionWithId("other"));
+        new BinaryTransactionStorage(filePath).saveTransactionList(original);
+        new BinaryTransactionStorage(otherFilePath).saveTransactionList(other);
+
+        Path indexPath = BinaryTransactionStorage.getIndexPath(filePath);
+        Files.copy(BinaryTransactionStorage.getIndexPath(otherFilePath), indexPath,
+                StandardCopyOption.REPLACE_EXISTING);
+        TransactionList readBack = new TransactionList(new BinaryTransactionStorage(filePath).readTransactionList()
+                .get());
+        assertEquals(original.getTransactionRecordList(), readBack.getTransactionRecordList());
+        assertEquals(Optional.of(transactionWithId("first")), readBack.findById("first"));
+    }
+
+    @Test
+    public void index_savedIndexMappedInChunks_allTransactionsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        TransactionList original = new TransactionList();
+        for (int i = 0; i < 100; i++) {
+            original.add(transactionWithId("id" + i));
+        }
+        new BinaryTransactionStorage(filePath).saveTransactionList(original);
+        ByteBuffer savedIndex = ByteBuffer.wrap(Files.readAllBytes(BinaryTransactionStorage.getIndexPath(filePath)));
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedTransactionHistory history = MappedTransactionHistory.index(channel, savedIndex, 256);
+            assertEquals(original.getTransactionRecordList(), history);
+            assertTrue(history.isFullyIndexed());
+            assertEquals(Optional.of(transactionWithId("id42")), history.findById("id42"));
+            assertEquals(Files.size(filePath), history.getValidLength());
+        }
+    }
+
+    @Test
+    public void readTransactionList_version1File_readAndRewrittenOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        List<TransactionRecord> records = List.of(transactionWithId("first"), transactionWithId("second"));
+        try (OutputStream outputStream = Files.newOutputStream(filePath)) {
+            writeVersion1File(new BinaryDataOutput(outputStream), records);
+        }
+
+        BinaryTransactionStorage binaryTransactionStorage = new BinaryTransactionStorage(filePath);
+        TransactionList readBack = new TransactionList(binaryTransactionStorage.readTransactionList().get());
+        assertEquals(records, readBack.getTransactionRecordList());
+
+        readBack.add(transactionWithId("third"));
+        binaryTransactionStorage.saveTransactionList(readBack);
+        assertEquals(readBack.getTransactionRecordList(), new BinaryTransactionStorage(filePath)
+                .readTransactionList().get().getTransactionRecordList());
+    }
+
+    @Test
+    public void readTransactionList_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTransactions.bin");
+        Files.writeString(filePath, "{ \"orders\": [] }");
+
+        assertThrows(DataConversionException.class, () -> new BinaryTransactionStorage(filePath)
+                .readTransactionList());
+    }
+
+    @Test
+    public void saveTransactionList_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryTransactionStorage(testFolder.resolve("Some.bin"))
+                .saveTransactionList(null));
+    }
+
+    /**
+     * Writes {@code records} as a transaction file in version 1 of the binary format.
+     */
+    private static void writeVersion1File(BinaryDataOutput output, List<TransactionRecord> records) throws Exception {
+        output.writeBytes(BinaryDataOutput.MAGIC);
+        output.writeByte(BinaryTransactionStorage.KIND);
+        output.writeVarLong(BinaryDataOutput.FIRST_VERSION);
+        output.writeVarLong(records.size());
+        Map<String, Integer> nameDictionary = BinaryDataOutput.newDictionary();
+        for (TransactionRecord record : records) {
+            output.writeString(record.getId());
+            output.writeSignedVarLong(record.getTimestamp().getEpochSecond());
+            output.writeSignedVarLong(record.getTimestamp().getNano());
+            output.writeVarLong(record.getOrderItems().size());
+            for (Item item : record.getOrderItems()) {
+                output.writeDictionaryString(item.getName().fullName, nameDictionary);
+                output.writeSignedVarLong(item.getId());
+                output.writeSignedVarLong(item.getCount());
+                output.writePrice(item.getSalesPriceCents());
+            }
+        }
+        output.flush();
+    }
+
+    private static TransactionRecord transactionWithId(String id) {
+        return new TransactionRecord(getTypicalTransaction().getOrderItems(), id, Instant.ofEpochSecond(60));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.getTypicalItems;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.Name;
+import seedu.address.model.order.TransactionRecord;
+import seedu.address.testutil.ItemBuilder;
+
+public class CsvDataFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeItems_thenReadItems_sameItems() throws Exception {
+        Path filePath = testFolder.resolve("items.csv");
+        List<Item> items = getTypicalItems();
+
+        CsvDataFile.writeItems(filePath, items);
+
+        assertEquals(items, CsvDataFile.readItems(filePath));
+    }
+
+    @Test
+    public void readItems_variedFields_parsed() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER,
+                "Bagel,94021,5,1.5,\"2.25\",baked  popular",
+                "",
+                " Donut ,7,0,0.125,3");
+
+        List<Item> expected = List.of(
+                new ItemBuilder().withName("Bagel").withId("94021").withCount("5").withCostPrice("1.5")
+                        .withSalesPrice("2.25").withTags("baked", "popular").build(),
+                new ItemBuilder().withName("Donut").withId("7").withCount("0").withCostPrice("0.13")
+                        .withSalesPrice("3").withTags().build());
+        assertEquals(expected, CsvDataFile.readItems(filePath));
+    }
+
+    @Test
+    public void readItems_missingHeader_throwsIllegalValueException() throws Exception {
+        Path filePath = writeFile("Bagel,94021,5,1.5,2.25,");
+
+        assertThrows(IllegalValueException.class,
+                String.format(CsvDataFile.MESSAGE_INVALID_HEADER, CsvDataFile.ITEM_HEADER), () ->
+                        CsvDataFile.readItems(filePath));
+    }
+
+    @Test
+    public void readItems_invalidRow_throwsIllegalValueExceptionWithLine() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER, "Bagel,94021,5,1.5,2.25,", "", "Donut!,7,1,1,1,");
+
+        assertThrows(IllegalValueException.class,
+                String.format(CsvDataFile.MESSAGE_INVALID_ROW, 4, Name.MESSAGE_CONSTRAINTS), () ->
+                        CsvDataFile.readItems(filePath));
+    }
+
+    @Test
+    public void readItems_wrongFieldCount_throwsIllegalValueException() throws Exception {
+        Path filePath = writeFile(CsvDataFile.ITEM_HEADER, "Bagel,94021,5");
+
+        assertThrows(IllegalValueException.class, String.format(CsvDataFile.MESSAGE_INVALID_ROW, 2,
+                String.format(CsvDataFile.MESSAGE_WRONG_FIELD_COUNT, 6, 3)), () -> CsvDataFile.readItems(filePath));
+    }
+
+    @Test
+    public void writeTransactions_oneRowPerItem() throws Exception {
+        Path filePath = testFolder.resolve("transactions.csv");
+        Item bagel = new ItemBuilder().withName("Bagel").withId("94021").withCount("2").withSalesPrice("2.5")
+                .build();
+        Item donut = new ItemBuilder().withName("Donut").withId("7").withCount("1").withSalesPrice("3").build();
+        TransactionRecord transaction = new TransactionRecord(List.of(bagel, donut), "abc",
+                Instant.parse("2021-10-01T10:15:30Z"));
+
+        CsvDataFile.writeTransactions(filePath, List.of(transaction));
+
+        assertEquals(List.of(CsvDataFile.TRANSACTION_HEADER,
+                "abc,2021-10-01T10:15:30Z,Bagel,94021,2,2.50",
+                "abc,2021-10-01T10:15:30Z,Donut,7,1,3.00"), Files.readAllLines(filePath));
+    }
+
+    private Path writeFile(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("input.csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalBookkeeping.getTypicalBookkeeping;
+import static seedu.address.testutil.TypicalItems.BAGEL;
+import static seedu.address.testutil.TypicalItems.getTypicalInventory;
+import static seedu.address.testutil.TypicalOrders.getTypicalTransactionList;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.BookKeeping;
+import seedu.address.model.DataFileFormat;
+import seedu.address.model.Inventory;
+import seedu.address.model.TransactionList;
+
+public class DataFormatBridgeTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "inventory.bin"),
+                DataFormatBridge.getBinaryFilePath(Paths.get("data", "inventory.json")));
+        assertEquals(Paths.get("inventory.bin"), DataFormatBridge.getBinaryFilePath(Paths.get("inventory")));
+    }
+
+    @Test
+    public void importData_jsonToBinary_allDataImported() throws Exception {
+        Storage jsonStorage = createJsonStorage();
+        jsonStorage.saveInventory(getTypicalInventory());
+        jsonStorage.saveTransactionList(getTypicalTransactionList());
+        jsonStorage.saveBookKeeping(getTypicalBookkeeping());
+        Storage binaryStorage = createBinaryStorage();
+
+        assertEquals(3, DataFormatBridge.importData(jsonStorage, binaryStorage, DataFileFormat.BINARY));
+
+        assertEquals(getTypicalInventory(), new Inventory(binaryStorage.readInventory().get()));
+        assertTrue(getTypicalTransactionList().equalTestsTransactionLists(
+                new TransactionList(binaryStorage.readTransactionList().get())));
+        assertEquals(getTypicalBookkeeping(), binaryStorage.readBookKeeping().get());
+
+        // Exported back to JSON when the JSON files are missing
+        Storage exportedJsonStorage = createJsonStorage(testFolder.resolve("exported"));
+        assertEquals(3, DataFormatBridge.importData(binaryStorage, exportedJsonStorage, DataFileFormat.JSON));
+        assertEquals(getTypicalInventory(), new Inventory(exportedJsonStorage.readInventory().get()));
+    }
+
+    @Test
+    public void importData_targetHasDataInSameFormat_notOverwritten() throws Exception {
+        Storage jsonStorage = createJsonStorage();
+        jsonStorage.saveInventory(getTypicalInventory());
+        Storage binaryStorage = createBinaryStorage();
+        binaryStorage.saveInventory(new Inventory());
+
+        assertEquals(0, DataFormatBridge.importData(jsonStorage, binaryStorage, DataFileFormat.BINARY));
+        assertEquals(new Inventory(), new Inventory(binaryStorage.readInventory().get()));
+        assertEquals(0, DataFormatBridge.importData(jsonStorage, binaryStorage, DataFileFormat.BINARY));
+        assertEquals(new Inventory(), new Inventory(binaryStorage.readInventory().get()));
+    }
+
+    @Test
+    public void importData_formatSwitchedBackAndForth_latestDataKept() throws Exception {
+        Storage jsonStorage = createJsonStorage();
+        jsonStorage.saveInventory(getTypicalInventory());
+        jsonStorage.saveTransactionList(getTypicalTransactionList());
+        jsonStorage.saveBookKeeping(getTypicalBookkeeping());
+        Storage binaryStorage = createBinaryStorage();
+        assertEquals(0, DataFormatBridge.importData(binaryStorage, jsonStorage, DataFileFormat.JSON));
+
+        // Switch to binary and make changes there
+        assertEquals(3, DataFormatBridge.importData(jsonStorage, binaryStorage, DataFileFormat.BINARY));
+        Inventory editedInventory = getTypicalInventory();
+        editedInventory.addItem(BAGEL);
+        binaryStorage.saveInventory(editedInventory);
+        binaryStorage.saveTransactionList(new TransactionList());
+        binaryStorage.saveBookKeeping(new BookKeeping(1.0, 2.0));
+
+        // Switch back to JSON, whose files are still there but out of date
+        assertEquals(3, DataFormatBridge.importData(binaryStorage, jsonStorage, DataFileFormat.JSON));
+        assertEquals(editedInventory, new Inventory(jsonStorage.readInventory().get()));
+        assertEquals(new TransactionList(), new TransactionList(jsonStorage.readTransactionList().get()));
+        assertEquals(new BookKeeping(1.0, 2.0), jsonStorage.readBookKeeping().get());
+    }
+
+    private Storage createJsonStorage() {
+        return createJsonStorage(testFolder);
+    }
+
+    private Storage createJsonStorage(Path folder) {
+        return new StorageManager(new JsonInventoryStorage(folder.resolve("inventory.json")),
+                new JsonUserPrefsStorage(folder.resolve("prefs.json")),
+                new JsonTransactionStorage(folder.resolve("transaction.json")),
+                new JsonBookKeepingStorage(folder.resolve("bookKeeping.json")));
+    }
+
+    private Storage createBinaryStorage() {
+        return new StorageManager(new BinaryInventoryStorage(testFolder.resolve("inventory.bin")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new BinaryTransactionStorage(testFolder.resolve("transaction.bin")),
+                new BinaryBookKeepingStorage(testFolder.resolve("bookKeeping.bin")));
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrders.getTypicalTransaction;
+import static seedu.address.testutil.TypicalOrders.getTypicalTransactionList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTransactionList;
+import seedu.address.model.TransactionList;
+
+public class JournalTransactionStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("transaction.json");
+        journalPath = JournalTransactionStorage.getJournalPath(filePath);
+    }
+
+    @Test
+    public void readTransactionList_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalTransactionStorage(filePath).readTransactionList(null));
+    }
+
+    @Test
+    public void readTransactionList_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalTransactionStorage(filePath).readTransactionList().isPresent());
+    }
+
+    @Test
+    public void saveTransactionList_transactionAdded_appendsToJournalOnly() throws Exception {
+        TransactionList original = getTypicalTransactionList();
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.add(getTypicalTransaction());
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readTransactionList_journalPresent_compactsJournal() throws Exception {
+        TransactionList original = getTypicalTransactionList();
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(original);
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+
+        assertReadBackEquals(original);
+        assertFalse(FileUtil.isFileExists(journalPath));
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readTransactionList_journalAlreadyCompacted_notReplayedAgain() throws Exception {
+        TransactionList original = getTypicalTransactionList();
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(original);
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // Crash after compacting, before the journal was removed
+        assertReadBackEquals(original);
+        Files.write(journalPath, journal);
+
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readTransactionList_journalOfSnapshotBeforeReset_ignored() throws Exception {
+        TransactionList original = getTypicalTransactionList();
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(original);
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+
+        // Crash after writing the snapshot of the reset list, before the journal was moved to the backup
+        TransactionList reset = new TransactionList();
+        storage.saveTransactionList(reset);
+        Files.move(JournalTransactionStorage.getJournalPath(FileUtil.getBackupPath(filePath)), journalPath);
+
+        assertReadBackEquals(reset);
+        assertFalse(FileUtil.isFileExists(journalPath));
+
+        storage = new JournalTransactionStorage(filePath);
+        storage.readTransactionList();
+        reset.add(getTypicalTransaction());
+        storage.saveTransactionList(reset);
+        assertReadBackEquals(reset);
+    }
+
+    @Test
+    public void readTransactionList_incompleteLastLine_ignored() throws Exception {
+        TransactionList original = getTypicalTransactionList();
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(original);
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+
+        FileUtil.appendToFile(journalPath, "{\"itemOrders\":[{\"na");
+
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readTransactionList_damagedSnapshot_recoveredFromBackupAndJournals() throws Exception {
+        TransactionList original = getTypicalTransactionList();
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(original);
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+
+        // Compacting moves the journal to the backup, and later transactions start a new journal
+        storage = new JournalTransactionStorage(filePath);
+        storage.readTransactionList();
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+        assertTrue(FileUtil.isFileExists(journalPath));
+
+        Files.writeString(filePath, "{\"orders\": [ damaged");
+
+        assertReadBackEquals(original);
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readTransactionList_invalidJournalHeader_throwsDataConversionException() throws Exception {
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(getTypicalTransactionList());
+        Files.writeString(journalPath, "not a number\n");
+
+        assertThrows(DataConversionException.class, () -> new JournalTransactionStorage(filePath)
+                .readTransactionList());
+    }
+
+    @Test
+    public void saveTransactionList_transactionListReplaced_rewritesSnapshot() throws Exception {
+        TransactionList original = getTypicalTransactionList();
+        JournalTransactionStorage storage = new JournalTransactionStorage(filePath);
+        storage.saveTransactionList(original);
+        original.add(getTypicalTransaction());
+        storage.saveTransactionList(original);
+
+        TransactionList replacement = new TransactionList();
+        storage.saveTransactionList(replacement);
+
+        assertFalse(FileUtil.isFileExists(journalPath));
+        assertReadBackEquals(replacement);
+    }
+
+    @Test
+    public void saveTransactionList_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalTransactionStorage(filePath).saveTransactionList(null));
+    }
+
+    /**
+     * Asserts that a new {@code JournalTransactionStorage} reads back {@code expected} from {@code filePath}.
+     */
+    private void assertReadBackEquals(TransactionList expected) throws Exception {
+        ReadOnlyTransactionList readBack = new JournalTransactionStorage(filePath).readTransactionList().get();
+        assertTrue(expected.equalTestsTransactionLists(new TransactionList(readBack)));
+    }
+}
@@ -20,13 +20,13 @@ public class JsonAdaptedItemTest {
     private static final String INVALID_COUNT = "a0";
 
     private static final String VALID_NAME = BANANA_MUFFIN.getName().toString();
-    private static final String VALID_ID = BANANA_MUFFIN.getId().toString();
-    private static final String VALID_COUNT = BANANA_MUFFIN.getCount().toString();
+    private static final String VALID_ID = Integer.toString(BANANA_MUFFIN.getId());
+    private static final String VALID_COUNT = Integer.toString(BANANA_MUFFIN.getCount());
     private static final List<JsonAdaptedTag> VALID_TAGS = BANANA_MUFFIN.getTags().stream()
             .map(JsonAdaptedTag::new)
             .collect(Collectors.toList());
-    private static final String VALID_COSTPRICE = BANANA_MUFFIN.getCostPrice().toString();
-    private static final String VALID_SALESPRICE = BANANA_MUFFIN.getSalesPrice().toString();
+    private static final String VALID_COSTPRICE = Double.toString(BANANA_MUFFIN.getCostPrice());
+    private static final String VALID_SALESPRICE = Double.toString(BANANA_MUFFIN.getSalesPrice());
 
     @Test
     public void toModelType_validItemDetails_returnsItem() throws Exception {
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.PathUtil.addToPath;
 import static seedu.address.testutil.TypicalItems.APPLE_PIE;
@@ -10,6 +11,7 @@ import static seedu.address.testutil.TypicalItems.ICE_CREAM;
 import static seedu.address.testutil.TypicalItems.getTypicalInventory;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.Inventory;
 import seedu.address.model.ReadOnlyInventory;
 
@@ -82,6 +85,46 @@ public class JsonInventoryStorageTest {
 
     }
 
+    @Test
+    public void saveInventory_compact_smallerFileReadBackSame() throws Exception {
+        Path prettyFilePath = testFolder.resolve("PrettyInventory.json");
+        Path compactFilePath = testFolder.resolve("CompactInventory.json");
+        Inventory original = getTypicalInventory();
+
+        new JsonInventoryStorage(prettyFilePath).saveInventory(original);
+        JsonInventoryStorage compactStorage = new JsonInventoryStorage(compactFilePath, true);
+        compactStorage.saveInventory(original);
+
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertEquals(original, new Inventory(compactStorage.readInventory().get()));
+    }
+
+    @Test
+    public void readInventory_damagedFile_previousVersionRead() throws Exception {
+        Path filePath = testFolder.resolve("TempInventory.json");
+        Inventory original = getTypicalInventory();
+        JsonInventoryStorage jsonInventoryStorage = new JsonInventoryStorage(filePath);
+        jsonInventoryStorage.saveInventory(original);
+        Inventory modified = new Inventory(original);
+        modified.addItem(HONEY_CAKE);
+        jsonInventoryStorage.saveInventory(modified);
+
+        // Damaged file -> previous version read
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+        assertEquals(original, new Inventory(jsonInventoryStorage.readInventory().get()));
+
+        // Missing file -> previous version read
+        Files.delete(filePath);
+        assertEquals(original, new Inventory(jsonInventoryStorage.readInventory().get()));
+
+        // Previous version also damaged -> exception thrown
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+        Files.writeString(FileUtil.getBackupPath(filePath), "not json");
+        assertThrows(DataConversionException.class, () -> jsonInventoryStorage.readInventory());
+    }
+
     @Test
     public void saveInventory_nullInventory_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInventory(null, "SomeFile.json"));
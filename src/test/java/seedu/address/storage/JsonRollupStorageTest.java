@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_TIME_BAGEL;
+import static seedu.address.testutil.TypicalTransactions.getTypicalTransactionList3;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.rollup.SalesRollup;
+
+public class JsonRollupStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getRollupFilePath_bookKeepingPath_siblingFile() {
+        assertEquals(Paths.get("data", "bookKeepingRollups.json"),
+                JsonRollupStorage.getRollupFilePath(Paths.get("data", "bookKeeping.json")));
+        assertEquals(Paths.get("data", "bookKeepingRollups.json"),
+                JsonRollupStorage.getRollupFilePath(Paths.get("data", "bookKeeping.bin")));
+    }
+
+    @Test
+    public void readRollup_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonRollupStorage(testFolder.resolve("rollups.json")).readRollup().isPresent());
+    }
+
+    @Test
+    public void readAndSaveRollup_allInOrder_success() throws Exception {
+        JsonRollupStorage storage = new JsonRollupStorage(testFolder.resolve("rollups.json"));
+        SalesRollup original = SalesRollup.of(getTypicalTransactionList3().getTransactionRecordList());
+        original.recordCost(TRANSACTION_TIME_BAGEL, 450);
+
+        storage.saveRollup(original);
+        assertEquals(original, storage.readRollup().get());
+
+        // Save again over the existing file
+        original.recordCost(TRANSACTION_TIME_BAGEL, 150);
+        storage.saveRollup(original);
+        assertEquals(original, storage.readRollup().get());
+    }
+
+    @Test
+    public void readRollup_duplicateDay_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("rollups.json");
+        String day = "{\"start\":\"2021-10-28\",\"revenue\":1.0,\"cost\":0.0,\"unitsSold\":1,\"items\":[]}";
+        Files.writeString(filePath, "{\"transactionCount\":1,\"days\":[" + day + "," + day + "]}");
+
+        assertThrows(DataConversionException.class, () -> new JsonRollupStorage(filePath).readRollup());
+    }
+
+    @Test
+    public void saveRollup_nullRollup_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonRollupStorage(testFolder.resolve("rollups.json"))
+                .saveRollup(null));
+    }
+}
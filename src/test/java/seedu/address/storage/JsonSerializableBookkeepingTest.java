@@ -1,13 +1,16 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalBookkeeping.getTypicalBookkeeping;
 
+import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.BookKeeping;
 
@@ -15,6 +18,7 @@ public class JsonSerializableBookkeepingTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableBookkeepingTest");
     private static final Path TYPICAL_BOOKKEEPING_FILE = TEST_DATA_FOLDER.resolve("typicalBookkeeping.json");
+    private static final Path DRIFTED_BOOKKEEPING_FILE = TEST_DATA_FOLDER.resolve("driftedBookkeeping.json");
 
     @Test
     public void toModelType_typicalBookkeeping_success() throws Exception {
@@ -25,4 +29,17 @@ public class JsonSerializableBookkeepingTest {
         assertEquals(bookKeepingFromFile, typicalBookkeeping);
     }
 
+    @Test
+    public void toModelType_totalsSavedAsDoubles_roundedToCents() throws Exception {
+        JsonSerializableBookKeeping dataFromFile = JsonUtil.readJsonFile(DRIFTED_BOOKKEEPING_FILE,
+                JsonSerializableBookKeeping.class).get();
+        assertEquals(getTypicalBookkeeping(), dataFromFile.toModelType());
+    }
+
+    @Test
+    public void toModelType_missingRevenue_throwsIllegalValueException() {
+        JsonSerializableBookKeeping bookKeeping = new JsonSerializableBookKeeping(null, BigDecimal.ONE);
+        assertThrows(IllegalValueException.class, bookKeeping::toModelType);
+    }
+
 }
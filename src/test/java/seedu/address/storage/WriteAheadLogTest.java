@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.APPLE_PIE;
+import static seedu.address.testutil.TypicalItems.BAGEL;
+import static seedu.address.testutil.TypicalItems.BANANA_MUFFIN;
+import static seedu.address.testutil.TypicalItems.CHOCOCHIP;
+import static seedu.address.testutil.TypicalItems.getTypicalInventory;
+import static seedu.address.testutil.TypicalOrders.getTypicalTransaction;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_TIME_BAGEL;
+import static seedu.address.testutil.TypicalTransactions.TRANSACTION_TIME_DONUT;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.BookKeeping;
+import seedu.address.model.Inventory;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.TransactionList;
+import seedu.address.model.rollup.Period;
+import seedu.address.model.rollup.RecordedCost;
+import seedu.address.model.rollup.SalesRollup;
+
+public class WriteAheadLogTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteAheadLog writeAheadLog;
+    private Inventory inventory;
+    private TransactionList transactions;
+    private BookKeeping bookKeeping;
+    private SalesRollup salesRollup;
+
+    @BeforeEach
+    public void setUp() {
+        writeAheadLog = new WriteAheadLog(testFolder.resolve("commands.wal"));
+        inventory = new Inventory();
+        inventory.setItems(Arrays.asList(APPLE_PIE, BANANA_MUFFIN));
+        transactions = new TransactionList();
+        bookKeeping = new BookKeeping();
+        salesRollup = new SalesRollup(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void recover_missingFile_returnsData() throws Exception {
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(inventory, transactions, bookKeeping, salesRollup);
+
+        assertSame(inventory, recovery.getInventory());
+        assertSame(transactions, recovery.getTransactions());
+        assertEquals(bookKeeping, recovery.getBookKeeping());
+        assertEquals(0, recovery.getReplayedCount());
+    }
+
+    @Test
+    public void recover_changesLoggedAfterCheckpoint_changesReplayed() throws Exception {
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+        writeAheadLog.append(new CommandRecord(List.of(ItemListChange.replacement(1, 1, List.of(BAGEL, CHOCOCHIP))),
+                false, List.of(getTypicalTransaction()), new BookKeeping(7.0, 3.0)));
+        writeAheadLog.append(new CommandRecord(List.of(ItemListChange.permutation(0, new int[] {2, 0, 1})),
+                false, List.of(), null));
+
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(inventory, transactions, bookKeeping, salesRollup);
+
+        assertEquals(Arrays.asList(BAGEL, CHOCOCHIP, APPLE_PIE), recovery.getInventory().getItemList());
+        assertEquals(List.of(getTypicalTransaction()), recovery.getTransactions().getTransactionRecordList());
+        assertEquals(new BookKeeping(7.0, 3.0), recovery.getBookKeeping());
+        assertEquals(2, recovery.getReplayedCount());
+    }
+
+    @Test
+    public void recover_dataSavedAfterCheckpoint_changesNotReplayedOntoIt() throws Exception {
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+        writeAheadLog.append(new CommandRecord(List.of(ItemListChange.replacement(2, 0, List.of(BAGEL))),
+                false, List.of(getTypicalTransaction()), null));
+
+        // The inventory was saved by an incomplete checkpoint, the transaction list was not
+        Inventory savedInventory = new Inventory();
+        savedInventory.setItems(Arrays.asList(APPLE_PIE, BANANA_MUFFIN, BAGEL));
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(savedInventory, transactions, bookKeeping,
+                salesRollup);
+
+        assertSame(savedInventory, recovery.getInventory());
+        assertEquals(List.of(getTypicalTransaction()), recovery.getTransactions().getTransactionRecordList());
+    }
+
+    @Test
+    public void recover_checkpointAfterChanges_nothingReplayed() throws Exception {
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+        writeAheadLog.append(new CommandRecord(List.of(ItemListChange.replacement(2, 0, List.of(BAGEL))),
+                false, List.of(), null));
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(inventory, transactions, bookKeeping, salesRollup);
+
+        assertEquals(Arrays.asList(APPLE_PIE, BANANA_MUFFIN), recovery.getInventory().getItemList());
+        assertEquals(0, recovery.getReplayedCount());
+    }
+
+    @Test
+    public void recover_costsLoggedAfterCheckpoint_costsRecordedInRollup() throws Exception {
+        salesRollup.recordCost(TRANSACTION_TIME_BAGEL, 100);
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+        writeAheadLog.append(new CommandRecord(List.of(), false, List.of(), null, false,
+                List.of(new RecordedCost(TRANSACTION_TIME_BAGEL, 250))));
+        writeAheadLog.append(new CommandRecord(List.of(), false, List.of(), null, true,
+                List.of(new RecordedCost(TRANSACTION_TIME_DONUT, 400))));
+
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(inventory, transactions, bookKeeping, salesRollup);
+
+        SalesRollup expected = new SalesRollup(ZoneOffset.UTC);
+        expected.recordCost(TRANSACTION_TIME_DONUT, 400);
+        assertEquals(expected.getTotals(Period.DAY), recovery.getSalesRollup().getTotals(Period.DAY));
+        // The rollup read from its file is left as it is
+        assertEquals(100, salesRollup.getTotals(Period.DAY).get(0).getCostCents());
+    }
+
+    @Test
+    public void recover_rollupSavedAfterCheckpoint_costsNotRecordedAgain() throws Exception {
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+        writeAheadLog.append(new CommandRecord(List.of(), false, List.of(), null, false,
+                List.of(new RecordedCost(TRANSACTION_TIME_BAGEL, 250))));
+
+        // The sales rollup was saved by an incomplete checkpoint
+        salesRollup.recordCost(TRANSACTION_TIME_BAGEL, 250);
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(inventory, transactions, bookKeeping, salesRollup);
+
+        assertSame(salesRollup, recovery.getSalesRollup());
+        assertEquals(250, recovery.getSalesRollup().getTotals(Period.DAY).get(0).getCostCents());
+    }
+
+    @Test
+    public void recover_headerWithoutRollupFingerprint_rollupNotReplayed() throws Exception {
+        Files.writeString(writeAheadLog.getFilePath(), WriteAheadLog.fingerprintOf(inventory) + " "
+                + WriteAheadLog.fingerprintOf(transactions) + "\n");
+        writeAheadLog.append(new CommandRecord(List.of(ItemListChange.replacement(2, 0, List.of(BAGEL))),
+                false, List.of(), null, false, List.of(new RecordedCost(TRANSACTION_TIME_BAGEL, 250))));
+
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(inventory, transactions, bookKeeping, salesRollup);
+
+        assertEquals(Arrays.asList(APPLE_PIE, BANANA_MUFFIN, BAGEL), recovery.getInventory().getItemList());
+        assertSame(salesRollup, recovery.getSalesRollup());
+    }
+
+    @Test
+    public void recover_incompleteLastLine_ignored() throws Exception {
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+        writeAheadLog.append(new CommandRecord(List.of(ItemListChange.replacement(2, 0, List.of(BAGEL))),
+                false, List.of(), null));
+        FileUtil.appendToFile(writeAheadLog.getFilePath(), "{\"inventoryChanges\":[{\"fr");
+
+        WriteAheadLog.Recovery recovery = writeAheadLog.recover(inventory, transactions, bookKeeping, salesRollup);
+
+        assertEquals(Arrays.asList(APPLE_PIE, BANANA_MUFFIN, BAGEL), recovery.getInventory().getItemList());
+        assertEquals(1, recovery.getReplayedCount());
+    }
+
+    @Test
+    public void recover_invalidHeader_throwsDataConversionException() throws Exception {
+        Files.writeString(writeAheadLog.getFilePath(), "not a header\n");
+
+        assertThrows(DataConversionException.class, () -> writeAheadLog.recover(inventory, transactions,
+                bookKeeping, salesRollup));
+    }
+
+    @Test
+    public void recover_changeOutOfBounds_throwsDataConversionException() throws Exception {
+        writeAheadLog.checkpoint(inventory, transactions, salesRollup);
+        writeAheadLog.append(new CommandRecord(List.of(ItemListChange.replacement(5, 1, List.of(BAGEL))),
+                false, List.of(), null));
+
+        assertThrows(DataConversionException.class, () -> writeAheadLog.recover(inventory, transactions,
+                bookKeeping, salesRollup));
+    }
+
+    @Test
+    public void fingerprintOf_inventoryReadBackFromFile_sameFingerprint() throws Exception {
+        Path filePath = testFolder.resolve("inventory.json");
+        JsonInventoryStorage inventoryStorage = new JsonInventoryStorage(filePath);
+        inventoryStorage.saveInventory(getTypicalInventory());
+        ReadOnlyInventory readBack = inventoryStorage.readInventory().get();
+
+        assertEquals(WriteAheadLog.fingerprintOf(getTypicalInventory()), WriteAheadLog.fingerprintOf(readBack));
+    }
+}